@@ -16,18 +16,18 @@
 
 package dagger.android;
 
-import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
 import static dagger.internal.Preconditions.checkNotNull;
 
 import android.app.Activity;
 import android.app.Fragment;
+import androidx.annotation.Nullable;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import dagger.internal.Beta;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
@@ -49,43 +49,54 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
       "No injector factory bound for Class<%1$s>. Injector factories were bound for supertypes "
           + "of %1$s: %2$s. Did you mean to bind an injector factory for the subtype?";
 
-  private final Map<String, Provider<AndroidInjector.Factory<?>>> injectorFactories;
+  /** Cached in place of a missing injector factory, so that misses are also only resolved once. */
+  private static final Provider<AndroidInjector.Factory<?>> NO_INJECTOR_FACTORY =
+      new Provider<AndroidInjector.Factory<?>>() {
+        @Override
+        public AndroidInjector.Factory<?> get() {
+          throw new AssertionError();
+        }
+      };
+
+  private final Map<Class<?>, Provider<AndroidInjector.Factory<?>>> injectorFactoriesWithClassKeys;
+  private final Map<String, Provider<AndroidInjector.Factory<?>>> injectorFactoriesWithStringKeys;
+
+  /**
+   * The injector factory (or {@link #NO_INJECTOR_FACTORY}) for each class that has been injected.
+   * {@link Class} uses identity equality, so hits avoid {@link Class#getName()} and string hashing.
+   */
+  private final ConcurrentMap<Class<?>, Provider<AndroidInjector.Factory<?>>>
+      resolvedInjectorFactories = new ConcurrentHashMap<>();
 
   @Inject
   DispatchingAndroidInjector(
       Map<Class<?>, Provider<AndroidInjector.Factory<?>>> injectorFactoriesWithClassKeys,
       Map<String, Provider<AndroidInjector.Factory<?>>> injectorFactoriesWithStringKeys) {
-    this.injectorFactories = merge(injectorFactoriesWithClassKeys, injectorFactoriesWithStringKeys);
+    this.injectorFactoriesWithClassKeys = injectorFactoriesWithClassKeys;
+    this.injectorFactoriesWithStringKeys = injectorFactoriesWithStringKeys;
   }
 
   /**
-   * Merges the two maps into one by transforming the values of the {@code classKeyedMap} with
-   * {@link Class#getName()}.
-   *
-   * <p>An SPI plugin verifies the logical uniqueness of the keysets of these two maps so we're
-   * assured there's no overlap.
+   * Returns the injector factory bound for exactly {@code clazz}, or {@code null} if there is none.
    *
-   * <p>Ideally we could achieve this with a generic {@code @Provides} method, but we'd need to have
-   * <i>N</i> modules that each extend one base module.
+   * <p>Class keys are checked before string keys. An SPI plugin verifies the logical uniqueness of
+   * the keysets of these two maps so we're assured there's no overlap.
    */
-  private static <C, V> Map<String, Provider<AndroidInjector.Factory<?>>> merge(
-      Map<Class<? extends C>, V> classKeyedMap, Map<String, V> stringKeyedMap) {
-    if (classKeyedMap.isEmpty()) {
-      @SuppressWarnings({"unchecked", "rawtypes"})
-      Map<String, Provider<AndroidInjector.Factory<?>>> safeCast = (Map) stringKeyedMap;
-      return safeCast;
-    }
-
-    Map<String, V> merged =
-        newLinkedHashMapWithExpectedSize(classKeyedMap.size() + stringKeyedMap.size());
-    merged.putAll(stringKeyedMap);
-    for (Entry<Class<? extends C>, V> entry : classKeyedMap.entrySet()) {
-      merged.put(entry.getKey().getName(), entry.getValue());
+  @Nullable
+  private Provider<AndroidInjector.Factory<?>> injectorFactoryFor(Class<?> clazz) {
+    Provider<AndroidInjector.Factory<?>> factoryProvider = resolvedInjectorFactories.get(clazz);
+    if (factoryProvider == null) {
+      factoryProvider = injectorFactoriesWithClassKeys.get(clazz);
+      if (factoryProvider == null && !injectorFactoriesWithStringKeys.isEmpty()) {
+        factoryProvider = injectorFactoriesWithStringKeys.get(clazz.getName());
+      }
+      if (factoryProvider == null) {
+        factoryProvider = NO_INJECTOR_FACTORY;
+      }
+      // Racing threads resolve the same provider, so it doesn't matter which one is cached.
+      resolvedInjectorFactories.put(clazz, factoryProvider);
     }
-
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    Map<String, Provider<AndroidInjector.Factory<?>>> safeCast = (Map) merged;
-    return Collections.unmodifiableMap(safeCast);
+    return factoryProvider == NO_INJECTOR_FACTORY ? null : factoryProvider;
   }
 
   /**
@@ -97,8 +108,7 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
    */
   @CanIgnoreReturnValue
   public boolean maybeInject(T instance) {
-    Provider<AndroidInjector.Factory<?>> factoryProvider =
-        injectorFactories.get(instance.getClass().getName());
+    Provider<AndroidInjector.Factory<?>> factoryProvider = injectorFactoryFor(instance.getClass());
     if (factoryProvider == null) {
       return false;
     }
@@ -153,7 +163,7 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
   private String errorMessageSuggestions(T instance) {
     List<String> suggestions = new ArrayList<>();
     for (Class<?> clazz = instance.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
-      if (injectorFactories.containsKey(clazz.getCanonicalName())) {
+      if (injectorFactoryFor(clazz) != null) {
         suggestions.add(clazz.getCanonicalName());
       }
     }
@@ -102,6 +102,42 @@ public final class DispatchingAndroidInjectorTest {
         () -> dispatchingAndroidInjector.maybeInject(activity));
   }
 
+  @Test
+  public void maybeInject_repeatedly() {
+    DispatchingAndroidInjector<Activity> dispatchingAndroidInjector =
+        newDispatchingAndroidInjector(
+            ImmutableMap.of(),
+            ImmutableMap.of(FooActivity.class.getName(), FooInjector.Factory::new));
+
+    FooActivity fooActivity = Robolectric.setupActivity(FooActivity.class);
+    BarActivity barActivity = Robolectric.setupActivity(BarActivity.class);
+    for (int i = 0; i < 3; i++) {
+      assertThat(dispatchingAndroidInjector.maybeInject(fooActivity)).isTrue();
+      assertThat(dispatchingAndroidInjector.maybeInject(barActivity)).isFalse();
+    }
+  }
+
+  @Test
+  public void inject_subclassOfBoundClass_throwsWithSuggestion() {
+    DispatchingAndroidInjector<Activity> dispatchingAndroidInjector =
+        newDispatchingAndroidInjector(
+            ImmutableMap.of(FooActivity.class, FooInjector.Factory::new), ImmutableMap.of());
+    FooSubclassActivity activity = Robolectric.setupActivity(FooSubclassActivity.class);
+
+    assertThat(dispatchingAndroidInjector.maybeInject(activity)).isFalse();
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> dispatchingAndroidInjector.inject(activity));
+    assertThat(exception)
+        .hasMessageThat()
+        .contains(
+            "supertypes of "
+                + FooSubclassActivity.class.getCanonicalName()
+                + ": ["
+                + FooActivity.class.getCanonicalName()
+                + "]");
+  }
+
   private static <T> DispatchingAndroidInjector<T> newDispatchingAndroidInjector(
       Map<Class<?>, Provider<Factory<?>>> injectorFactoriesWithClassKeys,
       Map<String, Provider<AndroidInjector.Factory<?>>>
@@ -112,6 +148,8 @@ public final class DispatchingAndroidInjectorTest {
 
   static class FooActivity extends Activity {}
 
+  static class FooSubclassActivity extends FooActivity {}
+
   static class BarActivity extends Activity {}
 
   static class FooInjector implements AndroidInjector<FooActivity> {
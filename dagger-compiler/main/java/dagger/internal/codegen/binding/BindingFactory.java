@@ -263,11 +263,16 @@ public final class BindingFactory {
         .bindingElement(method)
         .contributingModule(module)
         .key(keyFactory.forProducesMethod(method, module))
-        .executorRequest(dependencyRequestFactory.forProductionImplementationExecutor())
+        .executorRequest(dependencyRequestFactory.forProducesMethodExecutor(method))
         .monitorRequest(dependencyRequestFactory.forProductionComponentMonitor())
         .explicitDependencies(
-            dependencyRequestFactory.forRequiredResolvedVariables(
-                method.getParameters(), methodType.getParameterTypes()))
+            method.hasAnnotation(XTypeNames.BATCHED)
+                ? ImmutableSet.of(
+                    dependencyRequestFactory.forBatchedMethodKeys(
+                        getOnlyElement(method.getParameters()),
+                        getOnlyElement(methodType.getParameterTypes())))
+                : dependencyRequestFactory.forRequiredResolvedVariables(
+                    method.getParameters(), methodType.getParameterTypes()))
         .scope(injectionAnnotations.getScope(method))
         .unresolved(
             methodType.isSameType(method.getExecutableType())
@@ -35,11 +35,15 @@ import static dagger.internal.codegen.xprocessing.XTypes.isDeclared;
 import static dagger.internal.codegen.xprocessing.XTypes.isTypeOf;
 
 import androidx.room3.compiler.processing.XTypeElement;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.graph.EndpointPair;
+import com.google.common.graph.Graphs;
 import com.google.common.graph.ImmutableNetwork;
 import com.google.common.graph.MutableNetwork;
+import com.google.common.graph.Network;
 import com.google.common.graph.NetworkBuilder;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import dagger.internal.codegen.base.Keys;
@@ -48,9 +52,11 @@ import dagger.internal.codegen.base.SetType;
 import dagger.internal.codegen.base.TarjanSCCs;
 import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.model.BindingGraph.ComponentNode;
+import dagger.internal.codegen.model.BindingGraph.DependencyEdge;
 import dagger.internal.codegen.model.BindingGraph.Edge;
 import dagger.internal.codegen.model.BindingGraph.MissingBinding;
 import dagger.internal.codegen.model.BindingGraph.Node;
+import dagger.internal.codegen.model.BindingGraph.SubcomponentCreatorBindingEdge;
 import dagger.internal.codegen.model.BindingKind;
 import dagger.internal.codegen.model.ComponentPath;
 import dagger.internal.codegen.model.DaggerTypeElement;
@@ -67,6 +73,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.tools.Diagnostic;
@@ -112,6 +119,40 @@ public final class BindingGraphFactory {
         : createBindingGraph(componentDescriptor, createFullBindingGraph);
   }
 
+  /**
+   * Creates both the full binding graph for a component and the binding graph that includes only
+   * the bindings reachable from at least one entry point.
+   *
+   * <p>Resolving the full binding graph already resolves every reachable binding, so rather than
+   * resolving the component a second time the reachable binding graph is derived by pruning the
+   * full one. This is only done when the full resolution shows that pruning gives exactly the graph
+   * that {@link #create create(componentDescriptor, false)} would; otherwise (or when using the
+   * legacy factory) the reachable binding graph is resolved separately the first time it's
+   * requested.
+   */
+  public FullAndReachableBindingGraphs createFullAndReachable(
+      ComponentDescriptor componentDescriptor) {
+    if (useLegacyBindingGraphFactory(compilerOptions, componentDescriptor)) {
+      return new FullAndReachableBindingGraphs(
+          () -> legacyBindingGraphFactory.create(componentDescriptor, true),
+          () -> legacyBindingGraphFactory.create(componentDescriptor, false),
+          /* reachableBindingGraphDerived= */ false);
+    }
+
+    ReachableGraphRecorder reachableGraphRecorder = new ReachableGraphRecorder();
+    Resolver resolver = new Resolver(componentDescriptor, reachableGraphRecorder);
+    resolver.resolve(/* createFullBindingGraph= */ true);
+
+    Optional<MutableNetwork<Node, Edge>> reachableNetwork =
+        reachableGraphRecorder.reachableNetwork(resolver.network, resolver.componentNode);
+    return new FullAndReachableBindingGraphs(
+        () -> createBindingGraph(resolver.network, /* isFullBindingGraph= */ true),
+        reachableNetwork.isPresent()
+            ? () -> createBindingGraph(reachableNetwork.get(), /* isFullBindingGraph= */ false)
+            : () -> createBindingGraph(componentDescriptor, /* createFullBindingGraph= */ false),
+        reachableNetwork.isPresent());
+  }
+
   private BindingGraph createBindingGraph(
       ComponentDescriptor componentDescriptor, boolean createFullBindingGraph) {
     Resolver resolver = new Resolver(componentDescriptor);
@@ -121,11 +162,127 @@ public final class BindingGraphFactory {
     if (!createFullBindingGraph) {
       unreachableNodes(network.asGraph(), resolver.componentNode).forEach(network::removeNode);
     }
+    return createBindingGraph(network, createFullBindingGraph);
+  }
 
+  private static BindingGraph createBindingGraph(
+      MutableNetwork<Node, Edge> network, boolean isFullBindingGraph) {
     network = BindingGraphTransformations.withFixedBindingTypes(network);
     return BindingGraph.create(
         ImmutableNetwork.copyOf(network),
-        createFullBindingGraph);
+        isFullBindingGraph);
+  }
+
+  /**
+   * The full binding graph for a component along with the binding graph of only the bindings
+   * reachable from its entry points. Each graph is created the first time it's requested.
+   */
+  public static final class FullAndReachableBindingGraphs {
+    private final Supplier<BindingGraph> fullBindingGraph;
+    private final Supplier<BindingGraph> reachableBindingGraph;
+    private final boolean reachableBindingGraphDerived;
+
+    private FullAndReachableBindingGraphs(
+        Supplier<BindingGraph> fullBindingGraph,
+        Supplier<BindingGraph> reachableBindingGraph,
+        boolean reachableBindingGraphDerived) {
+      this.fullBindingGraph = Suppliers.memoize(fullBindingGraph::get);
+      this.reachableBindingGraph = Suppliers.memoize(reachableBindingGraph::get);
+      this.reachableBindingGraphDerived = reachableBindingGraphDerived;
+    }
+
+    /** Returns the binding graph that includes all bindings. */
+    public BindingGraph fullBindingGraph() {
+      return fullBindingGraph.get();
+    }
+
+    /** Returns the binding graph that includes only bindings reachable from an entry point. */
+    public BindingGraph reachableBindingGraph() {
+      return reachableBindingGraph.get();
+    }
+
+    /**
+     * Returns {@code true} if the reachable binding graph is derived from the full binding graph,
+     * or {@code false} if it's resolved separately.
+     */
+    public boolean isReachableBindingGraphDerived() {
+      return reachableBindingGraphDerived;
+    }
+  }
+
+  /**
+   * Records, while resolving a full binding graph, the nodes and edges that resolving only the
+   * reachable bindings would have added, in the order it would have added them.
+   *
+   * <p>A full resolution resolves the keys of every module binding after each component's entry
+   * points, and those extra resolutions can change how later, reachable, requests are resolved:
+   * e.g. a subcomponent reuses an unscoped binding its parent already resolved instead of owning
+   * its own copy. The resolver reports each such case to {@link #diverge()}, after which the
+   * reachable graph can no longer be derived from the full one.
+   */
+  private static final class ReachableGraphRecorder {
+    private final Set<Node> nodes = new LinkedHashSet<>();
+    private final Set<Edge> edges = new LinkedHashSet<>();
+    private boolean resolvingFullGraphOnlyKeys = false;
+    private boolean diverged = false;
+
+    /** Runs {@code resolution}, which resolves keys only the full binding graph needs. */
+    void resolveFullGraphOnlyKeys(Runnable resolution) {
+      boolean wasResolvingFullGraphOnlyKeys = resolvingFullGraphOnlyKeys;
+      resolvingFullGraphOnlyKeys = true;
+      resolution.run();
+      resolvingFullGraphOnlyKeys = wasResolvingFullGraphOnlyKeys;
+    }
+
+    void recordNode(Node node) {
+      nodes.add(node);
+    }
+
+    void recordEdge(Node source, Node target, Edge edge) {
+      nodes.add(source);
+      nodes.add(target);
+      edges.add(edge);
+    }
+
+    void diverge() {
+      diverged = true;
+    }
+
+    /**
+     * Returns the network of the nodes in {@code fullNetwork} reachable from {@code componentNode},
+     * in the order a reachable-only resolution would have added them, or {@link Optional#empty()}
+     * if that network can't be derived from the full one.
+     */
+    Optional<MutableNetwork<Node, Edge>> reachableNetwork(
+        Network<Node, Edge> fullNetwork, ComponentNode componentNode) {
+      if (diverged) {
+        return Optional.empty();
+      }
+      Set<Node> reachableNodes = Graphs.reachableNodes(fullNetwork.asGraph(), componentNode);
+      if (!nodes.containsAll(reachableNodes)) {
+        return Optional.empty();
+      }
+
+      MutableNetwork<Node, Edge> reachableNetwork = NetworkBuilder.from(fullNetwork).build();
+      for (Node node : nodes) {
+        if (reachableNodes.contains(node)) {
+          reachableNetwork.addNode(node);
+        }
+      }
+      for (Edge edge : edges) {
+        EndpointPair<Node> endpoints = fullNetwork.incidentNodes(edge);
+        if (reachableNodes.contains(endpoints.source())) {
+          reachableNetwork.addEdge(endpoints.source(), endpoints.target(), edge);
+        }
+      }
+
+      // As a sanity check, make sure no edge out of a reachable node was added only for the full
+      // binding graph.
+      int reachableEdgeCount = reachableNodes.stream().mapToInt(fullNetwork::outDegree).sum();
+      return reachableNetwork.edges().size() == reachableEdgeCount
+          ? Optional.of(reachableNetwork)
+          : Optional.empty();
+    }
   }
 
   private final class Resolver {
@@ -139,17 +296,31 @@ public final class BindingGraphFactory {
     final Map<Key, ResolvedBindings> resolvedMembersInjectionBindings = new LinkedHashMap<>();
     final RequiresResolutionChecker requiresResolutionChecker = new RequiresResolutionChecker();
     final Queue<ComponentDescriptor> subcomponentsToResolve = new ArrayDeque<>();
+    final Optional<ReachableGraphRecorder> reachableGraphRecorder;
+    // The following are only used when recording the reachable graph.
+    final Set<Key> fullGraphOnlyKeys = new HashSet<>();
+    final Set<ComponentDescriptor> queuedSubcomponents = new HashSet<>();
+    final Set<ComponentDescriptor> fullGraphOnlySubcomponents = new HashSet<>();
 
     Resolver(ComponentDescriptor componentDescriptor) {
-      this(Optional.empty(), componentDescriptor);
+      this(Optional.empty(), componentDescriptor, Optional.empty());
+    }
+
+    Resolver(
+        ComponentDescriptor componentDescriptor, ReachableGraphRecorder reachableGraphRecorder) {
+      this(Optional.empty(), componentDescriptor, Optional.of(reachableGraphRecorder));
     }
 
     Resolver(Resolver parentResolver, ComponentDescriptor componentDescriptor) {
-      this(Optional.of(parentResolver), componentDescriptor);
+      this(Optional.of(parentResolver), componentDescriptor, parentResolver.reachableGraphRecorder);
     }
 
-    private Resolver(Optional<Resolver> parentResolver, ComponentDescriptor componentDescriptor) {
+    private Resolver(
+        Optional<Resolver> parentResolver,
+        ComponentDescriptor componentDescriptor,
+        Optional<ReachableGraphRecorder> reachableGraphRecorder) {
       this.parentResolver = parentResolver;
+      this.reachableGraphRecorder = reachableGraphRecorder;
       this.componentDescriptor = checkNotNull(componentDescriptor);
       DaggerTypeElement componentType = DaggerTypeElement.from(componentDescriptor.typeElement());
       componentPath =
@@ -169,6 +340,7 @@ public final class BindingGraphFactory {
           componentDescriptor.childComponentsDeclaredByFactoryMethods().values());
       subcomponentsToResolve.addAll(
           componentDescriptor.childComponentsDeclaredByBuilderEntryPoints().values());
+      queuedSubcomponents.addAll(subcomponentsToResolve);
     }
 
     void resolve(boolean createFullBindingGraph) {
@@ -188,19 +360,21 @@ public final class BindingGraphFactory {
       if (createFullBindingGraph) {
         // Resolve the keys for all bindings in all modules, stripping any multibinding contribution
         // identifier so that the multibinding itself is resolved.
-        declarations.allDeclarations().stream()
-            // TODO(b/349155899): Consider resolving all declarations in full binding graph mode,
-            // not just those from modules.
-            .filter(declaration -> declaration.contributingModule().isPresent())
-            // @BindsOptionalOf bindings are keyed by the unwrapped type so wrap it in Optional to
-            // resolve the optional type instead.
-            .map(
-                declaration ->
-                    declaration instanceof OptionalBindingDeclaration
-                        ? keyFactory.optionalOf(declaration.key())
-                        : declaration.key())
-            .map(Key::withoutMultibindingContributionIdentifier)
-            .forEach(this::resolveContributionKey);
+        resolveFullGraphOnlyKeys(
+            () ->
+                declarations.allDeclarations().stream()
+                    // TODO(b/349155899): Consider resolving all declarations in full binding graph
+                    // mode, not just those from modules.
+                    .filter(declaration -> declaration.contributingModule().isPresent())
+                    // @BindsOptionalOf bindings are keyed by the unwrapped type so wrap it in
+                    // Optional to resolve the optional type instead.
+                    .map(
+                        declaration ->
+                            declaration instanceof OptionalBindingDeclaration
+                                ? keyFactory.optionalOf(declaration.key())
+                                : declaration.key())
+                    .map(Key::withoutMultibindingContributionIdentifier)
+                    .forEach(this::resolveContributionKey));
       }
 
       // Resolve all bindings for subcomponents, creating subgraphs for all subcomponents that have
@@ -213,11 +387,35 @@ public final class BindingGraphFactory {
         if (resolvedSubcomponents.add(subcomponent)) {
           Resolver subcomponentResolver = new Resolver(this, subcomponent);
           addChildFactoryMethodEdge(subcomponentResolver);
-          subcomponentResolver.resolve(createFullBindingGraph);
+          if (fullGraphOnlySubcomponents.contains(subcomponent)) {
+            resolveFullGraphOnlyKeys(() -> subcomponentResolver.resolve(createFullBindingGraph));
+          } else {
+            subcomponentResolver.resolve(createFullBindingGraph);
+          }
         }
       }
     }
 
+    /**
+     * Runs {@code resolution}, which resolves keys that are only needed by the full binding graph.
+     */
+    private void resolveFullGraphOnlyKeys(Runnable resolution) {
+      if (reachableGraphRecorder.isPresent()) {
+        reachableGraphRecorder.get().resolveFullGraphOnlyKeys(resolution);
+      } else {
+        resolution.run();
+      }
+    }
+
+    /**
+     * Returns {@code true} if the current resolution is one that resolving only the reachable
+     * bindings would also do, and should therefore be recorded.
+     */
+    private boolean isRecordingReachableGraph() {
+      return reachableGraphRecorder.isPresent()
+          && !reachableGraphRecorder.get().resolvingFullGraphOnlyKeys;
+    }
+
     /**
      * Returns the resolved contribution bindings for the given {@link Key}:
      *
@@ -375,8 +573,30 @@ public final class BindingGraphFactory {
 
       XTypeElement builderType =
           subcomponentCreatorBinding.key().type().xprocessing().getTypeElement();
-      owningResolver.subcomponentsToResolve.add(
-          owningResolver.componentDescriptor.getChildComponentWithBuilderType(builderType));
+      ComponentDescriptor subcomponent =
+          owningResolver.componentDescriptor.getChildComponentWithBuilderType(builderType);
+      owningResolver.subcomponentsToResolve.add(subcomponent);
+      owningResolver.recordQueuedSubcomponent(subcomponent);
+    }
+
+    /**
+     * Records whether {@code subcomponent} was first queued by a resolution that only the full
+     * binding graph needs, in which case it's resolved as such.
+     */
+    private void recordQueuedSubcomponent(ComponentDescriptor subcomponent) {
+      if (reachableGraphRecorder.isEmpty()) {
+        return;
+      }
+      boolean firstQueued = queuedSubcomponents.add(subcomponent);
+      if (!isRecordingReachableGraph()) {
+        if (firstQueued) {
+          fullGraphOnlySubcomponents.add(subcomponent);
+        }
+      } else if (fullGraphOnlySubcomponents.contains(subcomponent)) {
+        // Resolving only the reachable bindings would resolve the subcomponent later, and as part
+        // of the reachable graph.
+        reachableGraphRecorder.get().diverge();
+      }
     }
 
     private ImmutableSet<ContributionBinding> createDelegateBindings(
@@ -445,6 +665,7 @@ public final class BindingGraphFactory {
           ResolvedBindings resolvedBindings =
               requestResolver.resolvedContributionBindings.get(binding.key());
           if (resolvedBindings != null && resolvedBindings.bindings().contains(binding)) {
+            requestResolver.recordPreviouslyResolvedBindingsUsed(binding.key());
             return Optional.of(requestResolver);
           }
         }
@@ -555,9 +776,22 @@ public final class BindingGraphFactory {
       }
       // Check the parent's resolvedContributionBindings directly before calling
       // parentResolver.getPreviouslyResolvedBindings() otherwise the parent will skip itself.
-      return parentResolver.get().resolvedContributionBindings.containsKey(key)
-          ? Optional.of(parentResolver.get().resolvedContributionBindings.get(key))
-          : parentResolver.get().getPreviouslyResolvedBindings(key);
+      if (parentResolver.get().resolvedContributionBindings.containsKey(key)) {
+        parentResolver.get().recordPreviouslyResolvedBindingsUsed(key);
+        return Optional.of(parentResolver.get().resolvedContributionBindings.get(key));
+      }
+      return parentResolver.get().getPreviouslyResolvedBindings(key);
+    }
+
+    /**
+     * Records that a descendant's resolution depends on this resolver having resolved {@code key}.
+     * If only the full binding graph needed that, resolving only the reachable bindings could have
+     * resolved the descendant's request differently.
+     */
+    private void recordPreviouslyResolvedBindingsUsed(Key key) {
+      if (isRecordingReachableGraph() && fullGraphOnlyKeys.contains(key)) {
+        reachableGraphRecorder.get().diverge();
+      }
     }
 
     private ResolvedBindings resolveMembersInjectionKey(Key key) {
@@ -574,15 +808,74 @@ public final class BindingGraphFactory {
     @CanIgnoreReturnValue
     private ResolvedBindings resolveContributionKey(Key key) {
       if (resolvedContributionBindings.containsKey(key)) {
+        if (isRecordingReachableGraph() && fullGraphOnlyKeys.contains(key)) {
+          recordFullGraphOnlyResolution(key);
+        }
         return resolvedContributionBindings.get(key);
       }
       ResolvedBindings bindings = lookUpBindings(key);
       resolvedContributionBindings.put(key, bindings);
+      if (reachableGraphRecorder.isPresent() && !isRecordingReachableGraph()) {
+        fullGraphOnlyKeys.add(key);
+      }
       addNodes(bindings);
       resolveDependencies(bindings);
       return bindings;
     }
 
+    /**
+     * Records the nodes and edges for a key that was resolved only for the full binding graph but
+     * is now also requested by a reachable binding.
+     *
+     * <p>Looking up a key in the root component doesn't depend on what else has been resolved, so
+     * resolving only the reachable bindings would resolve it to the same bindings right now. This
+     * mirrors {@link #resolveContributionKey(Key)}, recording what it would add to the network. In
+     * a subcomponent, the lookup depends on what its ancestors had resolved at the time, so the
+     * reachable graph can't be derived.
+     */
+    private void recordFullGraphOnlyResolution(Key key) {
+      ReachableGraphRecorder recorder = reachableGraphRecorder.get();
+      if (parentResolver.isPresent()) {
+        recorder.diverge();
+        return;
+      }
+      fullGraphOnlyKeys.remove(key);
+      ResolvedBindings resolvedBindings = resolvedContributionBindings.get(key);
+      if (resolvedBindings.isEmpty()) {
+        recorder.recordNode(missingBinding(key));
+      }
+      for (BindingNode binding : resolvedBindings.bindingNodesOwnedBy(componentPath)) {
+        recorder.recordNode(binding);
+        if (binding.kind() == SUBCOMPONENT_CREATOR) {
+          recordQueuedSubcomponent(
+              componentDescriptor.getChildComponentWithBuilderType(
+                  binding.key().type().xprocessing().getTypeElement()));
+          for (Edge edge : network.outEdges(binding)) {
+            if (edge instanceof SubcomponentCreatorBindingEdge) {
+              recorder.recordEdge(binding, network.incidentNodes(edge).target(), edge);
+            }
+          }
+        }
+      }
+      for (BindingNode binding : resolvedBindings.bindingNodesOwnedBy(componentPath)) {
+        for (DependencyRequest request : binding.dependencies()) {
+          ResolvedBindings dependencies = resolveContributionKey(request.key());
+          ImmutableSet<? extends Node> dependencyNodes =
+              dependencies.isEmpty()
+                  ? ImmutableSet.of(missingBinding(request.key()))
+                  : dependencies.bindingNodes();
+          for (Node dependency : dependencyNodes) {
+            for (Edge edge : network.edgesConnecting(binding, dependency)) {
+              if (edge instanceof DependencyEdge
+                  && ((DependencyEdge) edge).dependencyRequest().equals(request)) {
+                recorder.recordEdge(binding, dependency, edge);
+              }
+            }
+          }
+        }
+      }
+    }
+
      /** Resolves each of the dependencies of the bindings owned by this component. */
     private void resolveDependencies(ResolvedBindings resolvedBindings) {
       for (BindingNode binding : resolvedBindings.bindingNodesOwnedBy(componentPath)) {
@@ -603,6 +896,9 @@ public final class BindingGraphFactory {
 
     private void addNode(Node node) {
       network.addNode(node);
+      if (isRecordingReachableGraph()) {
+        reachableGraphRecorder.get().recordNode(node);
+      }
       // Subcomponent creator bindings have an implicit edge to the subcomponent they create.
       if (node instanceof BindingNode && ((BindingNode) node).kind() == SUBCOMPONENT_CREATOR) {
         addSubcomponentEdge((BindingNode) node);
@@ -659,6 +955,9 @@ public final class BindingGraphFactory {
       network.addNode(source);
       network.addNode(target);
       network.addEdge(source, target, edge);
+      if (isRecordingReachableGraph()) {
+        reachableGraphRecorder.get().recordEdge(source, target, edge);
+      }
     }
 
     private MissingBinding missingBinding(Key key) {
@@ -129,6 +129,18 @@ public final class DependencyRequestFactory {
     return newDependencyRequest(variableElement, resolvedType, qualifier);
   }
 
+  /**
+   * Returns the request for the key of a {@link dagger.producers.Batched} method, which is the
+   * element type of its single {@code List} parameter.
+   */
+  DependencyRequest forBatchedMethodKeys(XVariableElement keysParameter, XType resolvedKeysType) {
+    checkNotNull(keysParameter);
+    checkNotNull(resolvedKeysType);
+    Optional<XAnnotation> qualifier = injectionAnnotations.getQualifier(keysParameter);
+    return newDependencyRequest(
+        keysParameter, requireInvariantType(unwrapType(resolvedKeysType)), qualifier);
+  }
+
   public DependencyRequest forComponentProvisionMethod(
       XMethodElement provisionMethod, XMethodType provisionMethodType) {
     checkNotNull(provisionMethod);
@@ -179,10 +191,10 @@ public final class DependencyRequestFactory {
         .build();
   }
 
-  DependencyRequest forProductionImplementationExecutor() {
+  DependencyRequest forProducesMethodExecutor(XMethodElement producesMethod) {
     return DependencyRequest.builder()
         .kind(PROVIDER)
-        .key(keyFactory.forProductionImplementationExecutor())
+        .key(keyFactory.forProducesMethodExecutor(producesMethod))
         .build();
   }
 
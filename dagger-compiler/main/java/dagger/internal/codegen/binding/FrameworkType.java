@@ -36,7 +36,8 @@ public enum FrameworkType {
     @Override
     public XCodeBlock to(
         RequestKind requestKind,
-        XCodeBlock from) {
+        XCodeBlock from,
+        XClassName memoizingClassName) {
       switch (requestKind) {
         case INSTANCE:
           return XCodeBlock.of("%L.get()", from);
@@ -44,14 +45,19 @@ public enum FrameworkType {
         case LAZY:
           return XCodeBlock.of(
               "%T.lazy(%L)",
-              XTypeNames.DOUBLE_CHECK,
+              memoizingClassName,
               from);
 
         case PROVIDER:
           return from;
 
         case PROVIDER_OF_LAZY:
-          return XCodeBlock.of("%T.create(%L)", XTypeNames.PROVIDER_OF_LAZY, from);
+          return XCodeBlock.of(
+              memoizingClassName.equals(XTypeNames.NON_PINNING_DOUBLE_CHECK)
+                  ? "%T.createNonPinning(%L)"
+                  : "%T.create(%L)",
+              XTypeNames.PROVIDER_OF_LAZY,
+              from);
 
         case PRODUCER:
           return XCodeBlock.of("%T.producerFromProvider(%L)", XTypeNames.PRODUCERS, from);
@@ -82,11 +88,13 @@ public enum FrameworkType {
     public XExpression to(
         RequestKind requestKind,
         XExpression from,
+        XClassName memoizingClassName,
         XProcessingEnv processingEnv) {
       XCodeBlock codeBlock =
           to(
               requestKind,
-              from.codeBlock());
+              from.codeBlock(),
+              memoizingClassName);
       switch (requestKind) {
         case INSTANCE:
           return XExpression.create(from.type().unwrapType(), codeBlock);
@@ -115,7 +123,8 @@ public enum FrameworkType {
     @Override
     public XCodeBlock to(
         RequestKind requestKind,
-        XCodeBlock from) {
+        XCodeBlock from,
+        XClassName memoizingClassName) {
       switch (requestKind) {
         case FUTURE:
           return XCodeBlock.of("%L.get()", from);
@@ -133,6 +142,7 @@ public enum FrameworkType {
     public XExpression to(
         RequestKind requestKind,
         XExpression from,
+        XClassName memoizingClassName,
         XProcessingEnv processingEnv) {
       switch (requestKind) {
         case FUTURE:
@@ -206,6 +216,23 @@ public enum FrameworkType {
     throw new AssertionError("Unknown value: " + this.name());
   }
 
+  /**
+   * Returns a {@link XCodeBlock} that evaluates to a requested object given an expression that
+   * evaluates to an instance of this framework type, memoizing {@code Lazy} instances with {@code
+   * DoubleCheck}.
+   *
+   * @param requestKind the kind of {@link DependencyRequest} that the returned expression can
+   *     satisfy
+   * @param from a {@link XCodeBlock} that evaluates to an instance of this framework type
+   * @throws IllegalArgumentException if a valid expression cannot be generated for {@code
+   *     requestKind}
+   */
+  public final XCodeBlock to(
+      RequestKind requestKind,
+      XCodeBlock from) {
+    return to(requestKind, from, XTypeNames.DOUBLE_CHECK);
+  }
+
   /**
    * Returns a {@link XCodeBlock} that evaluates to a requested object given an expression that
    * evaluates to an instance of this framework type.
@@ -213,12 +240,33 @@ public enum FrameworkType {
    * @param requestKind the kind of {@link DependencyRequest} that the returned expression can
    *     satisfy
    * @param from a {@link XCodeBlock} that evaluates to an instance of this framework type
+   * @param memoizingClassName the class that memoizes {@code Lazy} instances, either {@code
+   *     DoubleCheck} or {@code NonPinningDoubleCheck}
    * @throws IllegalArgumentException if a valid expression cannot be generated for {@code
    *     requestKind}
    */
   public abstract XCodeBlock to(
       RequestKind requestKind,
-      XCodeBlock from);
+      XCodeBlock from,
+      XClassName memoizingClassName);
+
+  /**
+   * Returns an {@link XExpression} that evaluates to a requested object given an expression that
+   * evaluates to an instance of this framework type, memoizing {@code Lazy} instances with {@code
+   * DoubleCheck}.
+   *
+   * @param requestKind the kind of {@link DependencyRequest} that the returned expression can
+   *     satisfy
+   * @param from an expression that evaluates to an instance of this framework type
+   * @throws IllegalArgumentException if a valid expression cannot be generated for {@code
+   *     requestKind}
+   */
+  public final XExpression to(
+      RequestKind requestKind,
+      XExpression from,
+      XProcessingEnv processingEnv) {
+    return to(requestKind, from, XTypeNames.DOUBLE_CHECK, processingEnv);
+  }
 
   /**
    * Returns an {@link XExpression} that evaluates to a requested object given an expression that
@@ -227,12 +275,15 @@ public enum FrameworkType {
    * @param requestKind the kind of {@link DependencyRequest} that the returned expression can
    *     satisfy
    * @param from an expression that evaluates to an instance of this framework type
+   * @param memoizingClassName the class that memoizes {@code Lazy} instances, either {@code
+   *     DoubleCheck} or {@code NonPinningDoubleCheck}
    * @throws IllegalArgumentException if a valid expression cannot be generated for {@code
    *     requestKind}
    */
   public abstract XExpression to(
       RequestKind requestKind,
       XExpression from,
+      XClassName memoizingClassName,
       XProcessingEnv processingEnv);
 
   @Override
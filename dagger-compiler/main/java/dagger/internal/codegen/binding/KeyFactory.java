@@ -24,8 +24,10 @@ import static dagger.internal.codegen.base.ProducerAnnotations.productionQualifi
 import static dagger.internal.codegen.base.RequestKinds.extractKeyType;
 import static dagger.internal.codegen.binding.MapKeys.getMapKey;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
+import static dagger.internal.codegen.xprocessing.XElements.closestEnclosingTypeElement;
 import static dagger.internal.codegen.xprocessing.XTypeNames.isFutureType;
 import static dagger.internal.codegen.xprocessing.XTypes.isDeclared;
+import static dagger.internal.codegen.xprocessing.XTypes.isList;
 import static dagger.internal.codegen.xprocessing.XTypes.requireInvariantType;
 import static dagger.internal.codegen.xprocessing.XTypes.unwrapType;
 
@@ -201,6 +203,10 @@ public final class KeyFactory {
           returnType = setOf(requireInvariantType(unwrapType(setType.elementType())));
         }
       }
+      // A @Batched method returns one value for each key, and binds the type of a single value.
+      if (method.hasAnnotation(XTypeNames.BATCHED) && isList(returnType)) {
+        returnType = requireInvariantType(unwrapType(returnType));
+      }
     }
     XType keyType = bindingMethodKeyType(returnType, method, contributionType, frameworkClassName);
     Key key = forMethod(method, keyType);
@@ -318,6 +324,26 @@ public final class KeyFactory {
         .build();
   }
 
+  /**
+   * Returns the key for the executor that {@code method} is called on: the executor named by the
+   * {@link dagger.producers.ProducesOn} annotation on the method or its module, or the production
+   * implementation executor if neither is annotated.
+   */
+  public Key forProducesMethodExecutor(XMethodElement method) {
+    Optional<XAnnotation> producesOn =
+        method.hasAnnotation(XTypeNames.PRODUCES_ON)
+            ? Optional.of(method.getAnnotation(XTypeNames.PRODUCES_ON))
+            : Optional.ofNullable(
+                closestEnclosingTypeElement(method).getAnnotation(XTypeNames.PRODUCES_ON));
+    return producesOn
+        .map(
+            annotation ->
+                Key.builder(DaggerType.from(processingEnv.requireType(XTypeNames.EXECUTOR)))
+                    .qualifier(DaggerAnnotation.from(annotation.getAsAnnotation("value")))
+                    .build())
+        .orElseGet(this::forProductionImplementationExecutor);
+  }
+
   public Key forProductionComponentMonitor() {
     return forType(processingEnv.requireType(XTypeNames.PRODUCTION_COMPONENT_MONITOR));
   }
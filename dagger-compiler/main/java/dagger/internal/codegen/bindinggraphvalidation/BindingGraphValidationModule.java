@@ -41,6 +41,7 @@ public interface BindingGraphValidationModule {
       MapMultibindingValidator mapMultibindingValidator,
       MissingBindingValidator missingBindingValidator,
       NullableBindingValidator nullableBindingValidator,
+      ProducesOnExecutorValidator producesOnExecutorValidator,
       ProvisionDependencyOnProducerBindingValidator provisionDependencyOnProducerBindingValidator,
       InvalidProductionBindingScopeValidator invalidProductionBindingScopeValidator,
       SetMultibindingValidator setMultibindingValidator,
@@ -55,6 +56,7 @@ public interface BindingGraphValidationModule {
             .add(mapMultibindingValidator)
             .add(missingBindingValidator)
             .add(nullableBindingValidator)
+            .add(producesOnExecutorValidator)
             .add(provisionDependencyOnProducerBindingValidator)
             .add(invalidProductionBindingScopeValidator)
             .add(setMultibindingValidator)
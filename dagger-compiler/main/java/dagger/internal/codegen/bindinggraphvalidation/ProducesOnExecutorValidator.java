@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.bindinggraphvalidation;
+
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static dagger.internal.codegen.extension.DaggerStreams.instancesOf;
+import static dagger.internal.codegen.model.BindingKind.PRODUCTION;
+import static dagger.internal.codegen.xprocessing.XElements.asMethod;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+import dagger.internal.codegen.binding.KeyFactory;
+import dagger.internal.codegen.model.Binding;
+import dagger.internal.codegen.model.BindingGraph;
+import dagger.internal.codegen.model.BindingGraph.DependencyEdge;
+import dagger.internal.codegen.model.BindingGraph.Node;
+import dagger.internal.codegen.model.DiagnosticReporter;
+import dagger.internal.codegen.model.Key;
+import dagger.internal.codegen.validation.ValidationBindingGraphPlugin;
+import java.util.HashSet;
+import java.util.Set;
+import javax.inject.Inject;
+
+/**
+ * Reports an error for each {@code @ProducesOn} executor that doesn't resolve to a single instance
+ * within its component.
+ *
+ * <p>Producers request their executor from a {@code Provider} each time they run, which is why the
+ * {@code @Production} executor is bound in {@code @ProductionScope}. An unscoped
+ * {@code @ProducesOn} executor would likewise be created again for every call of the method.
+ */
+final class ProducesOnExecutorValidator extends ValidationBindingGraphPlugin {
+  private final KeyFactory keyFactory;
+
+  @Inject
+  ProducesOnExecutorValidator(KeyFactory keyFactory) {
+    this.keyFactory = keyFactory;
+  }
+
+  @Override
+  public String pluginName() {
+    return "Dagger/ProducesOnExecutor";
+  }
+
+  @Override
+  public void visitGraph(BindingGraph bindingGraph, DiagnosticReporter diagnosticReporter) {
+    for (Binding binding : bindingGraph.bindings()) {
+      if (!binding.kind().equals(PRODUCTION)) {
+        continue;
+      }
+      Key executorKey =
+          keyFactory.forProducesMethodExecutor(
+              asMethod(binding.bindingElement().get().xprocessing()));
+      if (executorKey.equals(keyFactory.forProductionImplementationExecutor())) {
+        continue;
+      }
+      bindingGraph.network().outEdges(binding).stream()
+          .flatMap(instancesOf(DependencyEdge.class))
+          // The method may also request the same executor as a parameter, which may be unscoped.
+          .filter(edge -> edge.dependencyRequest().key().equals(executorKey))
+          .filter(edge -> !edge.dependencyRequest().requestElement().isPresent())
+          .filter(
+              edge ->
+                  !isSingleInstance(
+                      bindingGraph.network().incidentNodes(edge).target(), bindingGraph))
+          .forEach(
+              edge ->
+                  diagnosticReporter.reportDependency(
+                      ERROR, edge, errorMessage(executorKey, binding)));
+    }
+  }
+
+  /**
+   * Returns {@code true} unless {@code node}, after following any {@code @Binds} delegates, is an
+   * unscoped {@code @Inject} or {@code @Provides} binding.
+   */
+  private static boolean isSingleInstance(Node node, BindingGraph bindingGraph) {
+    Set<Node> visited = new HashSet<>();
+    while (node instanceof Binding && visited.add(node)) {
+      Binding binding = (Binding) node;
+      if (binding.scope().isPresent()) {
+        return true;
+      }
+      switch (binding.kind()) {
+        case INJECTION:
+        case PROVISION:
+          return false;
+        case DELEGATE:
+          // Delegate cycles are reported by DependencyCycleValidator.
+          node = getOnlyElement(bindingGraph.requestedBindings(binding), binding);
+          break;
+        default:
+          return true;
+      }
+    }
+    return true;
+  }
+
+  private static String errorMessage(Key executorKey, Binding binding) {
+    return String.format(
+        "%s is the @ProducesOn executor for %s, so it must be scoped, bound with @BindsInstance or "
+            + "provided by a component dependency in order for a single executor to be used "
+            + "within the component.",
+        executorKey, binding);
+  }
+}
@@ -33,10 +33,50 @@ public abstract class CompilerOptions {
    */
   public abstract boolean fastInit(XTypeElement element);
 
+  /**
+   * Returns true if the {@code nonPinningScopedProviders} flag is enabled for the component.
+   *
+   * <p>If enabled, scoped bindings and the {@code Lazy} instances that the generated component
+   * creates, including those for {@code Provider<Lazy<T>>} and {@code Optional<Lazy<T>>} requests
+   * and the values of {@code Map<K, Lazy<V>>} and {@code Map<K, Provider<Lazy<V>>>}, are memoized
+   * with {@code dagger.internal.NonPinningDoubleCheck} instead of {@code
+   * dagger.internal.DoubleCheck}. Its initialization waits on a {@link
+   * java.util.concurrent.locks.ReentrantLock} instead of a {@code synchronized} block, so threads
+   * racing to initialize a scoped binding do not pin their carrier thread when running on virtual
+   * threads.
+   *
+   * <p>{@code Lazy} instances created inside generated factories and members injectors are shared
+   * across components and still use {@code dagger.internal.DoubleCheck}.
+   */
+  public abstract boolean nonPinningScopedProviders(XTypeElement component);
+
+  /**
+   * Returns true if the {@code unwrapDelegateFactories} flag is enabled for the component.
+   *
+   * <p>If enabled, once a {@code dagger.internal.DelegateFactory} used to break a dependency cycle
+   * has its delegate set, the component field that held it is reassigned to the delegate. Uses of
+   * the field after that point call the delegate directly; only the providers created within the
+   * cycle keep going through the {@code DelegateFactory}.
+   */
+  public abstract boolean unwrapDelegateFactories(XTypeElement component);
+
   public abstract boolean formatGeneratedSource();
 
   public abstract boolean writeProducerNameInToken();
 
+  /**
+   * Returns true if the {@code interruptibleProducers} flag is enabled.
+   *
+   * <p>If enabled, cancelling a production with {@code mayInterruptIfRunning} set interrupts the
+   * threads running its {@code @Produces} methods.
+   *
+   * <p>The flag has no effect on {@code @Batched} and {@code @Cached} producers: a single call to
+   * their method is shared by several requests, so it is never interrupted when one of those
+   * requests is cancelled. Methods that {@code @RunsInline} on the requesting thread are never
+   * interrupted either.
+   */
+  public abstract boolean interruptibleProducers();
+
   public abstract Diagnostic.Kind nullableValidationKind();
 
   public final boolean doCheckForNulls() {
@@ -31,11 +31,14 @@ import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompil
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.GENERATED_CLASS_EXTENDS_COMPONENT;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.IGNORE_PROVISION_KEY_WILDCARDS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.INCLUDE_STACKTRACE_WITH_DEFERRED_ERROR_MESSAGES;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.INTERRUPTIBLE_PRODUCERS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.MAP_MULTIBINDING_DUPLICATE_DETECTION_FIX;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.NON_PINNING_SCOPED_PROVIDERS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.NULLABLE_TYPE_ANNOTATIONS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PLUGINS_VISIT_FULL_BINDING_GRAPHS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.STRICT_MULTIBINDING_VALIDATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.STRICT_SUPERFICIAL_VALIDATION;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.UNWRAP_DELEGATE_FACTORIES;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.USE_BINDING_GRAPH_FIX;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.USE_FRAMEWORK_TYPE_IN_MAP_MULTIBINDING_CONTRIBUTION_KEY;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES;
@@ -112,6 +115,16 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     return isEnabled(FAST_INIT);
   }
 
+  @Override
+  public boolean nonPinningScopedProviders(XTypeElement component) {
+    return isEnabled(NON_PINNING_SCOPED_PROVIDERS);
+  }
+
+  @Override
+  public boolean unwrapDelegateFactories(XTypeElement component) {
+    return isEnabled(UNWRAP_DELEGATE_FACTORIES);
+  }
+
   @Override
   public boolean formatGeneratedSource() {
     return isEnabled(FORMAT_GENERATED_SOURCE);
@@ -122,6 +135,11 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     return isEnabled(WRITE_PRODUCER_NAME_IN_TOKEN);
   }
 
+  @Override
+  public boolean interruptibleProducers() {
+    return isEnabled(INTERRUPTIBLE_PRODUCERS);
+  }
+
   @Override
   public Diagnostic.Kind nullableValidationKind() {
     return diagnosticKind(NULLABLE_VALIDATION);
@@ -333,6 +351,8 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
 
     WRITE_PRODUCER_NAME_IN_TOKEN,
 
+    INTERRUPTIBLE_PRODUCERS,
+
     WARN_IF_INJECTION_FACTORY_NOT_GENERATED_UPSTREAM,
 
     INCLUDE_STACKTRACE_WITH_DEFERRED_ERROR_MESSAGES,
@@ -365,7 +385,11 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
 
     MAP_MULTIBINDING_DUPLICATE_DETECTION_FIX(ENABLED),
 
-    NULLABLE_TYPE_ANNOTATIONS;
+    NULLABLE_TYPE_ANNOTATIONS,
+
+    NON_PINNING_SCOPED_PROVIDERS,
+
+    UNWRAP_DELEGATE_FACTORIES;
 
     final FeatureStatus defaultValue;
 
@@ -36,6 +36,16 @@ final class JavacPluginCompilerOptions extends CompilerOptions {
     return false;
   }
 
+  @Override
+  public boolean nonPinningScopedProviders(XTypeElement component) {
+    return false;
+  }
+
+  @Override
+  public boolean unwrapDelegateFactories(XTypeElement component) {
+    return false;
+  }
+
   @Override
   public boolean formatGeneratedSource() {
     return false;
@@ -46,6 +56,11 @@ final class JavacPluginCompilerOptions extends CompilerOptions {
     return true;
   }
 
+  @Override
+  public boolean interruptibleProducers() {
+    return false;
+  }
+
   @Override
   public Diagnostic.Kind nullableValidationKind() {
     return NOTE;
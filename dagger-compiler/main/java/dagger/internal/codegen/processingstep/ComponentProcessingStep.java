@@ -32,6 +32,7 @@ import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.base.ValidationReport;
 import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.binding.BindingGraphFactory;
+import dagger.internal.codegen.binding.BindingGraphFactory.FullAndReachableBindingGraphs;
 import dagger.internal.codegen.binding.ComponentDescriptor;
 import dagger.internal.codegen.validation.BindingGraphValidator;
 import dagger.internal.codegen.validation.ComponentCreatorValidator;
@@ -104,16 +105,25 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
       return;
     }
 
-    Supplier<dagger.internal.codegen.model.BindingGraph> fullBindingGraphSupplier =
-        Suppliers.memoize(
-            () -> bindingGraphFactory.create(componentDescriptor, true).topLevelBindingGraph());
+    Supplier<dagger.internal.codegen.model.BindingGraph> fullBindingGraphSupplier;
+    BindingGraph bindingGraph;
     if (bindingGraphValidator.shouldDoFullBindingGraphValidation(component)) {
+      // Resolve the component once and, when possible, derive the reachable binding graph from the
+      // full one rather than resolving the component again.
+      FullAndReachableBindingGraphs bindingGraphs =
+          bindingGraphFactory.createFullAndReachable(componentDescriptor);
+      fullBindingGraphSupplier = () -> bindingGraphs.fullBindingGraph().topLevelBindingGraph();
       if (!bindingGraphValidator.isValid(fullBindingGraphSupplier.get())) {
         return;
       }
+      bindingGraph = bindingGraphs.reachableBindingGraph();
+    } else {
+      fullBindingGraphSupplier =
+          Suppliers.memoize(
+              () -> bindingGraphFactory.create(componentDescriptor, true).topLevelBindingGraph());
+      bindingGraph = bindingGraphFactory.create(componentDescriptor, false);
     }
 
-    BindingGraph bindingGraph = bindingGraphFactory.create(componentDescriptor, false);
     if (bindingGraphValidator.isValid(
         bindingGraph.topLevelBindingGraph(), fullBindingGraphSupplier)) {
       generateComponent(bindingGraph);
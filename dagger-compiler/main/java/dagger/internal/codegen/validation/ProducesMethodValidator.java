@@ -17,20 +17,28 @@
 package dagger.internal.codegen.validation;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static dagger.internal.codegen.base.RequestKinds.getRequestKind;
 import static dagger.internal.codegen.validation.BindingElementValidator.AllowsMultibindings.ALLOWS_MULTIBINDINGS;
 import static dagger.internal.codegen.validation.BindingElementValidator.AllowsScoping.NO_SCOPING;
 import static dagger.internal.codegen.validation.BindingMethodValidator.Abstractness.MUST_BE_CONCRETE;
 import static dagger.internal.codegen.validation.BindingMethodValidator.ExceptionSuperclass.EXCEPTION;
+import static dagger.internal.codegen.xprocessing.XElements.closestEnclosingTypeElement;
 import static dagger.internal.codegen.xprocessing.XTypes.isEffectivelyWildcard;
+import static dagger.internal.codegen.xprocessing.XTypes.isList;
 import static dagger.internal.codegen.xprocessing.XTypes.isTypeOf;
 import static dagger.internal.codegen.xprocessing.XTypes.requireInvariantType;
 
+import androidx.room3.compiler.processing.XAnnotation;
 import androidx.room3.compiler.processing.XMethodElement;
 import androidx.room3.compiler.processing.XProcessingEnv;
 import androidx.room3.compiler.processing.XType;
 import androidx.room3.compiler.processing.XTypeArgument;
+import androidx.room3.compiler.processing.XTypeElement;
+import androidx.room3.compiler.processing.XVariableElement;
 import com.google.common.util.concurrent.ListenableFuture;
+import dagger.internal.codegen.base.ContributionType;
 import dagger.internal.codegen.binding.InjectionAnnotations;
+import dagger.internal.codegen.model.RequestKind;
 import dagger.internal.codegen.xprocessing.Nullability;
 import dagger.internal.codegen.xprocessing.XTypeNames;
 import dagger.internal.codegen.xprocessing.XTypes;
@@ -85,6 +93,9 @@ final class ProducesMethodValidator extends BindingMethodValidator {
     @Override
     protected void checkAdditionalMethodProperties() {
       checkNullable();
+      checkBatched();
+      checkCached();
+      checkDeadline();
     }
 
     /**
@@ -98,14 +109,140 @@ final class ProducesMethodValidator extends BindingMethodValidator {
       }
     }
 
+    /**
+     * Adds errors if a {@link dagger.producers.Batched @Batched} method can't be called with a
+     * batch of keys from many components.
+     */
+    private void checkBatched() {
+      if (!method.hasAnnotation(XTypeNames.BATCHED)) {
+        return;
+      }
+      if (!ContributionType.fromBindingElement(method).equals(ContributionType.UNIQUE)) {
+        report.addError("@Batched methods cannot contribute to multibindings");
+      }
+      if (!isStaticOrInKotlinObject()) {
+        report.addError("@Batched methods must be static");
+      }
+      if (method.getParameters().size() != 1
+          || !isBatchedKeysType(getOnlyElement(method.getParameters()).getType())) {
+        report.addError(
+            "@Batched methods must have a single List parameter whose element type is not a "
+                + "framework type");
+      }
+      XAnnotation batched = method.getAnnotation(XTypeNames.BATCHED);
+      if (batched.getAsInt("maxBatchSize") < 1) {
+        report.addError("@Batched maxBatchSize must be positive");
+      }
+      if (batched.getAsLong("maxDelayMillis") < 0) {
+        report.addError("@Batched maxDelayMillis must not be negative");
+      }
+    }
+
+    /**
+     * Adds errors if the results of a {@link dagger.producers.Cached @Cached} method can't be
+     * shared by every component that calls it with the same inputs.
+     */
+    private void checkCached() {
+      if (!method.hasAnnotation(XTypeNames.CACHED)) {
+        return;
+      }
+      if (method.hasAnnotation(XTypeNames.BATCHED)) {
+        report.addError("@Cached methods cannot be @Batched");
+      }
+      if (!isStaticOrInKotlinObject()) {
+        report.addError("@Cached methods must be static");
+      }
+      for (XVariableElement parameter : method.getParameters()) {
+        RequestKind kind = getRequestKind(parameter.getType());
+        if (!kind.equals(RequestKind.INSTANCE) && !kind.equals(RequestKind.PRODUCED)) {
+          report.addError(
+              "@Cached methods can only depend on values or Produced values, which are used as "
+                  + "the key in the cache",
+              parameter);
+        }
+      }
+      XAnnotation cached = method.getAnnotation(XTypeNames.CACHED);
+      if (cached.getAsInt("maxSize") < 1) {
+        report.addError("@Cached maxSize must be positive");
+      }
+      if (cached.getAsLong("ttlMillis") < 0) {
+        report.addError("@Cached ttlMillis must not be negative");
+      }
+    }
+
+    /**
+     * Adds errors if a {@link dagger.producers.Timeout @Timeout} or {@link dagger.producers.Hedged
+     * @Hedged} method has an invalid policy or is combined with batching or caching.
+     */
+    private void checkDeadline() {
+      boolean hasTimeout = method.hasAnnotation(XTypeNames.TIMEOUT);
+      boolean hasHedged = method.hasAnnotation(XTypeNames.HEDGED);
+      if (!hasTimeout && !hasHedged) {
+        return;
+      }
+      if (method.hasAnnotation(XTypeNames.BATCHED) || method.hasAnnotation(XTypeNames.CACHED)) {
+        report.addError("@Timeout and @Hedged methods cannot be @Batched or @Cached");
+      }
+      if (hasTimeout && method.getAnnotation(XTypeNames.TIMEOUT).getAsLong("millis") < 1) {
+        report.addError("@Timeout millis must be positive");
+      }
+      if (hasHedged) {
+        XAnnotation hedged = method.getAnnotation(XTypeNames.HEDGED);
+        double percentile = hedged.getAsDouble("percentile");
+        if (!(percentile > 0 && percentile < 100)) {
+          report.addError("@Hedged percentile must be between 0 and 100, exclusive");
+        }
+        if (hedged.getAsLong("minDelayMillis") < 0) {
+          report.addError("@Hedged minDelayMillis must not be negative");
+        }
+      }
+    }
+
+    private boolean isStaticOrInKotlinObject() {
+      XTypeElement enclosingElement = closestEnclosingTypeElement(method);
+      return method.isStatic()
+          || enclosingElement.isKotlinObject()
+          || enclosingElement.isCompanionObject();
+    }
+
+    private boolean isBatchedKeysType(XType type) {
+      if (!isList(type) || XTypes.isRawParameterizedType(type)) {
+        return false;
+      }
+      XTypeArgument typeArgument = getOnlyElement(type.getTypeArguments());
+      return !isEffectivelyWildcard(typeArgument)
+          && getRequestKind(requireInvariantType(typeArgument)).equals(RequestKind.INSTANCE);
+    }
+
     /**
      * {@inheritDoc}
      *
-     * <p>Allows {@code keyType} to be a {@link ListenableFuture} of an otherwise-valid key type.
+     * <p>Allows {@code keyType} to be a {@link ListenableFuture} of an otherwise-valid key type,
+     * and a {@link dagger.producers.Batched @Batched} method to return a {@code List} of them.
      */
     @Override
     protected void checkKeyType(XType keyType) {
-      unwrapListenableFuture(keyType).ifPresent(super::checkKeyType);
+      unwrapListenableFuture(keyType)
+          .flatMap(this::unwrapBatchedValues)
+          .ifPresent(super::checkKeyType);
+    }
+
+    private Optional<XType> unwrapBatchedValues(XType type) {
+      if (!method.hasAnnotation(XTypeNames.BATCHED)) {
+        return Optional.of(type);
+      }
+      if (!isList(type) || XTypes.isRawParameterizedType(type)) {
+        report.addError(
+            "@Batched methods must return a List, or a ListenableFuture of a List, with one value "
+                + "for each key");
+        return Optional.empty();
+      }
+      XTypeArgument typeArgument = getOnlyElement(type.getTypeArguments());
+      if (isEffectivelyWildcard(typeArgument)) {
+        report.addError(badTypeMessage());
+        return Optional.empty();
+      }
+      return Optional.of(requireInvariantType(typeArgument));
     }
 
     /**
@@ -16,25 +16,51 @@
 
 package dagger.internal.codegen.writing;
 
+import androidx.room3.compiler.codegen.XClassName;
 import androidx.room3.compiler.codegen.XCodeBlock;
 import dagger.internal.codegen.binding.Binding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.writing.FrameworkFieldInitializer.FrameworkInstanceCreationExpression;
 import dagger.internal.codegen.xprocessing.XTypeNames;
 import javax.inject.Inject;
 
 /** Holds common methods for BindingRepresentations. */
 final class BindingRepresentations {
+  private final ComponentImplementation componentImplementation;
+  private final CompilerOptions compilerOptions;
 
-  @Inject BindingRepresentations() {}
+  @Inject
+  BindingRepresentations(
+      ComponentImplementation componentImplementation, CompilerOptions compilerOptions) {
+    this.componentImplementation = componentImplementation;
+    this.compilerOptions = compilerOptions;
+  }
 
   FrameworkInstanceCreationExpression scope(
       Binding binding, FrameworkInstanceCreationExpression unscoped) {
     return () ->
-        XCodeBlock.of(
-            "%T.provider(%L)",
-            binding.scope().get().isReusable()
-                ? XTypeNames.SINGLE_CHECK
-                : XTypeNames.DOUBLE_CHECK,
-            unscoped.creationExpression());
+        XCodeBlock.of("%T.provider(%L)", scopingClassName(binding), unscoped.creationExpression());
+  }
+
+  /** Returns the class used to memoize the provider of the given scoped binding. */
+  XClassName scopingClassName(Binding binding) {
+    if (binding.scope().get().isReusable()) {
+      return XTypeNames.SINGLE_CHECK;
+    }
+    return memoizingClassName();
+  }
+
+  /**
+   * Returns the class used to memoize non-reusable scoped bindings and {@link dagger.Lazy}
+   * requests in this component.
+   */
+  XClassName memoizingClassName() {
+    return compilerOptions.nonPinningScopedProviders(
+            componentImplementation
+                .rootComponentImplementation()
+                .componentDescriptor()
+                .typeElement())
+        ? XTypeNames.NON_PINNING_DOUBLE_CHECK
+        : XTypeNames.DOUBLE_CHECK;
   }
 }
@@ -43,6 +43,7 @@ final class DerivedFromFrameworkInstanceRequestRepresentation extends RequestRep
   private final FrameworkType frameworkType;
   private final XProcessingEnv processingEnv;
   private final BindsTypeChecker bindsTypeChecker;
+  private final BindingRepresentations bindingRepresentations;
 
   @AssistedInject
   DerivedFromFrameworkInstanceRequestRepresentation(
@@ -51,13 +52,15 @@ final class DerivedFromFrameworkInstanceRequestRepresentation extends RequestRep
       @Assisted RequestKind requestKind,
       @Assisted FrameworkType frameworkType,
       XProcessingEnv processingEnv,
-      BindsTypeChecker bindsTypeChecker) {
+      BindsTypeChecker bindsTypeChecker,
+      BindingRepresentations bindingRepresentations) {
     this.binding = binding;
     this.frameworkRequestRepresentation = checkNotNull(frameworkRequestRepresentation);
     this.requestKind = requestKind;
     this.frameworkType = checkNotNull(frameworkType);
     this.processingEnv = processingEnv;
     this.bindsTypeChecker = bindsTypeChecker;
+    this.bindingRepresentations = bindingRepresentations;
   }
 
   @Override
@@ -82,6 +85,7 @@ final class DerivedFromFrameworkInstanceRequestRepresentation extends RequestRep
         frameworkType.to(
             requestKind,
             frameworkExpression,
+            bindingRepresentations.memoizingClassName(),
             processingEnv);
 
     // If it is a map type we need to do a raw type cast. This is because a user requested field
@@ -76,6 +76,7 @@ class FrameworkFieldInitializer implements FrameworkInstanceSupplier {
   private final ShardImplementation shardImplementation;
   private final ContributionBinding binding;
   private final FrameworkInstanceCreationExpression frameworkInstanceCreationExpression;
+  private final boolean unwrapDelegateFactories;
   private XPropertySpec propertySpec;
   private InitializationState fieldInitializationState = InitializationState.UNINITIALIZED;
 
@@ -88,6 +89,12 @@ class FrameworkFieldInitializer implements FrameworkInstanceSupplier {
     this.binding = checkNotNull(binding);
     this.shardImplementation = checkNotNull(componentImplementation).shardImplementation(binding);
     this.frameworkInstanceCreationExpression = checkNotNull(frameworkInstanceCreationExpression);
+    this.unwrapDelegateFactories =
+        compilerOptions.unwrapDelegateFactories(
+            componentImplementation
+                .rootComponentImplementation()
+                .componentDescriptor()
+                .typeElement());
   }
 
   /**
@@ -115,7 +122,14 @@ class FrameworkFieldInitializer implements FrameworkInstanceSupplier {
         if (fieldInitializationState == InitializationState.DELEGATED) {
           XCodeBlock delegateFactory = XCodeBlock.of("%N", propertySpec);
           XCodeBlock delegate = fieldInitialization;
-          codeBuilder.add("%T.setDelegate(%L, %L);", delegateType(), delegateFactory, delegate);
+          if (unwrapDelegateFactories && isProvider()) {
+            // Replace the DelegateFactory in the field so that later uses skip its indirection.
+            codeBuilder.add(
+                "this.%N = %T.setDelegateAndUnwrap(%L, %L);",
+                propertySpec, delegateType(), delegateFactory, delegate);
+          } else {
+            codeBuilder.add("%T.setDelegate(%L, %L);", delegateType(), delegateFactory, delegate);
+          }
         } else {
           codeBuilder.add(initCode);
         }
@@ -23,6 +23,7 @@ import static dagger.internal.codegen.binding.SourceFiles.mapFactoryClassName;
 import static dagger.internal.codegen.writing.ComponentImplementation.MethodSpecKind.INITIALIZE_HELPER_METHOD;
 import static dagger.internal.codegen.xprocessing.XCodeBlocks.parameterNames;
 import static dagger.internal.codegen.xprocessing.XFunSpecs.methodBuilder;
+import static dagger.internal.codegen.xprocessing.XTypes.isTypeOf;
 import static javax.lang.model.element.Modifier.PRIVATE;
 
 import androidx.room3.compiler.codegen.XClassName;
@@ -46,6 +47,7 @@ import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.model.DependencyRequest;
 import dagger.internal.codegen.writing.ComponentImplementation.ShardImplementation;
 import dagger.internal.codegen.xprocessing.XTypeNames;
+import java.util.Optional;
 
 /** A factory creation expression for a multibound map. */
 final class MapFactoryCreationExpression extends MultibindingFactoryCreationExpression {
@@ -55,8 +57,10 @@ final class MapFactoryCreationExpression extends MultibindingFactoryCreationExpr
   private final ShardImplementation shardImplementation;
   private final CompilerOptions compilerOptions;
   private final BindingGraph graph;
+  private final BindingRepresentations bindingRepresentations;
   private final MultiboundMapBinding binding;
   private final boolean useLazyClassKey;
+  private final Optional<XClassName> primitiveKeyedProviderMap;
   private String methodName;
 
   @AssistedInject
@@ -66,7 +70,8 @@ final class MapFactoryCreationExpression extends MultibindingFactoryCreationExpr
       ComponentImplementation componentImplementation,
       ComponentRequestRepresentations componentRequestRepresentations,
       CompilerOptions compilerOptions,
-      BindingGraph graph) {
+      BindingGraph graph,
+      BindingRepresentations bindingRepresentations) {
     super(binding, componentImplementation, componentRequestRepresentations, compilerOptions);
     this.processingEnv = processingEnv;
     this.binding = checkNotNull(binding);
@@ -74,7 +79,9 @@ final class MapFactoryCreationExpression extends MultibindingFactoryCreationExpr
     this.shardImplementation = componentImplementation.shardImplementation(binding);
     this.compilerOptions = compilerOptions;
     this.graph = graph;
+    this.bindingRepresentations = bindingRepresentations;
     this.useLazyClassKey = MapKeys.useLazyClassKey(binding, graph);
+    this.primitiveKeyedProviderMap = primitiveKeyedProviderMap(binding, useLazyClassKey);
   }
 
   @Override
@@ -116,14 +123,20 @@ final class MapFactoryCreationExpression extends MultibindingFactoryCreationExpr
                   !shardImplementation.isShardClassPrivate()
                       ? ImmutableSet.of(PRIVATE)
                       : ImmutableSet.of())
-              .returns(useLazyClassKey ? lazyMapFactoryType() : mapFactoryType())
+              .returns(
+                  useLazyClassKey
+                      ? lazyMapFactoryType()
+                      : primitiveKeyedProviderMap.isPresent()
+                          ? primitiveKeyedProviderMapFactoryType()
+                          : mapFactoryType())
               .addCode(
                   XCodeBlock.builder()
                       .addStatement(
-                          "%T %N = %T.builder(%L)",
+                          "%T %N = %T.%N(%L)",
                           mapFactoryBuilderType(),
                           builderName,
-                          mapFactoryClassName(binding),
+                          primitiveKeyedProviderMap.orElse(mapFactoryClassName(binding)),
+                          builderMethodName(),
                           binding.dependencies().size())
                       .add(builderMethodCalls.build())
                       .addStatement(
@@ -142,6 +155,22 @@ final class MapFactoryCreationExpression extends MultibindingFactoryCreationExpr
     return methodName;
   }
 
+  /**
+   * Returns the name of the factory's static builder method. The factories of {@code Map<K,
+   * Lazy<V>>} and {@code Map<K, Provider<Lazy<V>>>} have a separate builder for the component's
+   * memoizing class.
+   */
+  private String builderMethodName() {
+    XClassName mapFactory = mapFactoryClassName(binding);
+    return (mapFactory.equals(XTypeNames.MAP_LAZY_FACTORY)
+                || mapFactory.equals(XTypeNames.MAP_PROVIDER_LAZY_FACTORY))
+            && bindingRepresentations
+                .memoizingClassName()
+                .equals(XTypeNames.NON_PINNING_DOUBLE_CHECK)
+        ? "nonPinningBuilder"
+        : "builder";
+  }
+
   private XTypeName lazyMapFactoryType() {
     return useRawType()
         ? lazyMapFactoryClassName(binding)
@@ -154,7 +183,19 @@ final class MapFactoryCreationExpression extends MultibindingFactoryCreationExpr
         : mapFactoryClassName(binding).parametrizedBy(keyTypeName(), valueTypeName());
   }
 
+  private XTypeName primitiveKeyedProviderMapFactoryType() {
+    return useRawType()
+        ? XTypeNames.FACTORY
+        : XTypeNames.FACTORY.parametrizedBy(
+            XTypeName.MAP.parametrizedBy(
+                keyTypeName(), XTypeNames.DAGGER_PROVIDER.parametrizedBy(valueTypeName())));
+  }
+
   private XTypeName mapFactoryBuilderType() {
+    if (primitiveKeyedProviderMap.isPresent()) {
+      XClassName builder = primitiveKeyedProviderMap.get().nestedClass("Builder");
+      return useRawType() ? builder : builder.parametrizedBy(valueTypeName());
+    }
     return useRawType()
         ? mapFactoryClassName(binding).nestedClass("Builder")
         : mapFactoryClassName(binding)
@@ -185,6 +226,26 @@ final class MapFactoryCreationExpression extends MultibindingFactoryCreationExpr
     return valueExpression;
   }
 
+  /**
+   * Returns the runtime map that stores its keys unboxed, if {@code binding} is a {@code Map<K,
+   * Provider<V>>} keyed by {@code Integer} or {@code Long}.
+   */
+  private static Optional<XClassName> primitiveKeyedProviderMap(
+      MultiboundMapBinding binding, boolean useLazyClassKey) {
+    MapType mapType = MapType.from(binding.key());
+    if (useLazyClassKey
+        || mapType.isRawType()
+        || !mapFactoryClassName(binding).equals(XTypeNames.MAP_PROVIDER_FACTORY)) {
+      return Optional.empty();
+    }
+    if (isTypeOf(mapType.keyType(), XTypeName.BOXED_INT)) {
+      return Optional.of(XTypeNames.INT_KEYED_PROVIDER_MAP);
+    } else if (isTypeOf(mapType.keyType(), XTypeName.BOXED_LONG)) {
+      return Optional.of(XTypeNames.LONG_KEYED_PROVIDER_MAP);
+    }
+    return Optional.empty();
+  }
+
   private static XClassName lazyMapFactoryClassName(MultiboundMapBinding binding) {
     MapType mapType = MapType.from(binding.key());
     switch (binding.bindingType()) {
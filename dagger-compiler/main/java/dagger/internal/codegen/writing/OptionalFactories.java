@@ -98,13 +98,16 @@ final class OptionalFactories {
 
   private final PerGeneratedFileCache perGeneratedFileCache;
   private final GeneratedImplementation topLevelImplementation;
+  private final BindingRepresentations bindingRepresentations;
 
   @Inject
   OptionalFactories(
       PerGeneratedFileCache perGeneratedFileCache,
-      @TopLevel GeneratedImplementation topLevelImplementation) {
+      @TopLevel GeneratedImplementation topLevelImplementation,
+      BindingRepresentations bindingRepresentations) {
     this.perGeneratedFileCache = perGeneratedFileCache;
     this.topLevelImplementation = topLevelImplementation;
+    this.bindingRepresentations = bindingRepresentations;
   }
 
   /**
@@ -373,7 +376,8 @@ final class OptionalFactories {
                     .presentExpression(
                         FrameworkType.PROVIDER.to(
                             spec.valueKind(),
-                            XCodeBlock.of("%N", delegateField))))
+                            XCodeBlock.of("%N", delegateField),
+                            bindingRepresentations.memoizingClassName())))
             .build();
 
       case PRODUCER_NODE:
@@ -54,6 +54,7 @@ import androidx.room3.compiler.codegen.XParameterSpec;
 import androidx.room3.compiler.codegen.XPropertySpec;
 import androidx.room3.compiler.codegen.XTypeName;
 import androidx.room3.compiler.codegen.XTypeSpec;
+import androidx.room3.compiler.processing.XAnnotation;
 import androidx.room3.compiler.processing.XElement;
 import androidx.room3.compiler.processing.XFiler;
 import androidx.room3.compiler.processing.XMethodElement;
@@ -78,6 +79,8 @@ import dagger.internal.codegen.xprocessing.XParameterSpecs;
 import dagger.internal.codegen.xprocessing.XPropertySpecs;
 import dagger.internal.codegen.xprocessing.XTypeNames;
 import dagger.internal.codegen.xprocessing.XTypeSpecs;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import javax.inject.Inject;
 
@@ -113,9 +116,10 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
     XTypeSpecs.Builder factoryBuilder =
         XTypeSpecs.classBuilder(generatedClassNameForBinding(binding))
             .superclass(
-                XTypeNames.ABSTRACT_PRODUCES_METHOD_PRODUCER.parametrizedBy(
-                    callProducesMethodParameter(binding).getType(),
-                    contributedTypeName(binding)))
+                superclassName(binding)
+                    .parametrizedBy(
+                        callProducesMethodParameter(binding).getType(),
+                        contributedTypeName(binding)))
             .addModifiers(PUBLIC, FINAL)
             .addTypeVariableNames(bindingTypeElementTypeVariableNames(binding))
             .addProperties(
@@ -127,8 +131,22 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
                     .collect(toImmutableList()))
             .addFunction(constructorMethod(binding, factoryFields))
             .addFunction(staticCreateMethod(binding, factoryFields))
-            .addFunction(collectDependenciesMethod(binding, factoryFields))
-            .addFunction(callProducesMethod(binding, factoryFields));
+            .addFunction(collectDependenciesMethod(binding, factoryFields));
+    if (isBatched(binding)) {
+      factoryBuilder
+          .addType(batcherHolderType(binding))
+          .addFunction(callBatchMethod(binding));
+    } else if (isCached(binding)) {
+      factoryBuilder
+          .addType(cacheHolderType(binding))
+          .addFunction(callProducesMethod(binding, factoryFields));
+    } else if (hasDeadline(binding)) {
+      factoryBuilder
+          .addType(deadlineHolderType(binding))
+          .addFunction(callProducesMethod(binding, factoryFields));
+    } else {
+      factoryBuilder.addFunction(callProducesMethod(binding, factoryFields));
+    }
 
     gwtIncompatibleAnnotation(binding).ifPresent(factoryBuilder::addAnnotation);
 
@@ -154,12 +172,33 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
         constructorBuilder()
             .addModifiers(PRIVATE)
             .addParameters(constructorParameters(binding, factoryFields));
-    constructorBuilder
-        .callSuperConstructor(
-            "%N, %L, %N",
-            factoryFields.monitorField,
-            producerTokenConstruction(generatedClassNameForBinding(binding), binding),
-            factoryFields.executorField);
+    List<XCodeBlock> superArguments = new ArrayList<>();
+    superArguments.add(XCodeBlock.of("%N", factoryFields.monitorField));
+    superArguments.add(producerTokenConstruction(generatedClassNameForBinding(binding), binding));
+    superArguments.add(XCodeBlock.of("%N", factoryFields.executorField));
+    if (isBatched(binding) || isCached(binding)) {
+      // A call to a @Batched or @Cached method is shared by several requests, so it is never made
+      // interruptible. See CompilerOptions#interruptibleProducers().
+      superArguments.add(XCodeBlock.of("/* runsInline= */ %L", runsInline(binding)));
+      superArguments.add(
+          isBatched(binding)
+              ? XCodeBlock.of("%T.BATCHER", batcherHolderClassName(binding))
+              : XCodeBlock.of("%T.CACHE", cacheHolderClassName(binding)));
+    } else {
+      // A trailing argument is only passed if it, or an argument after it, isn't the default, so
+      // that the shortest AbstractProducesMethodProducer constructor is called.
+      boolean interruptible = compilerOptions.interruptibleProducers();
+      if (runsInline(binding) || interruptible || hasDeadline(binding)) {
+        superArguments.add(XCodeBlock.of("/* runsInline= */ %L", runsInline(binding)));
+      }
+      if (interruptible || hasDeadline(binding)) {
+        superArguments.add(XCodeBlock.of("/* interruptible= */ %L", interruptible));
+      }
+      if (hasDeadline(binding)) {
+        superArguments.add(XCodeBlock.of("%T.DEADLINE", deadlineHolderClassName(binding)));
+      }
+    }
+    constructorBuilder.callSuperConstructor(makeParametersCodeBlock(superArguments));
     factoryFields.getAll().stream()
         // The executor and monitor fields belong to the super class so they don't need a field
         // assignment here.
@@ -178,6 +217,120 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
     return constructorBuilder.build();
   }
 
+  /**
+   * Returns {@code true} if the binding's {@code @Produces} method, or the module that declares it,
+   * is annotated with {@code @RunsInline}.
+   */
+  private static boolean runsInline(ProductionBinding binding) {
+    return binding.bindingElement().get().hasAnnotation(XTypeNames.RUNS_INLINE)
+        || binding.bindingTypeElement().get().hasAnnotation(XTypeNames.RUNS_INLINE);
+  }
+
+  private static XClassName superclassName(ProductionBinding binding) {
+    if (isBatched(binding)) {
+      return XTypeNames.ABSTRACT_BATCHED_PRODUCES_METHOD_PRODUCER;
+    } else if (isCached(binding)) {
+      return XTypeNames.ABSTRACT_CACHED_PRODUCES_METHOD_PRODUCER;
+    }
+    return XTypeNames.ABSTRACT_PRODUCES_METHOD_PRODUCER;
+  }
+
+  /** Returns {@code true} if the binding's {@code @Produces} method is {@code @Batched}. */
+  private static boolean isBatched(ProductionBinding binding) {
+    return binding.bindingElement().get().hasAnnotation(XTypeNames.BATCHED);
+  }
+
+  /** Returns {@code true} if the binding's {@code @Produces} method is {@code @Cached}. */
+  private static boolean isCached(ProductionBinding binding) {
+    return binding.bindingElement().get().hasAnnotation(XTypeNames.CACHED);
+  }
+
+  /**
+   * Returns {@code true} if the binding's {@code @Produces} method is {@code @Timeout} or {@code
+   * @Hedged}.
+   */
+  private static boolean hasDeadline(ProductionBinding binding) {
+    return binding.bindingElement().get().hasAnnotation(XTypeNames.TIMEOUT)
+        || binding.bindingElement().get().hasAnnotation(XTypeNames.HEDGED);
+  }
+
+  // private static final class BatcherHolder {
+  //   static final ProducerBatcher<Bar, Foo> BATCHER = new ProducerBatcher<Bar, Foo>(100, 1L);
+  // }
+  private XTypeSpec batcherHolderType(ProductionBinding binding) {
+    XAnnotation batched = binding.bindingElement().get().getAnnotation(XTypeNames.BATCHED);
+    return staticHolderType(
+        batcherHolderClassName(binding),
+        "BATCHER",
+        XTypeNames.PRODUCER_BATCHER.parametrizedBy(
+            callProducesMethodParameter(binding).getType(), contributedTypeName(binding)),
+        XCodeBlock.of(
+            "%L, %LL", batched.getAsInt("maxBatchSize"), batched.getAsLong("maxDelayMillis")));
+  }
+
+  private static XClassName batcherHolderClassName(ProductionBinding binding) {
+    return generatedClassNameForBinding(binding).nestedClass("BatcherHolder");
+  }
+
+  // private static final class CacheHolder {
+  //   static final ProducerCache<Bar, Foo> CACHE = new ProducerCache<Bar, Foo>(1000, 60000L);
+  // }
+  private XTypeSpec cacheHolderType(ProductionBinding binding) {
+    XAnnotation cached = binding.bindingElement().get().getAnnotation(XTypeNames.CACHED);
+    return staticHolderType(
+        cacheHolderClassName(binding),
+        "CACHE",
+        XTypeNames.PRODUCER_CACHE.parametrizedBy(
+            callProducesMethodParameter(binding).getType(), contributedTypeName(binding)),
+        XCodeBlock.of("%L, %LL", cached.getAsInt("maxSize"), cached.getAsLong("ttlMillis")));
+  }
+
+  private static XClassName cacheHolderClassName(ProductionBinding binding) {
+    return generatedClassNameForBinding(binding).nestedClass("CacheHolder");
+  }
+
+  // private static final class DeadlineHolder {
+  //   static final ProducerDeadline DEADLINE = new ProducerDeadline(500L, 95.0, 0L);
+  // }
+  private XTypeSpec deadlineHolderType(ProductionBinding binding) {
+    XElement method = binding.bindingElement().get();
+    long timeoutMillis =
+        method.hasAnnotation(XTypeNames.TIMEOUT)
+            ? method.getAnnotation(XTypeNames.TIMEOUT).getAsLong("millis")
+            : 0;
+    double hedgePercentile = 0;
+    long hedgeMinDelayMillis = 0;
+    if (method.hasAnnotation(XTypeNames.HEDGED)) {
+      XAnnotation hedged = method.getAnnotation(XTypeNames.HEDGED);
+      hedgePercentile = hedged.getAsDouble("percentile");
+      hedgeMinDelayMillis = hedged.getAsLong("minDelayMillis");
+    }
+    return staticHolderType(
+        deadlineHolderClassName(binding),
+        "DEADLINE",
+        XTypeNames.PRODUCER_DEADLINE,
+        XCodeBlock.of("%LL, %L, %LL", timeoutMillis, hedgePercentile, hedgeMinDelayMillis));
+  }
+
+  private static XClassName deadlineHolderClassName(ProductionBinding binding) {
+    return generatedClassNameForBinding(binding).nestedClass("DeadlineHolder");
+  }
+
+  /**
+   * Returns a class that holds a single instance of {@code type}, which is shared by every instance
+   * of the factory.
+   */
+  private static XTypeSpec staticHolderType(
+      XClassName holderName, String fieldName, XTypeName type, XCodeBlock constructorArgs) {
+    return XTypeSpecs.objectBuilder(holderName)
+        .addModifiers(PRIVATE, STATIC, FINAL)
+        .addProperty(
+            XPropertySpecs.builder(fieldName, type, STATIC, FINAL)
+                .initializer(XCodeBlock.ofNewInstance(type, "%L", constructorArgs))
+                .build())
+        .build();
+  }
+
   ImmutableList<XParameterSpec> constructorParameters(
       ProductionBinding binding, FactoryFields factoryFields) {
     return factoryFields.getAll().stream()
@@ -328,15 +481,18 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
   // public ListenableFuture<Foo> callProducesMethod(List<Object> args) {
   //   return module.producesFoo((Bar) args.get(0), (Baz) args.get(1));
   // }
+  //
+  // For a @Cached method, this is named "callProducesMethodUncached" and is only called when the
+  // cache has no result for the method's inputs.
   private XFunSpec callProducesMethod(ProductionBinding binding, FactoryFields factoryFields) {
     XTypeName contributedTypeName = contributedTypeName(binding);
     XTypeName returnTypeName = listenableFutureOf(contributedTypeName);
     XParameterSpec parameter = callProducesMethodParameter(binding);
     XFunSpecs.Builder methodBuilder =
-        methodBuilder("callProducesMethod")
+        methodBuilder(isCached(binding) ? "callProducesMethodUncached" : "callProducesMethod")
             .returns(returnTypeName)
             .isOverride(true)
-            .addModifiers(PUBLIC)
+            .addModifiers(isCached(binding) ? PROTECTED : PUBLIC)
             .addExceptions(asMethod(binding.bindingElement().get()).getThrownTypes())
             .addParameter(parameter);
     ImmutableList<DependencyRequest> asyncDependencies = asyncDependencies(binding);
@@ -389,6 +545,42 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
     return methodBuilder.addStatement("return %L", returnCodeBlock).build();
   }
 
+  // Example 1: Immediate values.
+  // @Override
+  // protected ListenableFuture<List<Foo>> callBatchMethod(List<Bar> bars) {
+  //   return Futures.immediateFuture(FooModule.producesFoos(bars));
+  // }
+  //
+  // Example 2: Future values.
+  // @Override
+  // protected ListenableFuture<List<Foo>> callBatchMethod(List<Bar> bars) {
+  //   return FooModule.producesFoos(bars);
+  // }
+  private XFunSpec callBatchMethod(ProductionBinding binding) {
+    XMethodElement method = asMethod(binding.bindingElement().get());
+    String parameterName = getSimpleName(getOnlyElement(method.getParameters()));
+    XCodeBlock methodCall =
+        XCodeBlock.of(
+            "%T.%N(%N)",
+            binding.bindingTypeElement().get().asClassName(),
+            getSimpleName(method),
+            parameterName);
+    return methodBuilder("callBatchMethod")
+        .returns(listenableFutureOf(listOf(contributedTypeName(binding))))
+        .isOverride(true)
+        .addModifiers(PROTECTED)
+        .addExceptions(method.getThrownTypes())
+        .addParameter(
+            XParameterSpecs.of(
+                parameterName, listOf(callProducesMethodParameter(binding).getType())))
+        .addStatement(
+            "return %L",
+            ProductionKind.fromProducesMethod(method) == ProductionKind.IMMEDIATE
+                ? XCodeBlock.of("%T.immediateFuture(%L)", XTypeNames.FUTURES, methodCall)
+                : methodCall)
+        .build();
+  }
+
   private XParameterSpec callProducesMethodParameter(ProductionBinding binding) {
     ImmutableList<DependencyRequest> asyncDependencies = asyncDependencies(binding);
     switch (asyncDependencies.size()) {
@@ -35,7 +35,7 @@ import dagger.internal.codegen.xprocessing.XTypeNames;
  */
 final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSupplier {
   private final FrameworkInstanceSupplier frameworkInstanceSupplier;
-  private final CompilerOptions compilerOptions;
+  private final BindingRepresentations bindingRepresentations;
 
   @AssistedInject
   SwitchingProviderInstanceSupplier(
@@ -44,7 +44,9 @@ final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSuppli
       ComponentImplementation componentImplementation,
       CompilerOptions compilerOptions,
       UnscopedDirectInstanceRequestRepresentationFactory
-          unscopedDirectInstanceRequestRepresentationFactory) {
+          unscopedDirectInstanceRequestRepresentationFactory,
+      BindingRepresentations bindingRepresentations) {
+    this.bindingRepresentations = bindingRepresentations;
     ShardImplementation shardImplementation = componentImplementation.shardImplementation(binding);
     FrameworkInstanceCreationExpression frameworkInstanceCreationExpression =
         shardImplementation
@@ -57,7 +59,6 @@ final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSuppli
             componentImplementation,
             binding,
             scope(binding, frameworkInstanceCreationExpression));
-    this.compilerOptions = compilerOptions;
   }
 
   @Override
@@ -76,9 +77,7 @@ final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSuppli
         XCodeBlock.of(
             "%T.provider(%L)",
             binding.scope().isPresent()
-                ? (binding.scope().get().isReusable()
-                    ? XTypeNames.SINGLE_CHECK
-                    : XTypeNames.DOUBLE_CHECK)
+                ? bindingRepresentations.scopingClassName(binding)
                 : XTypeNames.SINGLE_CHECK,
             unscoped.creationExpression());
   }
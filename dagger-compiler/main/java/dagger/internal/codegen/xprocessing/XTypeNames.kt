@@ -92,12 +92,17 @@ object XTypeNames {
   // TODO(b/404613325): Figure out what to do for calls like java.util.Collections.<T>emptyList()
   // where in Kotlin it becomes a top-level function like kotlin.collections.emptyList<T>().
   @JvmField val JAVA_UTIL_COLLECTIONS = XClassName.get("java.util", "Collections")
+  @JvmField val JAVA_UTIL_LIST = XClassName.get("java.util", "List")
   @JvmField val JAVA_UTIL_SET = XClassName.get("java.util", "Set")
   @JvmField val JAVA_UTIL_MAP = XClassName.get("java.util", "Map")
   @JvmField val FACTORY = XClassName.get("dagger.internal", "Factory")
   @JvmField
   val INJECTED_FIELD_SIGNATURE = XClassName.get("dagger.internal", "InjectedFieldSignature")
   @JvmField val INSTANCE_FACTORY = XClassName.get("dagger.internal", "InstanceFactory")
+  @JvmField
+  val INT_KEYED_PROVIDER_MAP = XClassName.get("dagger.internal", "IntKeyedProviderMap")
+  @JvmField
+  val LONG_KEYED_PROVIDER_MAP = XClassName.get("dagger.internal", "LongKeyedProviderMap")
   @JvmField val MAP_BUILDER = XClassName.get("dagger.internal", "MapBuilder")
   @JvmField val MAP_FACTORY = XClassName.get("dagger.internal", "MapFactory")
   @JvmField val MAP_PROVIDER_FACTORY = XClassName.get("dagger.internal", "MapProviderFactory")
@@ -106,6 +111,8 @@ object XTypeNames {
   val MAP_PROVIDER_LAZY_FACTORY = XClassName.get("dagger.internal", "MapProviderLazyFactory")
   @JvmField val MEMBERS_INJECTOR = XClassName.get("dagger", "MembersInjector")
   @JvmField val MEMBERS_INJECTORS = XClassName.get("dagger.internal", "MembersInjectors")
+  @JvmField
+  val NON_PINNING_DOUBLE_CHECK = XClassName.get("dagger.internal", "NonPinningDoubleCheck")
   @JvmField val DAGGER_PROVIDER = XClassName.get("dagger.internal", "Provider")
   @JvmField val DAGGER_PROVIDERS = XClassName.get("dagger.internal", "Providers")
   @JvmField val PROVIDER_OF_LAZY = XClassName.get("dagger.internal", "ProviderOfLazy")
@@ -120,8 +127,16 @@ object XTypeNames {
   // Dagger Producers classnames
   @JvmField val ABSTRACT_PRODUCER = XClassName.get("dagger.producers.internal", "AbstractProducer")
   @JvmField
+  val ABSTRACT_BATCHED_PRODUCES_METHOD_PRODUCER =
+    XClassName.get("dagger.producers.internal", "AbstractBatchedProducesMethodProducer")
+  @JvmField
+  val ABSTRACT_CACHED_PRODUCES_METHOD_PRODUCER =
+    XClassName.get("dagger.producers.internal", "AbstractCachedProducesMethodProducer")
+  @JvmField
   val ABSTRACT_PRODUCES_METHOD_PRODUCER =
     XClassName.get("dagger.producers.internal", "AbstractProducesMethodProducer")
+  @JvmField val BATCHED = XClassName.get("dagger.producers", "Batched")
+  @JvmField val CACHED = XClassName.get("dagger.producers", "Cached")
   @JvmField
   val CANCELLATION_LISTENER = XClassName.get("dagger.producers.internal", "CancellationListener")
   @JvmField val CANCELLATION_POLICY = XClassName.get("dagger.producers", "CancellationPolicy")
@@ -129,6 +144,7 @@ object XTypeNames {
   @JvmField
   val DEPENDENCY_METHOD_PRODUCER =
     XClassName.get("dagger.producers.internal", "DependencyMethodProducer")
+  @JvmField val HEDGED = XClassName.get("dagger.producers", "Hedged")
   @JvmField
   val MAP_OF_PRODUCED_PRODUCER =
     XClassName.get("dagger.producers.internal", "MapOfProducedProducer")
@@ -140,8 +156,13 @@ object XTypeNames {
   @JvmField val PRODUCED = XClassName.get("dagger.producers", "Produced")
   @JvmField val PRODUCER = XClassName.get("dagger.producers", "Producer")
   @JvmField val PRODUCERS = XClassName.get("dagger.producers.internal", "Producers")
+  @JvmField val PRODUCER_BATCHER = XClassName.get("dagger.producers.internal", "ProducerBatcher")
+  @JvmField val PRODUCER_CACHE = XClassName.get("dagger.producers.internal", "ProducerCache")
+  @JvmField
+  val PRODUCER_DEADLINE = XClassName.get("dagger.producers.internal", "ProducerDeadline")
   @JvmField val PRODUCER_MODULE = XClassName.get("dagger.producers", "ProducerModule")
   @JvmField val PRODUCES = XClassName.get("dagger.producers", "Produces")
+  @JvmField val PRODUCES_ON = XClassName.get("dagger.producers", "ProducesOn")
   @JvmField val PRODUCTION = XClassName.get("dagger.producers", "Production")
   @JvmField val PRODUCTION_COMPONENT = XClassName.get("dagger.producers", "ProductionComponent")
   @JvmField
@@ -165,6 +186,8 @@ object XTypeNames {
   val PRODUCTION_SUBCOMPONENT_FACTORY =
     XClassName.get("dagger.producers", "ProductionSubcomponent", "Factory")
   @JvmField val PRODUCER_TOKEN = XClassName.get("dagger.producers.monitoring", "ProducerToken")
+  @JvmField val RUNS_INLINE = XClassName.get("dagger.producers", "RunsInline")
+  @JvmField val TIMEOUT = XClassName.get("dagger.producers", "Timeout")
   @JvmField
   val PRODUCTION_COMPONENT_MONITOR =
     XClassName.get("dagger.producers.monitoring", "ProductionComponentMonitor")
@@ -35,6 +35,7 @@ import static dagger.internal.codegen.xprocessing.XTypes.isDeclared;
 import static dagger.internal.codegen.xprocessing.XTypes.isNoType;
 
 import androidx.room3.compiler.codegen.XClassName;
+import androidx.room3.compiler.codegen.XTypeName;
 import androidx.room3.compiler.processing.XArrayType;
 import androidx.room3.compiler.processing.XConstructorType;
 import androidx.room3.compiler.processing.XExecutableType;
@@ -319,6 +320,15 @@ public final class XTypes {
     return classNames.stream().anyMatch(className -> isTypeOf(type, className));
   }
 
+  /** Returns {@code true} if the raw type of {@code type} is {@link java.util.List}. */
+  public static boolean isList(XType type) {
+    // In general, Dagger ignores mutability so check for both kotlin.collection.(List|MutableList).
+    return isTypeOf(type, XTypeName.LIST)
+        || isTypeOf(type, XTypeName.MUTABLE_LIST)
+        // This is for cases where java.util.List is used directly in Kotlin sources.
+        || isTypeOf(type, XTypeNames.JAVA_UTIL_LIST);
+  }
+
   /** Returns {@code true} if the given type represents the {@code null} type. */
   public static boolean isNullType(XType type) {
     XProcessingEnv.Backend backend = getProcessingEnv(type).getBackend();
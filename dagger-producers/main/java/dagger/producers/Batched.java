@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a {@link Produces} method that produces values for many keys in one call, so that
+ * production components that each need the value for a different key can share that call.
+ *
+ * <p>A batched method must be static and take a single {@code List<K>} parameter. It returns a
+ * {@code List<V>}, or a {@code ListenableFuture<List<V>>}, with one value for each key in the same
+ * order. The method binds {@code V} and depends on {@code K}, as if it were declared as {@code V
+ * produce(K key)}; qualifiers on the method apply to {@code V} and qualifiers on the parameter
+ * apply to {@code K}:
+ *
+ * <pre><code>
+ * {@literal @}Produces
+ * {@literal @}Batched(maxBatchSize = 100, maxDelayMillis = 2)
+ * static ListenableFuture{@literal <List<User>>} users(List{@literal <UserId>} ids) {
+ *   return userService.lookUp(ids);
+ * }
+ * </code></pre>
+ *
+ * <p>When a component needs its {@code User}, its {@code UserId} is added to a batch that is shared
+ * by every component that installs the method. The batch is passed to the method as soon as it has
+ * {@link #maxBatchSize()} distinct keys, or {@link #maxDelayMillis()} after its first key was
+ * added, and each component's future then completes with the value for its own key. Keys are
+ * compared with {@code equals()}, so components that need the same key share one entry in the
+ * batch. The batch is passed to the method on the {@link Production} executor of the component
+ * that added its first key, or on that of another component in the batch if that executor rejects
+ * it; never on the thread that requested a value, even for a {@link RunsInline} method.
+ *
+ * <p>The {@linkplain dagger.producers.monitoring.ProducerMonitor monitor} of each component sees
+ * the method start and finish when its key is added to a batch, rather than when the batch is
+ * produced.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+@Beta
+public @interface Batched {
+  /** The number of distinct keys at which a batch is passed to the method without waiting. */
+  int maxBatchSize() default 100;
+
+  /** How long, in milliseconds, a batch waits for more keys after its first key was added. */
+  long maxDelayMillis() default 1;
+}
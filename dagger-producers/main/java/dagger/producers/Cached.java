@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a {@link Produces} method whose results are shared by every production component that
+ * installs it, for as long as its inputs are the same.
+ *
+ * <p>The results are kept in a cache that belongs to the method, keyed by the values of its
+ * parameters. When a component needs the method's output, it takes the cached result for its inputs
+ * if there is one; otherwise it calls the method and caches the result. Components that need the
+ * result for the same inputs while the method is running share that call instead of calling the
+ * method again. Results are cached for {@link #ttlMillis()} after the method was called, and at
+ * most {@link #maxSize()} results are kept, evicting the least recently used one first. A failed
+ * result is never cached.
+ *
+ * <pre><code>
+ * {@literal @}Produces
+ * {@literal @}Cached(ttlMillis = 30_000)
+ * static ListenableFuture{@literal <FeatureFlags>} featureFlags(UserId user) {
+ *   return flagService.evaluate(user);
+ * }
+ * </code></pre>
+ *
+ * <p>A cached method must be static, since its results can't depend on a particular module
+ * instance, and can only depend on values or {@link Produced} values, whose {@code equals()} and
+ * {@code hashCode()} are used as the key.
+ *
+ * <p>The {@linkplain dagger.producers.monitoring.ProducerMonitor monitor} of each component is told
+ * whether its result was {@linkplain dagger.producers.monitoring.ProducerMonitor#cacheHit() taken
+ * from the cache} or {@linkplain dagger.producers.monitoring.ProducerMonitor#cacheMissed() produced
+ * by calling the method}.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+@Beta
+public @interface Cached {
+  /** The maximum number of results kept in the cache. */
+  int maxSize() default 1000;
+
+  /** How long, in milliseconds, a result is kept in the cache after the method was called. */
+  long ttlMillis() default 60_000;
+}
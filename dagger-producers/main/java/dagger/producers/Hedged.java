@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a {@link Produces} method that is called a second time, with the same inputs, if the
+ * first call takes longer than usual, and whose value is taken from whichever call succeeds first.
+ *
+ * <p>"Longer than usual" is the method's {@link #percentile()} latency, measured from when its
+ * inputs are available until its value is, across every production component that installs it.
+ * Calls whose value is already available by the time the producer starts waiting for it, such as
+ * calls on a direct executor, aren't counted. Hedging starts once the method has succeeded at least
+ * 64 times. The second call is made on the production executor, without any {@linkplain
+ * dagger.producers.monitoring.ProducerMonitor monitor} calls, and whichever call loses is
+ * cancelled. If a call fails while the other is still running, the producer waits for the other
+ * one; if the first call fails before the second one starts, the producer fails without making a
+ * second call.
+ *
+ * <pre><code>
+ * {@literal @}Produces
+ * {@literal @}Hedged(percentile = 95)
+ * {@literal @}Timeout(millis = 500)
+ * static ListenableFuture{@literal <SearchResults>} search(Query query) {
+ *   return searchBackend.search(query);
+ * }
+ * </code></pre>
+ *
+ * <p>Since a hedged method may be called twice for the same inputs, it should not have side effects
+ * that must only happen once. Hedging can be combined with {@link Timeout}, in which case a second
+ * call is only made if it would start before the timeout, but not with {@link Batched} or {@link
+ * Cached}.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+@Beta
+public @interface Hedged {
+  /**
+   * The latency percentile, between 0 and 100 exclusive, after which the second call is made. For
+   * example, {@code 95} hedges the slowest 5% of calls.
+   */
+  double percentile() default 95;
+
+  /** The minimum time, in milliseconds, to wait before making the second call. */
+  long minDelayMillis() default 0;
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import javax.inject.Named;
+
+/**
+ * Annotates a {@link Produces} method, or a {@link ProducerModule} to apply to all of its
+ * {@code @Produces} methods, whose method should be called on a named executor instead of the
+ * {@link Production} executor.
+ *
+ * <p>The executor is requested from the component as {@code @Named(...) Executor}, using the {@link
+ * Named} given as the value. For example, a method that does blocking I/O can be kept off of the
+ * executor used for CPU-bound work, using a pool that the application creates once and passes to
+ * each component:
+ *
+ * <pre><code>
+ * {@literal @}ProducerModule
+ * final class StorageModule {
+ *   {@literal @}Produces
+ *   {@literal @}ProducesOn({@literal @}Named("io"))
+ *   static Record readRecord(Request request, Storage storage) {
+ *     return storage.read(request.id());
+ *   }
+ * }
+ *
+ * {@literal @}ProductionComponent(modules = StorageModule.class)
+ * interface RequestComponent {
+ *   ListenableFuture<Record> record();
+ *
+ *   {@literal @}ProductionComponent.Builder
+ *   interface Builder {
+ *     {@literal @}BindsInstance Builder ioExecutor({@literal @}Named("io") Executor executor);
+ *     Builder request({@literal @}BindsInstance Request request);
+ *     RequestComponent build();
+ *   }
+ * }
+ * </code></pre>
+ *
+ * <p>Like the {@code @Production} executor, the named executor must resolve to a single instance
+ * within the component: it must be scoped, bound with {@link dagger.BindsInstance}, or provided by
+ * a component dependency. Since a production component is usually created per request, a scoped
+ * binding must return an executor owned by the application, such as one injected from a component
+ * dependency; it must not create a new pool, which would be created for every component and never
+ * shut down. An annotation on a method takes precedence over one on its module.
+ */
+@Documented
+@Target({METHOD, TYPE})
+@Retention(RUNTIME)
+@Beta
+public @interface ProducesOn {
+  /** The qualifier of the {@code Executor} binding that the method should be called on. */
+  Named value();
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a {@link Produces} method, or a {@link ProducerModule} to apply to all of its
+ * {@code @Produces} methods, whose method should be called without switching to the {@link
+ * Production} executor when all of its dependencies are already done.
+ *
+ * <p>Normally a {@code @Produces} method is always called on the {@code @Production} executor, even
+ * if its dependencies were done by the time it was requested. For a method that only does a small
+ * amount of work, handing the call off to the executor can cost more than the call itself. A method
+ * annotated with {@code @RunsInline} is instead called directly on the thread that requested it,
+ * which is usually the thread running another producer or the thread calling the production
+ * component's entry point. If any dependency is not yet done, the method is called on the executor
+ * as usual once they are.
+ *
+ * <p>The {@linkplain dagger.producers.monitoring.ProducerMonitor monitor} methods are called in the
+ * same order either way. Only use this for methods that neither block nor do significant work,
+ * since the requesting thread can't do anything else until the method returns.
+ */
+@Documented
+@Target({METHOD, TYPE})
+@Retention(RUNTIME)
+@Beta
+public @interface RunsInline {}
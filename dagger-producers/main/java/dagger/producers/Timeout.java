@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a {@link Produces} method that fails with a {@link
+ * java.util.concurrent.TimeoutException} if it doesn't produce its value within {@link #millis()}.
+ *
+ * <p>The time starts once all of the method's inputs are available, and covers the time spent
+ * waiting for the executor, running the method, and waiting for the future that it returns. It does
+ * not include the time that the method's inputs took, since they have their own timeouts. When the
+ * time runs out, the method's future is cancelled, which interrupts the method if it is running and
+ * producers are {@code -Adagger.interruptibleProducers=enabled}, and the {@linkplain
+ * dagger.producers.monitoring.ProducerMonitor#failed(Throwable) monitor is told} that the producer
+ * failed with the {@code TimeoutException}.
+ *
+ * <pre><code>
+ * {@literal @}Produces
+ * {@literal @}Timeout(millis = 200)
+ * static ListenableFuture{@literal <Profile>} profile(UserId user) {
+ *   return profileService.fetch(user);
+ * }
+ * </code></pre>
+ *
+ * <p>A timeout can be combined with {@link Hedged}, but not with {@link Batched} or {@link Cached}.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+@Beta
+public @interface Timeout {
+  /** How long, in milliseconds, the producer has to produce its value. */
+  long millis();
+}
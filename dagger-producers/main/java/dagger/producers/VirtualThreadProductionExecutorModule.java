@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import dagger.Binds;
+import dagger.Module;
+import dagger.internal.Beta;
+import dagger.producers.internal.VirtualThreadExecutor;
+import java.util.concurrent.Executor;
+
+/**
+ * Binds the {@link Production @Production Executor} to an executor that runs each task on a new
+ * virtual thread.
+ *
+ * <p>Install this module in a {@link ProductionComponent} instead of binding the executor to a
+ * fixed-size thread pool. Since blocking a virtual thread doesn't tie up a platform thread, {@link
+ * Produces @Produces} methods may block on I/O or on their {@link Producer} dependencies without
+ * having to size a pool for the number of concurrent requests. Compiling the producer modules with
+ * {@code -Adagger.interruptibleProducers=enabled} additionally interrupts those methods when the
+ * component's production is cancelled.
+ *
+ * <p>Virtual threads require Java 21 or later. On earlier versions, creating the executor throws
+ * {@link UnsupportedOperationException}, so the first {@code @Produces} method that needs it fails
+ * with a {@link java.util.concurrent.RejectedExecutionException} caused by that exception.
+ */
+@Beta
+@Module
+public abstract class VirtualThreadProductionExecutorModule {
+  @Binds
+  @Production
+  abstract Executor virtualThreadExecutor(VirtualThreadExecutor executor);
+
+  private VirtualThreadProductionExecutorModule() {}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.internal.Provider;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * An {@link AbstractProducesMethodProducer} for a {@link dagger.producers.Batched} method, which
+ * adds its key to a batch shared by all instances of the producer instead of calling the method
+ * directly.
+ *
+ * @param <K> the type of the key this producer requests a value for
+ * @param <V> the type of the value produced
+ */
+public abstract class AbstractBatchedProducesMethodProducer<K, V>
+    extends AbstractProducesMethodProducer<K, V> {
+  private final Provider<Executor> executorProvider;
+  private final ProducerBatcher<K, V> batcher;
+
+  protected AbstractBatchedProducesMethodProducer(
+      Provider<ProductionComponentMonitor> monitorProvider,
+      @NullableDecl ProducerToken token,
+      Provider<Executor> executorProvider,
+      boolean runsInline,
+      ProducerBatcher<K, V> batcher) {
+    super(monitorProvider, token, executorProvider, runsInline);
+    this.executorProvider = executorProvider;
+    this.batcher = checkNotNull(batcher);
+  }
+
+  @Override
+  protected final ListenableFuture<V> callProducesMethod(K key) {
+    return batcher.add(key, this, executorProvider.get());
+  }
+
+  /**
+   * Calls the batched method with {@code keys}, which may have been requested by any instance of
+   * this producer.
+   */
+  protected abstract ListenableFuture<List<V>> callBatchMethod(List<K> keys) throws Exception;
+}
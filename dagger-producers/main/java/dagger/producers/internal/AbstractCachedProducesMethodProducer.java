@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.internal.Provider;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.concurrent.Executor;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * An {@link AbstractProducesMethodProducer} for a {@link dagger.producers.Cached} method, which
+ * takes its result from a cache shared by all instances of the producer when it can, instead of
+ * calling the method.
+ *
+ * @param <D> the type of the producer's inputs, which are the key in the cache
+ * @param <T> the produced type
+ */
+public abstract class AbstractCachedProducesMethodProducer<D, T>
+    extends AbstractProducesMethodProducer<D, T> {
+  private final ProducerCache<D, T> cache;
+
+  protected AbstractCachedProducesMethodProducer(
+      Provider<ProductionComponentMonitor> monitorProvider,
+      @NullableDecl ProducerToken token,
+      Provider<Executor> executorProvider,
+      boolean runsInline,
+      ProducerCache<D, T> cache) {
+    super(monitorProvider, token, executorProvider, runsInline);
+    this.cache = checkNotNull(cache);
+  }
+
+  /**
+   * Looks up the result in the cache before telling the monitor that the method is starting, so
+   * that only a cache miss is monitored as a call to the method.
+   */
+  @Override
+  final ListenableFuture<T> produce(D dependencies) {
+    return cache.get(dependencies, this, monitor());
+  }
+
+  /** Calls the method, with the monitor calls around it, on a cache miss. */
+  final ListenableFuture<T> produceUncached(D dependencies) throws Exception {
+    return super.produce(dependencies);
+  }
+
+  @Override
+  protected final ListenableFuture<T> callProducesMethod(D dependencies) throws Exception {
+    return callProducesMethodUncached(dependencies);
+  }
+
+  /** Calls the cached method, when there is no result in the cache for {@code dependencies}. */
+  protected abstract ListenableFuture<T> callProducesMethodUncached(D dependencies)
+      throws Exception;
+}
@@ -21,11 +21,27 @@ import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import com.google.common.util.concurrent.AbstractFuture;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.producers.Producer;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 
-/** An abstract {@link Producer} implementation that memoizes the result of its compute method. */
+/**
+ * An abstract {@link Producer} implementation that memoizes the result of its compute method.
+ *
+ * <p>A production component creates one of these for every producer node, so the per-node state
+ * is kept small: the requested flag lives in the memoized future itself, and views of this producer
+ * don't allocate a future until they are requested.
+ */
 public abstract class AbstractProducer<T> implements CancellableProducer<T> {
-  private final AtomicBoolean requested = new AtomicBoolean();
+  @SuppressWarnings("rawtypes") // class literals can't be parameterized
+  private static final AtomicReferenceFieldUpdater<
+          AbstractProducer.NonCancellationPropagatingView, ListenableFuture>
+      VIEW_FUTURE_UPDATER =
+          AtomicReferenceFieldUpdater.newUpdater(
+              AbstractProducer.NonCancellationPropagatingView.class,
+              ListenableFuture.class,
+              "viewFuture");
+
   private final NonExternallyCancellableFuture<T> future = new NonExternallyCancellableFuture<T>();
 
   protected AbstractProducer() {}
@@ -35,15 +51,23 @@ public abstract class AbstractProducer<T> implements CancellableProducer<T> {
 
   @Override
   public final ListenableFuture<T> get() {
-    if (requested.compareAndSet(false, true)) {
+    if (future.request()) {
       future.setFuture(compute());
+    } else {
+      requestedAgain();
     }
     return future;
   }
 
+  /**
+   * Called by {@link #get} when this producer's future has already been requested, such as when a
+   * second dependent requests it. This implementation is a no-op.
+   */
+  void requestedAgain() {}
+
   @Override
   public final void cancel(boolean mayInterruptIfRunning) {
-    requested.set(true); // Avoid potentially starting the task later only to cancel it immediately.
+    future.request(); // Avoid potentially starting the task later only to cancel it immediately.
     future.doCancel(mayInterruptIfRunning);
   }
 
@@ -54,30 +78,61 @@ public abstract class AbstractProducer<T> implements CancellableProducer<T> {
 
   @Override
   public Producer<T> newEntryPointView(CancellationListener cancellationListener) {
-    NonCancellationPropagatingView result = new NonCancellationPropagatingView();
-    result.addCancellationListener(cancellationListener);
-    return result;
+    return new EntryPointView(cancellationListener);
   }
 
   /**
    * A view of this producer that returns a future that can be cancelled without cancelling the
    * producer itself.
+   *
+   * <p>Each dependent gets its own view so that cancelling one dependent's future never affects
+   * another's. The view's future is created the first time it is requested, and if this producer's
+   * future is already done by then, that future is returned as is since it can't be cancelled.
    */
-  private final class NonCancellationPropagatingView implements Producer<T> {
+  private class NonCancellationPropagatingView implements Producer<T> {
     /**
      * An independently cancellable view of this node. Needs to be cancellable by normal future
      * cancellation so that the view at an entry point can listen for its cancellation.
+     *
+     * <p>Not private so that {@link #VIEW_FUTURE_UPDATER} can access it.
      */
-    private final ListenableFuture<T> viewFuture = nonCancellationPropagating(future);
+    @NullableDecl volatile ListenableFuture<T> viewFuture;
 
-    @SuppressWarnings("FutureReturnValueIgnored")
+    @SuppressWarnings("unchecked") // viewFuture only ever holds a ListenableFuture<T>
     @Override
     public ListenableFuture<T> get() {
-      AbstractProducer.this.get(); // force compute()
-      return viewFuture;
+      ListenableFuture<T> result = viewFuture;
+      if (result == null) {
+        ListenableFuture<T> newViewFuture =
+            nonCancellationPropagating(AbstractProducer.this.get()); // forces compute()
+        if (VIEW_FUTURE_UPDATER.compareAndSet(this, null, newViewFuture)) {
+          result = newViewFuture;
+          viewFutureCreated(result);
+        } else {
+          // Another thread requested this view first; its future is the one to share.
+          result = (ListenableFuture<T>) VIEW_FUTURE_UPDATER.get(this);
+        }
+      }
+      return result;
+    }
+
+    /** Called once with this view's future when it is first requested. */
+    void viewFutureCreated(ListenableFuture<T> viewFuture) {}
+  }
+
+  /**
+   * A view of this producer at an entry point, which notifies a listener when its future is
+   * cancelled.
+   */
+  private final class EntryPointView extends NonCancellationPropagatingView {
+    private final CancellationListener cancellationListener;
+
+    EntryPointView(CancellationListener cancellationListener) {
+      this.cancellationListener = cancellationListener;
     }
 
-    void addCancellationListener(final CancellationListener cancellationListener) {
+    @Override
+    void viewFutureCreated(final ListenableFuture<T> viewFuture) {
       viewFuture.addListener(
           new Runnable() {
             @Override
@@ -94,8 +149,25 @@ public abstract class AbstractProducer<T> implements CancellableProducer<T> {
     }
   }
 
-  /** A settable future that can't be cancelled via normal future cancellation. */
+  /**
+   * A settable future that can't be cancelled via normal future cancellation, and which records
+   * whether its producer has been requested.
+   */
   private static final class NonExternallyCancellableFuture<T> extends AbstractFuture<T> {
+    @SuppressWarnings("rawtypes") // class literals can't be parameterized
+    private static final AtomicIntegerFieldUpdater<NonExternallyCancellableFuture>
+        REQUESTED_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(NonExternallyCancellableFuture.class, "requested");
+
+    private volatile int requested;
+
+    /**
+     * Marks the producer as requested, returning {@code true} if this is the first time it has
+     * been requested or cancelled.
+     */
+    boolean request() {
+      return requested == 0 && REQUESTED_UPDATER.compareAndSet(this, 0, 1);
+    }
 
     @Override
     public boolean setFuture(ListenableFuture<? extends T> future) {
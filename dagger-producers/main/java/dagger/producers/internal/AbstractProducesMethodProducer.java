@@ -16,9 +16,11 @@
 
 package dagger.producers.internal;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static dagger.internal.Preconditions.checkNotNull;
 import static dagger.internal.Providers.asDaggerProvider;
 
+import com.google.common.util.concurrent.AsyncCallable;
 import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -26,7 +28,10 @@ import dagger.internal.Provider;
 import dagger.producers.monitoring.ProducerMonitor;
 import dagger.producers.monitoring.ProducerToken;
 import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 
 /**
@@ -44,15 +49,65 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
   private final Provider<ProductionComponentMonitor> monitorProvider;
   @NullableDecl private final ProducerToken token;
   private final Provider<Executor> executorProvider;
+  private final boolean runsInline;
+  private final boolean interruptible;
+  @NullableDecl private final ProducerDeadline deadline;
   private volatile ProducerMonitor monitor = null;
 
   protected AbstractProducesMethodProducer(
       Provider<ProductionComponentMonitor> monitorProvider,
       @NullableDecl ProducerToken token,
       Provider<Executor> executorProvider) {
+    this(monitorProvider, token, executorProvider, false);
+  }
+
+  /**
+   * If {@code runsInline} is {@code true}, the {@code @Produces} method is called on the thread
+   * that requests this producer when all of its dependencies are already done, instead of on the
+   * {@link Executor}. See {@link dagger.producers.RunsInline}.
+   */
+  protected AbstractProducesMethodProducer(
+      Provider<ProductionComponentMonitor> monitorProvider,
+      @NullableDecl ProducerToken token,
+      Provider<Executor> executorProvider,
+      boolean runsInline) {
+    this(monitorProvider, token, executorProvider, runsInline, false);
+  }
+
+  /**
+   * If {@code interruptible} is {@code true}, cancelling this producer with {@code
+   * mayInterruptIfRunning} set interrupts the thread that is calling the {@code @Produces} method,
+   * so that a method blocked on I/O or on one of its {@link dagger.producers.Producer} dependencies
+   * stops waiting. Methods that {@linkplain dagger.producers.RunsInline run inline} are never
+   * interrupted.
+   */
+  protected AbstractProducesMethodProducer(
+      Provider<ProductionComponentMonitor> monitorProvider,
+      @NullableDecl ProducerToken token,
+      Provider<Executor> executorProvider,
+      boolean runsInline,
+      boolean interruptible) {
+    this(monitorProvider, token, executorProvider, runsInline, interruptible, null);
+  }
+
+  /**
+   * If {@code deadline} is not {@code null}, the producer fails if it takes longer than the
+   * {@linkplain dagger.producers.Timeout timeout} once its dependencies are available, and may
+   * {@linkplain dagger.producers.Hedged call the method again} if it takes longer than usual.
+   */
+  protected AbstractProducesMethodProducer(
+      Provider<ProductionComponentMonitor> monitorProvider,
+      @NullableDecl ProducerToken token,
+      Provider<Executor> executorProvider,
+      boolean runsInline,
+      boolean interruptible,
+      @NullableDecl ProducerDeadline deadline) {
     this.monitorProvider = checkNotNull(monitorProvider);
     this.token = token;
     this.executorProvider = checkNotNull(executorProvider);
+    this.runsInline = runsInline;
+    this.interruptible = interruptible;
+    this.deadline = deadline;
   }
 
   /**
@@ -77,11 +132,79 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
     } finally {
       monitor.dependenciesRequested();
     }
-    ListenableFuture<T> result = Futures.transformAsync(dependenciesFuture, this, this);
+    ListenableFuture<T> result;
+    if (runsInline && dependenciesFuture.isDone()) {
+      result = computeInline(dependenciesFuture);
+    } else if (interruptible) {
+      // Unlike the function passed to transformAsync, a task started by submitAsync is interrupted
+      // when its future is cancelled with mayInterruptIfRunning. Cancelling the result propagates
+      // to that task once the dependencies are done.
+      result =
+          Futures.transformAsync(dependenciesFuture, new InterruptibleCall(), directExecutor());
+    } else {
+      result = Futures.transformAsync(dependenciesFuture, this, this);
+    }
+    if (deadline != null) {
+      result = deadline.bound(this, dependenciesFuture, result);
+    }
     monitor.addCallbackTo(result);
     return result;
   }
 
+  @Override
+  final void requestedAgain() {
+    // The monitor is null if another thread is still in the first call to compute().
+    ProducerMonitor monitor = this.monitor;
+    if (monitor != null) {
+      monitor.requestedAgain();
+    }
+  }
+
+  /**
+   * Calls the {@code @Produces} method on the current thread, with the same monitor calls and
+   * result as {@code Futures.transformAsync(dependenciesFuture, this, this)} would have.
+   */
+  private ListenableFuture<T> computeInline(ListenableFuture<D> dependenciesFuture) {
+    // Like execute(), which transformAsync calls even if the dependencies failed.
+    monitor.ready();
+    D asyncDependencies;
+    try {
+      asyncDependencies = Futures.getDone(dependenciesFuture);
+    } catch (ExecutionException e) {
+      return Futures.immediateFailedFuture(e.getCause());
+    } catch (CancellationException e) {
+      return Futures.immediateCancelledFuture();
+    }
+    try {
+      ListenableFuture<T> output = apply(asyncDependencies);
+      if (output == null) {
+        return Futures.immediateFailedFuture(
+            new NullPointerException(
+                "AsyncFunction.apply returned null instead of a Future. "
+                    + "Did you mean to return immediateFuture(null)? "
+                    + this));
+      }
+      return output;
+    } catch (Throwable t) {
+      return Futures.immediateFailedFuture(t);
+    }
+  }
+
+  /** Submits the {@code @Produces} method to the executor as an interruptible task. */
+  private final class InterruptibleCall implements AsyncFunction<D, T> {
+    @Override
+    public ListenableFuture<T> apply(final D asyncDependencies) {
+      return Futures.submitAsync(
+          new AsyncCallable<T>() {
+            @Override
+            public ListenableFuture<T> call() throws Exception {
+              return AbstractProducesMethodProducer.this.apply(asyncDependencies);
+            }
+          },
+          AbstractProducesMethodProducer.this);
+    }
+  }
+
   /**
    * Collects the asynchronous dependencies to be passed to {@link
    * Futures#transformAsync(ListenableFuture, AsyncFunction, Executor)}.
@@ -92,6 +215,14 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
   @Deprecated
   @Override
   public final ListenableFuture<T> apply(D asyncDependencies) throws Exception {
+    return produce(asyncDependencies);
+  }
+
+  /**
+   * Calls the {@code @Produces} method between {@link ProducerMonitor#methodStarting()} and {@link
+   * ProducerMonitor#methodFinished()}. Overridden by producers that don't always call the method.
+   */
+  ListenableFuture<T> produce(D asyncDependencies) throws Exception {
     // NOTE(beder): We don't worry about catching exceptions from the monitor methods themselves
     // because we'll wrap all monitoring in non-throwing monitors before we pass them to the
     // factories.
@@ -105,15 +236,44 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
 
   /**
    * Calls the {@link dagger.producers.Produces} method. This will always be called on the {@link
-   * Executor} provided to this producer.
+   * Executor} provided to this producer, unless this producer {@linkplain
+   * dagger.producers.RunsInline runs inline} and its dependencies were already done.
    */
   protected abstract ListenableFuture<T> callProducesMethod(D asyncDependencies) throws Exception;
 
+  /**
+   * Calls the {@code @Produces} method again on the {@link Executor}, for a {@linkplain
+   * dagger.producers.Hedged hedged} producer, without telling the monitor.
+   */
+  final ListenableFuture<T> callProducesMethodAgain(final D asyncDependencies) {
+    AsyncCallable<T> call =
+        new AsyncCallable<T>() {
+          @Override
+          public ListenableFuture<T> call() throws Exception {
+            return callProducesMethod(asyncDependencies);
+          }
+        };
+    return Futures.submitAsync(call, executorProvider.get());
+  }
+
+  /** Returns the monitor for this producer, once it has been requested. */
+  final ProducerMonitor monitor() {
+    return monitor;
+  }
+
   /** @deprecated this may only be called from the internal {@link #compute()} */
   @Deprecated
   @Override
   public final void execute(Runnable runnable) {
     monitor.ready();
-    executorProvider.get().execute(runnable);
+    Executor executor;
+    try {
+      executor = executorProvider.get();
+    } catch (RuntimeException e) {
+      // Futures only propagates a RejectedExecutionException to the future that was waiting on the
+      // executor; anything else thrown here would be logged and leave that future pending forever.
+      throw new RejectedExecutionException(e);
+    }
+    executor.execute(runnable);
   }
 }
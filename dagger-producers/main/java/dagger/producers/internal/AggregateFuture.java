@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * A future whose value is built once from the values of a fixed number of input futures.
+ *
+ * <p>This is used by the multibinding producers in place of transforming each input and combining
+ * the results with {@link Futures#allAsList}: the inputs' values are written into a presized array,
+ * a single countdown tracks how many are still pending, and {@link #combine} is called once when
+ * the last one completes.
+ *
+ * <p>Failure and cancellation behave the same as {@link Futures#allAsList}. This future fails as
+ * soon as any input fails, with that input's failure. It is cancelled if any input is cancelled,
+ * without cancelling the other inputs, which may be used elsewhere. Cancelling this future cancels
+ * all of the inputs.
+ *
+ * <p>Usage: create the future, {@linkplain #setInput set} every input, then call {@link #start}.
+ */
+abstract class AggregateFuture<V, R> extends AbstractFuture<R> {
+  @SuppressWarnings("rawtypes") // class literals can't be parameterized
+  private static final AtomicIntegerFieldUpdater<AggregateFuture> REMAINING_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(AggregateFuture.class, "remaining");
+
+  /** The inputs, or {@code null} once inputs should no longer be cancelled with this future. */
+  @NullableDecl private volatile ListenableFuture<? extends V>[] inputs;
+
+  private final Object[] values;
+  private volatile int remaining;
+
+  @SuppressWarnings({"unchecked", "rawtypes"}) // generic array creation
+  AggregateFuture(int size) {
+    this.inputs = new ListenableFuture[size];
+    this.values = new Object[size];
+    this.remaining = size;
+  }
+
+  /** Sets the input at {@code index}. Must be called for every index before {@link #start}. */
+  final void setInput(int index, ListenableFuture<? extends V> input) {
+    inputs[index] = checkNotNull(input);
+  }
+
+  /** Starts listening to the inputs, and returns this future. */
+  final ListenableFuture<R> start() {
+    ListenableFuture<? extends V>[] localInputs = inputs;
+    if (localInputs.length == 0) {
+      complete();
+      return this;
+    }
+    for (int i = 0; i < localInputs.length; i++) {
+      if (isDone()) {
+        break; // An input has already failed or been cancelled.
+      }
+      ListenableFuture<? extends V> input = localInputs[i];
+      if (input.isDone()) {
+        inputDone(input, i); // Avoid allocating a listener for inputs that are already done.
+      } else {
+        input.addListener(new InputListener(input, i), directExecutor());
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns the value of this future given the values of the inputs, in the order they were set.
+   * Any exception thrown fails this future.
+   */
+  abstract R combine(Object[] values);
+
+  private void inputDone(ListenableFuture<? extends V> input, int index) {
+    if (isDone()) {
+      return;
+    }
+    if (input.isCancelled()) {
+      // Clear the inputs first so that cancelling this future doesn't cancel the others.
+      inputs = null;
+      cancel(false);
+      return;
+    }
+    try {
+      values[index] = Futures.getDone(input);
+    } catch (ExecutionException e) {
+      setException(e.getCause());
+      return;
+    }
+    if (REMAINING_UPDATER.decrementAndGet(this) == 0) {
+      complete();
+    }
+  }
+
+  private void complete() {
+    try {
+      set(combine(values));
+    } catch (Throwable t) {
+      setException(t);
+    }
+  }
+
+  @Override
+  protected final void afterDone() {
+    ListenableFuture<? extends V>[] localInputs = inputs;
+    inputs = null;
+    if (isCancelled() && localInputs != null) {
+      boolean wasInterrupted = wasInterrupted();
+      for (ListenableFuture<? extends V> input : localInputs) {
+        if (input != null) {
+          input.cancel(wasInterrupted);
+        }
+      }
+    }
+    Arrays.fill(values, null);
+  }
+
+  @Override
+  @NullableDecl
+  protected final String pendingToString() {
+    ListenableFuture<? extends V>[] localInputs = inputs;
+    return localInputs == null ? null : "inputs=" + Arrays.toString(localInputs);
+  }
+
+  private final class InputListener implements Runnable {
+    private final ListenableFuture<? extends V> input;
+    private final int index;
+
+    InputListener(ListenableFuture<? extends V> input, int index) {
+      this.input = input;
+      this.index = index;
+    }
+
+    @Override
+    public void run() {
+      inputDone(input, index);
+    }
+  }
+}
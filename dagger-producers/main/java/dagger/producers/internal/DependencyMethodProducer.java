@@ -24,6 +24,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import dagger.producers.Producer;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * Abstract class for implementing producers derived from methods on component dependencies.
@@ -36,49 +37,64 @@ import java.util.Set;
  * cancel it at all.
  */
 public abstract class DependencyMethodProducer<T> implements CancellableProducer<T> {
+  private static final int NOT_CANCELLED = 0;
+  private static final int CANCELLED = 1;
+  private static final int CANCELLED_MAY_INTERRUPT = 2;
 
-  /** Weak set of all incomplete futures this producer has returned. */
+  @SuppressWarnings("rawtypes") // class literals can't be parameterized
+  private static final AtomicIntegerFieldUpdater<DependencyMethodProducer> STATE_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(DependencyMethodProducer.class, "state");
+
+  /**
+   * Weak set of all incomplete futures this producer has returned. The set is concurrent, so
+   * futures are added and removed without holding a lock shared by every caller.
+   */
   private final Set<ListenableFuture<T>> futures =
       Collections.newSetFromMap(new MapMaker().weakKeys().<ListenableFuture<T>, Boolean>makeMap());
 
-  private boolean cancelled = false;
+  /** Whether this producer has been cancelled, and if so, whether it may interrupt. */
+  private volatile int state = NOT_CANCELLED;
 
   /** Calls a method on a component dependency to get a future. */
   protected abstract ListenableFuture<T> callDependencyMethod();
 
   @Override
   public final ListenableFuture<T> get() {
-    synchronized (futures) {
-      if (cancelled) {
-        return Futures.immediateCancelledFuture();
-      }
+    if (state != NOT_CANCELLED) {
+      return Futures.immediateCancelledFuture();
+    }
 
-      final ListenableFuture<T> future = callDependencyMethod();
-      if (!future.isDone() && futures.add(future)) {
-        future.addListener(
-            new Runnable() {
-              @Override
-              public void run() {
-                synchronized (futures) {
-                  futures.remove(future);
-                }
-              }
-            },
-            directExecutor());
+    final ListenableFuture<T> future = callDependencyMethod();
+    if (!future.isDone() && futures.add(future)) {
+      future.addListener(
+          new Runnable() {
+            @Override
+            public void run() {
+              futures.remove(future);
+            }
+          },
+          directExecutor());
+      // cancel() sets the state before cancelling the futures in the set, and this adds the future
+      // to the set before checking the state, so either cancel() sees this future or this sees
+      // that the producer was cancelled.
+      int currentState = state;
+      if (currentState != NOT_CANCELLED) {
+        future.cancel(currentState == CANCELLED_MAY_INTERRUPT);
       }
-      return future;
     }
+    return future;
   }
 
   @Override
   public final void cancel(boolean mayInterruptIfRunning) {
-    synchronized (futures) {
-      cancelled = true;
-      for (ListenableFuture<T> future : futures) {
-        // futures is a concurrent set so that the concurrent removal that will happen here is not
-        // a problem
-        future.cancel(mayInterruptIfRunning);
-      }
+    if (!STATE_UPDATER.compareAndSet(
+        this, NOT_CANCELLED, mayInterruptIfRunning ? CANCELLED_MAY_INTERRUPT : CANCELLED)) {
+      return;
+    }
+    for (ListenableFuture<T> future : futures) {
+      // futures is a concurrent set so that the concurrent removal that will happen here is not
+      // a problem
+      future.cancel(mayInterruptIfRunning);
     }
   }
 
@@ -16,20 +16,13 @@
 
 package dagger.producers.internal;
 
-import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static dagger.internal.Providers.asDaggerProvider;
 
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.internal.Provider;
 import dagger.producers.Producer;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * A {@link Producer} implementation used to implement {@link Map} bindings. This producer returns a
@@ -86,28 +79,25 @@ public final class MapProducer<K, V> extends AbstractMapProducer<K, V, V> {
 
   @Override
   protected ListenableFuture<Map<K, V>> compute() {
-    final List<ListenableFuture<Map.Entry<K, V>>> listOfEntries = new ArrayList<>();
-    for (final Entry<K, Producer<V>> entry : contributingMap().entrySet()) {
-      listOfEntries.add(
-          Futures.transform(
-              entry.getValue().get(),
-              new Function<V, Entry<K, V>>() {
-                @Override
-                public Entry<K, V> apply(V computedValue) {
-                  return Maps.immutableEntry(entry.getKey(), computedValue);
-                }
-              },
-              directExecutor()));
-    }
-
-    return Futures.transform(
-        Futures.allAsList(listOfEntries),
-        new Function<List<Map.Entry<K, V>>, Map<K, V>>() {
+    final ImmutableMap<K, Producer<V>> contributingMap = contributingMap();
+    AggregateFuture<V, Map<K, V>> result =
+        new AggregateFuture<V, Map<K, V>>(contributingMap.size()) {
+          @SuppressWarnings("unchecked") // values[i] is the value of the i-th contribution
           @Override
-          public Map<K, V> apply(List<Map.Entry<K, V>> entries) {
-            return ImmutableMap.copyOf(entries);
+          Map<K, V> combine(Object[] values) {
+            ImmutableMap.Builder<K, V> builder =
+                ImmutableMap.builderWithExpectedSize(values.length);
+            int i = 0;
+            for (K key : contributingMap.keySet()) {
+              builder.put(key, (V) values[i++]);
+            }
+            return builder.build();
           }
-        },
-        directExecutor());
+        };
+    int i = 0;
+    for (Producer<V> producerOfValue : contributingMap.values()) {
+      result.setInput(i++, producerOfValue.get());
+    }
+    return result.start();
   }
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static dagger.internal.Preconditions.checkNotNull;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * Collects the keys requested from every instance of a {@link dagger.producers.Batched} producer
+ * into batches, and calls the batched method once per batch. Each generated factory for a batched
+ * method holds a single instance in a static field.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values produced for them
+ */
+public final class ProducerBatcher<K, V> {
+  private final int maxBatchSize;
+  private final long maxDelayMillis;
+  private final Object lock = new Object();
+  // Guarded by lock.
+  private Batch pendingBatch;
+
+  public ProducerBatcher(int maxBatchSize, long maxDelayMillis) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+    }
+    if (maxDelayMillis < 0) {
+      throw new IllegalArgumentException("maxDelayMillis must not be negative: " + maxDelayMillis);
+    }
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayMillis = maxDelayMillis;
+  }
+
+  /**
+   * Adds {@code key} to the pending batch, starting a new one with {@code producer} if there is
+   * none, and returns a future for its value. The batch is called on the executor of the first
+   * producer that added a key to it, or of a later one if that executor rejects it, but never on
+   * the calling thread.
+   */
+  ListenableFuture<V> add(
+      K key, AbstractBatchedProducesMethodProducer<K, V> producer, Executor executor) {
+    checkNotNull(key);
+    ListenableFuture<V> value;
+    Batch startedBatch = null;
+    Batch fullBatch = null;
+    synchronized (lock) {
+      if (pendingBatch == null) {
+        pendingBatch = startedBatch = new Batch(producer);
+      }
+      value = pendingBatch.add(key, executor);
+      if (pendingBatch.size() >= maxBatchSize) {
+        fullBatch = pendingBatch;
+        pendingBatch = null;
+      }
+    }
+    if (fullBatch != null) {
+      // Don't call the method on this thread: it may be the requesting thread of a @RunsInline
+      // producer, and it's inside this producer's monitor callbacks.
+      Throwable failure = dispatch(fullBatch, fullBatch);
+      if (failure != null) {
+        fullBatch.fail(failure);
+      }
+    } else if (startedBatch != null) {
+      schedule(startedBatch);
+    }
+    return value;
+  }
+
+  /**
+   * Calls {@code batch} on one of its executors once it's due, unless it fills up and is called
+   * first. Keys can still be added to it until the executor runs it.
+   */
+  private void schedule(final Batch batch) {
+    final Runnable callIfPending =
+        new Runnable() {
+          @Override
+          public void run() {
+            if (removeIfPending(batch)) {
+              batch.run();
+            }
+          }
+        };
+    final Runnable dispatchIfPending =
+        new Runnable() {
+          @Override
+          public void run() {
+            Throwable failure = dispatch(batch, callIfPending);
+            // If the batch filled up in the meantime, whoever filled it fails it.
+            if (failure != null && removeIfPending(batch)) {
+              batch.fail(failure);
+            }
+          }
+        };
+    if (maxDelayMillis == 0) {
+      dispatchIfPending.run();
+    } else {
+      ProducerTimer.TIMER.schedule(dispatchIfPending, maxDelayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** Stops adding keys to {@code batch}, and returns false if that was already done. */
+  private boolean removeIfPending(Batch batch) {
+    synchronized (lock) {
+      if (pendingBatch != batch) {
+        return false;
+      }
+      pendingBatch = null;
+      return true;
+    }
+  }
+
+  /**
+   * Submits {@code task} to the first of {@code batch}'s executors that accepts it, and returns
+   * what they threw if none did. The components that added keys to a batch may have been shut down
+   * by the time it's due, so the caller should then fail the batch rather than leave its values
+   * pending.
+   */
+  @NullableDecl
+  private Throwable dispatch(Batch batch, Runnable task) {
+    List<Executor> executors;
+    synchronized (lock) {
+      executors = new ArrayList<>(batch.executors);
+    }
+    Throwable failure = null;
+    for (Executor executor : executors) {
+      try {
+        executor.execute(task);
+        return null;
+      } catch (Throwable t) {
+        if (failure == null) {
+          failure = t;
+        } else {
+          failure.addSuppressed(t);
+        }
+      }
+    }
+    return failure;
+  }
+
+  /** The keys that will be passed to the batched method together. */
+  private final class Batch implements Runnable {
+    private final Map<K, SettableFuture<V>> values = new LinkedHashMap<>();
+    // Guarded by lock.
+    private final Set<Executor> executors = new LinkedHashSet<>();
+    private final AbstractBatchedProducesMethodProducer<K, V> producer;
+
+    Batch(AbstractBatchedProducesMethodProducer<K, V> producer) {
+      this.producer = producer;
+    }
+
+    ListenableFuture<V> add(K key, Executor executor) {
+      executors.add(executor);
+      SettableFuture<V> value = values.get(key);
+      if (value == null) {
+        value = SettableFuture.create();
+        values.put(key, value);
+      }
+      // Cancelling one component's future must not cancel the value for the others.
+      return Futures.nonCancellationPropagating(value);
+    }
+
+    int size() {
+      return values.size();
+    }
+
+    void fail(Throwable t) {
+      for (SettableFuture<V> value : values.values()) {
+        value.setException(t);
+      }
+    }
+
+    @Override
+    public void run() {
+      final List<K> keys = new ArrayList<>(values.keySet());
+      ListenableFuture<List<V>> result;
+      try {
+        result = producer.callBatchMethod(keys);
+        if (result == null) {
+          result =
+              Futures.immediateFailedFuture(
+                  new NullPointerException(producer + " returned null instead of a Future"));
+        }
+      } catch (Throwable t) {
+        result = Futures.immediateFailedFuture(t);
+      }
+      Futures.addCallback(
+          result,
+          new FutureCallback<List<V>>() {
+            @Override
+            public void onSuccess(List<V> batchValues) {
+              if (batchValues == null || batchValues.size() != keys.size()) {
+                onFailure(
+                    new IllegalStateException(
+                        String.format(
+                            "%s returned %s values for %s keys",
+                            producer,
+                            batchValues == null ? "null" : batchValues.size(),
+                            keys.size())));
+                return;
+              }
+              for (int i = 0; i < keys.size(); i++) {
+                values.get(keys.get(i)).set(batchValues.get(i));
+              }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              fail(t);
+            }
+          },
+          directExecutor());
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.producers.monitoring.ProducerMonitor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The results of a {@link dagger.producers.Cached} producer, keyed by the producer's inputs. Each
+ * generated factory for a cached method holds a single instance in a static field.
+ *
+ * @param <D> the type of the producer's inputs
+ * @param <T> the type of the produced value
+ */
+public final class ProducerCache<D, T> {
+  private final long ttlNanos;
+  private final Ticker ticker;
+  private final Object lock = new Object();
+  // Guarded by lock. Ordered by access, so that the eldest entry is the least recently used one.
+  private final Map<D, Entry<T>> entries;
+
+  public ProducerCache(int maxSize, long ttlMillis) {
+    this(maxSize, ttlMillis, Ticker.systemTicker());
+  }
+
+  ProducerCache(final int maxSize, long ttlMillis, Ticker ticker) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+    }
+    if (ttlMillis < 0) {
+      throw new IllegalArgumentException("ttlMillis must not be negative: " + ttlMillis);
+    }
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    this.ticker = ticker;
+    this.entries =
+        new LinkedHashMap<D, Entry<T>>(16, 0.75f, /* accessOrder= */ true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<D, Entry<T>> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  /**
+   * Returns the cached result of {@code producer} for {@code inputs}, or calls its method and
+   * caches the result if there is none. {@code monitor} is told which one happened, and only sees
+   * the method start and finish if it's called.
+   */
+  ListenableFuture<T> get(
+      D inputs, AbstractCachedProducesMethodProducer<D, T> producer, ProducerMonitor monitor) {
+    Entry<T> entry;
+    boolean hit;
+    synchronized (lock) {
+      entry = entries.get(inputs);
+      hit = entry != null && (!entry.value.isDone() || ticker.read() - entry.expiresAtNanos < 0);
+      if (!hit) {
+        entry = new Entry<>(SettableFuture.<T>create(), ticker.read() + ttlNanos);
+        entries.put(inputs, entry);
+      }
+    }
+    if (hit) {
+      monitor.cacheHit();
+      // Cancelling one component's future must not cancel the result for the others.
+      return Futures.nonCancellationPropagating(entry.value);
+    }
+    monitor.cacheMissed();
+    SettableFuture<T> result = entry.value;
+    try {
+      result.setFuture(producer.produceUncached(inputs));
+    } catch (Throwable t) {
+      result.setException(t);
+    }
+    removeIfFailed(inputs, result);
+    return Futures.nonCancellationPropagating(result);
+  }
+
+  private void removeIfFailed(final D inputs, final SettableFuture<T> result) {
+    result.addListener(
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              Futures.getDone(result);
+            } catch (ExecutionException | RuntimeException e) {
+              synchronized (lock) {
+                Entry<T> entry = entries.get(inputs);
+                if (entry != null && entry.value == result) {
+                  entries.remove(inputs);
+                }
+              }
+            }
+          }
+        },
+        directExecutor());
+  }
+
+  /** Returns the number of results in the cache, including expired ones not yet replaced. */
+  int size() {
+    synchronized (lock) {
+      return entries.size();
+    }
+  }
+
+  private static final class Entry<T> {
+    final SettableFuture<T> value;
+    final long expiresAtNanos;
+
+    Entry(SettableFuture<T> value, long expiresAtNanos) {
+      this.value = value;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+  }
+}
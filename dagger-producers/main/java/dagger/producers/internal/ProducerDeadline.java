@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.producers.monitoring.LatencyHistogram;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * The {@link dagger.producers.Timeout} and {@link dagger.producers.Hedged} policy of a producer.
+ * Each generated factory for such a method holds a single instance in a static field, so that the
+ * latencies used to decide when to hedge are shared by all components.
+ */
+public final class ProducerDeadline {
+  /** The number of successes needed before hedging starts. */
+  static final int MIN_HEDGE_SAMPLES = 64;
+
+  /** How often, in successes, the hedging delay is recomputed from the latency histogram. */
+  private static final int HEDGE_DELAY_INTERVAL = 64;
+
+  private static final long NO_HEDGE = -1;
+
+  private final long timeoutNanos;
+  private final double hedgePercentile;
+  private final long hedgeMinDelayNanos;
+  private final Ticker ticker;
+  private final ScheduledExecutorService timer;
+  @NullableDecl private final LatencyHistogram latencies;
+  private final AtomicLong successes = new AtomicLong();
+  private volatile long hedgeDelayNanos = NO_HEDGE;
+
+  /**
+   * @param timeoutMillis the timeout, or 0 for none
+   * @param hedgePercentile the latency percentile after which to hedge, or 0 to not hedge
+   * @param hedgeMinDelayMillis the minimum time to wait before hedging
+   */
+  public ProducerDeadline(long timeoutMillis, double hedgePercentile, long hedgeMinDelayMillis) {
+    this(
+        timeoutMillis,
+        hedgePercentile,
+        hedgeMinDelayMillis,
+        Ticker.systemTicker(),
+        ProducerTimer.TIMER);
+  }
+
+  ProducerDeadline(
+      long timeoutMillis,
+      double hedgePercentile,
+      long hedgeMinDelayMillis,
+      Ticker ticker,
+      ScheduledExecutorService timer) {
+    if (timeoutMillis < 0) {
+      throw new IllegalArgumentException("timeoutMillis must not be negative: " + timeoutMillis);
+    }
+    if (hedgePercentile < 0 || hedgePercentile >= 100) {
+      throw new IllegalArgumentException(
+          "hedgePercentile must be between 0 and 100: " + hedgePercentile);
+    }
+    if (hedgeMinDelayMillis < 0) {
+      throw new IllegalArgumentException(
+          "hedgeMinDelayMillis must not be negative: " + hedgeMinDelayMillis);
+    }
+    this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    this.hedgePercentile = hedgePercentile;
+    this.hedgeMinDelayNanos = TimeUnit.MILLISECONDS.toNanos(hedgeMinDelayMillis);
+    this.ticker = ticker;
+    this.timer = timer;
+    this.latencies = hedgePercentile > 0 ? new LatencyHistogram() : null;
+  }
+
+  /**
+   * Returns a future for the value of {@code producer} that fails if {@code firstCall} takes too
+   * long, and that may also call the producer's method again once {@code dependencies} are
+   * available.
+   */
+  <D, T> ListenableFuture<T> bound(
+      AbstractProducesMethodProducer<D, T> producer,
+      final ListenableFuture<D> dependencies,
+      ListenableFuture<T> firstCall) {
+    final BoundedFuture<D, T> result = new BoundedFuture<>(producer, firstCall);
+    dependencies.addListener(
+        new Runnable() {
+          @Override
+          public void run() {
+            result.start(dependencies);
+          }
+        },
+        directExecutor());
+    return result;
+  }
+
+  /** Returns how long to wait before hedging, or a negative value to not hedge. */
+  long hedgeDelayNanos() {
+    return hedgeDelayNanos;
+  }
+
+  private void recordSuccess(long latencyNanos) {
+    if (latencies == null) {
+      return;
+    }
+    latencies.record(latencyNanos);
+    long count = successes.incrementAndGet();
+    if (count % HEDGE_DELAY_INTERVAL == 0 && count >= MIN_HEDGE_SAMPLES) {
+      hedgeDelayNanos =
+          Math.max(latencies.snapshot().percentileNanos(hedgePercentile), hedgeMinDelayNanos);
+    }
+  }
+
+  /**
+   * The result of a producer, which is completed by whichever call succeeds first, or fails when
+   * the timeout runs out.
+   */
+  private final class BoundedFuture<D, T> extends AbstractFuture<T> {
+    private final AbstractProducesMethodProducer<D, T> producer;
+    private final ListenableFuture<T> firstCall;
+    // The remaining fields are guarded by this.
+    @NullableDecl private ListenableFuture<T> secondCall;
+    @NullableDecl private Future<?> timeoutTask;
+    @NullableDecl private Future<?> hedgeTask;
+    private boolean started;
+    private long startNanos;
+
+    BoundedFuture(AbstractProducesMethodProducer<D, T> producer, ListenableFuture<T> firstCall) {
+      this.producer = producer;
+      this.firstCall = firstCall;
+      addCallListener(firstCall);
+    }
+
+    /** Starts the timeout and hedging timers once the producer's inputs are available. */
+    void start(ListenableFuture<D> dependencies) {
+      final D inputs;
+      try {
+        inputs = Futures.getDone(dependencies);
+      } catch (ExecutionException | RuntimeException e) {
+        // The first call fails with the same exception, without calling the method.
+        return;
+      }
+      long hedgeDelay = hedgeDelayNanos;
+      synchronized (this) {
+        if (isDone()) {
+          return;
+        }
+        started = true;
+        startNanos = ticker.read();
+        if (timeoutNanos > 0) {
+          timeoutTask =
+              timer.schedule(
+                  new Runnable() {
+                    @Override
+                    public void run() {
+                      setException(
+                          new TimeoutException(
+                              producer.getClass().getName()
+                                  + " timed out after "
+                                  + TimeUnit.NANOSECONDS.toMillis(timeoutNanos)
+                                  + "ms"));
+                    }
+                  },
+                  timeoutNanos,
+                  TimeUnit.NANOSECONDS);
+        }
+        if (hedgeDelay >= 0 && (timeoutNanos == 0 || hedgeDelay < timeoutNanos)) {
+          hedgeTask =
+              timer.schedule(
+                  new Runnable() {
+                    @Override
+                    public void run() {
+                      hedge(inputs);
+                    }
+                  },
+                  hedgeDelay,
+                  TimeUnit.NANOSECONDS);
+        }
+      }
+    }
+
+    private void hedge(D inputs) {
+      synchronized (this) {
+        if (isDone() || firstCall.isDone()) {
+          return;
+        }
+      }
+      ListenableFuture<T> call = producer.callProducesMethodAgain(inputs);
+      boolean done;
+      synchronized (this) {
+        secondCall = call;
+        done = isDone();
+      }
+      if (done) {
+        // afterDone() may have run before the second call was recorded.
+        call.cancel(true);
+        return;
+      }
+      addCallListener(call);
+    }
+
+    private void addCallListener(final ListenableFuture<T> call) {
+      call.addListener(
+          new Runnable() {
+            @Override
+            public void run() {
+              callDone(call);
+            }
+          },
+          directExecutor());
+    }
+
+    private void callDone(ListenableFuture<T> call) {
+      T value;
+      try {
+        value = Futures.getDone(call);
+      } catch (ExecutionException | RuntimeException e) {
+        synchronized (this) {
+          ListenableFuture<T> otherCall = call == firstCall ? secondCall : firstCall;
+          if (otherCall != null && !otherCall.isDone()) {
+            // Wait for the other call, which may still succeed.
+            return;
+          }
+        }
+        // Propagates the failure or cancellation of the call.
+        setFuture(call);
+        return;
+      }
+      if (set(value)) {
+        long latencyNanos;
+        synchronized (this) {
+          // The first call may finish before start() runs if it doesn't use a separate executor,
+          // in which case its latency is unknown. Recording it as 0 would make hedging too eager.
+          if (!started) {
+            return;
+          }
+          latencyNanos = ticker.read() - startNanos;
+        }
+        recordSuccess(latencyNanos);
+      }
+    }
+
+    @Override
+    protected void afterDone() {
+      // Stop the other call when one succeeds or the timeout runs out, and pass on cancellation.
+      boolean mayInterruptIfRunning = !isCancelled() || wasInterrupted();
+      ListenableFuture<T> secondCall;
+      synchronized (this) {
+        cancelIfNotNull(timeoutTask, false);
+        cancelIfNotNull(hedgeTask, false);
+        secondCall = this.secondCall;
+      }
+      firstCall.cancel(mayInterruptIfRunning);
+      cancelIfNotNull(secondCall, mayInterruptIfRunning);
+    }
+
+    @Override
+    protected String pendingToString() {
+      return "producer=[" + producer.getClass().getName() + "]";
+    }
+  }
+
+  private static void cancelIfNotNull(@NullableDecl Future<?> future, boolean mayInterrupt) {
+    if (future != null) {
+      future.cancel(mayInterrupt);
+    }
+  }
+}
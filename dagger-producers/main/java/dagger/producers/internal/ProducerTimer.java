@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Holds the daemon thread that producers use for delayed work, such as calling a {@link
+ * dagger.producers.Batched} method once its batch is due, or failing a producer when its {@link
+ * dagger.producers.Timeout} expires. The thread is only started when a producer first needs it.
+ *
+ * <p>Since all producers share this thread, tasks scheduled on it must only complete a future or
+ * hand work off to an executor.
+ */
+final class ProducerTimer {
+  static final ScheduledExecutorService TIMER =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("dagger-producers-timer-%d")
+              .build());
+
+  private ProducerTimer() {}
+}
@@ -16,18 +16,12 @@
 
 package dagger.producers.internal;
 
-import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.util.concurrent.Futures.transform;
-import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static dagger.internal.DaggerCollections.hasDuplicates;
 import static dagger.internal.DaggerCollections.presizedList;
 
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.producers.Producer;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -116,32 +110,30 @@ public final class SetProducer<T> extends AbstractProducer<Set<T>> {
    */
   @Override
   public ListenableFuture<Set<T>> compute() {
-    List<ListenableFuture<T>> individualFutures =
-        new ArrayList<ListenableFuture<T>>(individualProducers.size());
-    for (Producer<T> producer : individualProducers) {
-      individualFutures.add(checkNotNull(producer.get()));
-    }
-
-    // Presize the list of collections produced by the amount of collectionProducers, with one more
-    // for the consolidate individualFutures from Futures.allAsList.
-    List<ListenableFuture<? extends Collection<T>>> futureCollections =
-        new ArrayList<ListenableFuture<? extends Collection<T>>>(collectionProducers.size() + 1);
-    futureCollections.add(Futures.allAsList(individualFutures));
-    for (Producer<Collection<T>> producer : collectionProducers) {
-      futureCollections.add(checkNotNull(producer.get()));
-    }
-    return transform(
-        Futures.allAsList(futureCollections),
-        new Function<List<Collection<T>>, Set<T>>() {
+    final int individualCount = individualProducers.size();
+    AggregateFuture<Object, Set<T>> result =
+        new AggregateFuture<Object, Set<T>>(individualCount + collectionProducers.size()) {
+          @SuppressWarnings("unchecked") // elements, followed by collections of elements
           @Override
-          public Set<T> apply(List<Collection<T>> sets) {
-            ImmutableSet.Builder<T> builder = ImmutableSet.builder();
-            for (Collection<T> set : sets) {
-              builder.addAll(set);
+          Set<T> combine(Object[] values) {
+            ImmutableSet.Builder<T> builder =
+                ImmutableSet.builderWithExpectedSize(values.length);
+            for (int i = 0; i < individualCount; i++) {
+              builder.add((T) values[i]);
+            }
+            for (int i = individualCount; i < values.length; i++) {
+              builder.addAll((Collection<T>) values[i]);
             }
             return builder.build();
           }
-        },
-        directExecutor());
+        };
+    int i = 0;
+    for (Producer<T> producer : individualProducers) {
+      result.setInput(i++, producer.get());
+    }
+    for (Producer<Collection<T>> producer : collectionProducers) {
+      result.setInput(i++, producer.get());
+    }
+    return result.start();
   }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import javax.inject.Inject;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An executor that runs each task on a new virtual thread. Bound by {@link
+ * dagger.producers.VirtualThreadProductionExecutorModule}.
+ */
+public final class VirtualThreadExecutor implements Executor {
+  private final ThreadFactory threadFactory;
+
+  /**
+   * Creates the executor.
+   *
+   * @throws UnsupportedOperationException if the runtime doesn't support virtual threads
+   */
+  @Inject
+  public VirtualThreadExecutor() {
+    this.threadFactory = ThreadFactoryHolder.threadFactory();
+  }
+
+  @Override
+  public void execute(Runnable runnable) {
+    threadFactory.newThread(runnable).start();
+  }
+
+  /**
+   * Looks up the virtual thread factory once, the first time an executor is created. The producers
+   * runtime targets Java 8, so {@code Thread.ofVirtual()} has to be called reflectively.
+   */
+  private static final class ThreadFactoryHolder {
+    private static final @Nullable ThreadFactory THREAD_FACTORY;
+    private static final @Nullable ReflectiveOperationException LOOKUP_FAILURE;
+
+    static {
+      ThreadFactory threadFactory = null;
+      ReflectiveOperationException lookupFailure = null;
+      try {
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        threadFactory =
+            (ThreadFactory)
+                Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+      } catch (ReflectiveOperationException e) {
+        lookupFailure = e;
+      }
+      THREAD_FACTORY = threadFactory;
+      LOOKUP_FAILURE = lookupFailure;
+    }
+
+    static ThreadFactory threadFactory() {
+      if (THREAD_FACTORY == null) {
+        throw new UnsupportedOperationException(
+            "Virtual threads require Java 21 or later", LOOKUP_FAILURE);
+      }
+      return THREAD_FACTORY;
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import com.google.common.collect.ImmutableMap;
+import dagger.internal.Beta;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A timing recorder factory that aggregates the timings of each producer, across all components
+ * that it is installed in, into {@linkplain LatencyHistogram lock-free histograms}.
+ *
+ * <p>To get percentiles for each interval, such as each minute, call {@link #snapshotAndReset()}
+ * periodically:
+ *
+ * <pre><code>
+ *   for (Map.Entry&lt;ProducerToken, ProducerTimings&gt; entry :
+ *       recorder.snapshotAndReset().entrySet()) {
+ *     LatencyHistogram.Snapshot latencies = entry.getValue().successLatencies();
+ *     export(entry.getKey(), latencies.percentileNanos(50), latencies.percentileNanos(99));
+ *   }
+ * </code></pre>
+ */
+@Beta
+public final class HistogramTimingRecorder implements ProductionComponentTimingRecorder.Factory {
+  private final ConcurrentMap<ProducerToken, HistogramProducerTimingRecorder> recorders =
+      new ConcurrentHashMap<>();
+
+  private final ProductionComponentTimingRecorder componentRecorder =
+      new ProductionComponentTimingRecorder() {
+        @Override
+        public ProducerTimingRecorder producerTimingRecorderFor(ProducerToken token) {
+          HistogramProducerTimingRecorder recorder = recorders.get(token);
+          if (recorder == null) {
+            HistogramProducerTimingRecorder newRecorder = new HistogramProducerTimingRecorder();
+            recorder = recorders.putIfAbsent(token, newRecorder);
+            if (recorder == null) {
+              recorder = newRecorder;
+            }
+          }
+          return recorder;
+        }
+      };
+
+  /** Returns a recorder that shares this recorder's histograms with all other components. */
+  @Override
+  public ProductionComponentTimingRecorder create(Object component) {
+    return componentRecorder;
+  }
+
+  /** Returns the timings recorded so far for each producer. */
+  public ImmutableMap<ProducerToken, ProducerTimings> snapshot() {
+    return snapshot(false);
+  }
+
+  /** Returns the timings recorded for each producer since the last reset, and resets them. */
+  public ImmutableMap<ProducerToken, ProducerTimings> snapshotAndReset() {
+    return snapshot(true);
+  }
+
+  private ImmutableMap<ProducerToken, ProducerTimings> snapshot(boolean reset) {
+    ImmutableMap.Builder<ProducerToken, ProducerTimings> snapshot = ImmutableMap.builder();
+    for (Map.Entry<ProducerToken, HistogramProducerTimingRecorder> entry : recorders.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().snapshot(reset));
+    }
+    return snapshot.build();
+  }
+
+  /** The timings recorded for a single producer. */
+  public static final class ProducerTimings {
+    private final LatencyHistogram.Snapshot methodDurations;
+    private final LatencyHistogram.Snapshot successLatencies;
+    private final LatencyHistogram.Snapshot failureLatencies;
+    private final long skips;
+
+    ProducerTimings(
+        LatencyHistogram.Snapshot methodDurations,
+        LatencyHistogram.Snapshot successLatencies,
+        LatencyHistogram.Snapshot failureLatencies,
+        long skips) {
+      this.methodDurations = methodDurations;
+      this.successLatencies = successLatencies;
+      this.failureLatencies = failureLatencies;
+      this.skips = skips;
+    }
+
+    /** The time spent in the producer method. */
+    public LatencyHistogram.Snapshot methodDurations() {
+      return methodDurations;
+    }
+
+    /** The time from when the producer method started until its future succeeded. */
+    public LatencyHistogram.Snapshot successLatencies() {
+      return successLatencies;
+    }
+
+    /** The time from when the producer method started until it or its future failed. */
+    public LatencyHistogram.Snapshot failureLatencies() {
+      return failureLatencies;
+    }
+
+    /** The number of times that the producer was skipped because one of its inputs failed. */
+    public long skips() {
+      return skips;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "method: {%s}, success: {%s}, failure: {%s}, skips: %d",
+          methodDurations, successLatencies, failureLatencies, skips);
+    }
+  }
+
+  private static final class HistogramProducerTimingRecorder extends ProducerTimingRecorder {
+    private final LatencyHistogram methodDurations = new LatencyHistogram();
+    private final LatencyHistogram successLatencies = new LatencyHistogram();
+    private final LatencyHistogram failureLatencies = new LatencyHistogram();
+    private final AtomicLong skips = new AtomicLong();
+
+    @Override
+    public void recordMethod(long startedNanos, long durationNanos) {
+      methodDurations.record(durationNanos);
+    }
+
+    @Override
+    public void recordSuccess(long latencyNanos) {
+      successLatencies.record(latencyNanos);
+    }
+
+    @Override
+    public void recordFailure(Throwable exception, long latencyNanos) {
+      failureLatencies.record(latencyNanos);
+    }
+
+    @Override
+    public void recordSkip(Throwable exception) {
+      skips.incrementAndGet();
+    }
+
+    ProducerTimings snapshot(boolean reset) {
+      if (reset) {
+        return new ProducerTimings(
+            methodDurations.snapshotAndReset(),
+            successLatencies.snapshotAndReset(),
+            failureLatencies.snapshotAndReset(),
+            skips.getAndSet(0));
+      }
+      return new ProducerTimings(
+          methodDurations.snapshot(),
+          successLatencies.snapshot(),
+          failureLatencies.snapshot(),
+          skips.get());
+    }
+  }
+}
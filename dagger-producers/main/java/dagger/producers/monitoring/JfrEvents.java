@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** The JDK Flight Recorder events that Dagger emits. */
+final class JfrEvents {
+  static final EventType PRODUCER_QUEUED = EventType.getEventType(ProducerQueued.class);
+  static final EventType PRODUCER_EXECUTION = EventType.getEventType(ProducerExecution.class);
+  static final EventType PRODUCER_FAILURE = EventType.getEventType(ProducerFailure.class);
+  static final EventType SCOPED_PROVISION = EventType.getEventType(ScopedProvision.class);
+
+  @Name("dagger.ProducerQueued")
+  @Label("Producer Queued")
+  @Category({"Dagger", "Producers"})
+  @Description("Time from when a producer's inputs were ready until its method started running")
+  @StackTrace(false)
+  static final class ProducerQueued extends Event {
+    @Label("Component")
+    Class<?> component;
+
+    @Label("Producer")
+    String producer;
+  }
+
+  @Name("dagger.ProducerExecution")
+  @Label("Producer Execution")
+  @Category({"Dagger", "Producers"})
+  @Description("Time spent in a producer method, not including any future that it returns")
+  @StackTrace(false)
+  static final class ProducerExecution extends Event {
+    @Label("Component")
+    Class<?> component;
+
+    @Label("Producer")
+    String producer;
+  }
+
+  @Name("dagger.ProducerFailure")
+  @Label("Producer Failure")
+  @Category({"Dagger", "Producers"})
+  @Description("A producer failed, either itself or because one of its inputs failed")
+  @StackTrace(false)
+  static final class ProducerFailure extends Event {
+    @Label("Component")
+    Class<?> component;
+
+    @Label("Producer")
+    String producer;
+
+    @Label("Exception")
+    Class<?> exception;
+
+    @Label("Message")
+    String message;
+
+    @Label("Input Failed")
+    @Description("Whether the producer method was skipped because one of its inputs failed")
+    boolean inputFailed;
+  }
+
+  @Name("dagger.ScopedProvision")
+  @Label("Scoped Provision")
+  @Category("Dagger")
+  @Description(
+      "Time to create the instance of a scoped binding, including any scoped dependencies that it"
+          + " created")
+  static final class ScopedProvision extends Event {
+    @Label("Provider")
+    Class<?> provider;
+
+    @Label("Instance")
+    Class<?> instance;
+  }
+
+  private JfrEvents() {}
+}
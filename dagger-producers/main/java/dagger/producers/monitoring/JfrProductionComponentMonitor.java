@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import dagger.internal.Beta;
+import dagger.producers.monitoring.JfrEvents.ProducerExecution;
+import dagger.producers.monitoring.JfrEvents.ProducerFailure;
+import dagger.producers.monitoring.JfrEvents.ProducerQueued;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * A monitor that emits JDK Flight Recorder events for the producers of a production component:
+ *
+ * <ul>
+ *   <li>{@code dagger.ProducerQueued}, from when a producer's inputs are ready until its method
+ *       starts running, which is usually time spent waiting for the executor;
+ *   <li>{@code dagger.ProducerExecution}, for the time spent in the producer method itself; and
+ *   <li>{@code dagger.ProducerFailure}, when a producer fails.
+ * </ul>
+ *
+ * <p>Events are only allocated while a recording has enabled them, so installing this monitor has
+ * little overhead outside of a recording.
+ *
+ * <p>Although the rest of the producers library runs on Java 8, this monitor uses the {@code
+ * jdk.jfr} API, which requires JDK 8u262 or later, or JDK 11 or later. Creating a {@link Factory}
+ * on a runtime without it throws {@link UnsupportedOperationException}.
+ *
+ * <p>To attribute the initialization of scoped bindings as well, see {@link
+ * JfrScopedProvisionRecorder}.
+ */
+@Beta
+public final class JfrProductionComponentMonitor extends ProductionComponentMonitor {
+  private final Class<?> componentClass;
+
+  JfrProductionComponentMonitor(Class<?> componentClass) {
+    this.componentClass = componentClass;
+  }
+
+  @Override
+  public ProducerMonitor producerMonitorFor(ProducerToken token) {
+    return new JfrProducerMonitor(componentClass, token);
+  }
+
+  /**
+   * Throws {@link UnsupportedOperationException} if the runtime doesn't include the {@code jdk.jfr}
+   * API, instead of failing with a {@link NoClassDefFoundError} the first time an event is emitted.
+   * This class must not refer to the {@code jdk.jfr} classes directly so that it can be loaded to
+   * run this check.
+   */
+  static void checkFlightRecorderAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event");
+    } catch (ClassNotFoundException e) {
+      throw new UnsupportedOperationException(
+          "JDK Flight Recorder events require JDK 8u262 or later", e);
+    }
+  }
+
+  private static final class JfrProducerMonitor extends ProducerMonitor {
+    private final Class<?> componentClass;
+    private final ProducerToken token;
+    @NullableDecl private ProducerQueued queued;
+    @NullableDecl private ProducerExecution execution;
+    private boolean methodStarted;
+
+    JfrProducerMonitor(Class<?> componentClass, ProducerToken token) {
+      this.componentClass = componentClass;
+      this.token = token;
+    }
+
+    @Override
+    public void ready() {
+      if (JfrEvents.PRODUCER_QUEUED.isEnabled()) {
+        queued = new ProducerQueued();
+        queued.begin();
+      }
+    }
+
+    @Override
+    public void methodStarting() {
+      methodStarted = true;
+      ProducerQueued queued = this.queued;
+      if (queued != null) {
+        this.queued = null;
+        queued.end();
+        if (queued.shouldCommit()) {
+          queued.component = componentClass;
+          queued.producer = token.toString();
+          queued.commit();
+        }
+      }
+      if (JfrEvents.PRODUCER_EXECUTION.isEnabled()) {
+        execution = new ProducerExecution();
+        execution.begin();
+      }
+    }
+
+    @Override
+    public void methodFinished() {
+      ProducerExecution execution = this.execution;
+      if (execution != null) {
+        this.execution = null;
+        execution.end();
+        if (execution.shouldCommit()) {
+          execution.component = componentClass;
+          execution.producer = token.toString();
+          execution.commit();
+        }
+      }
+    }
+
+    @Override
+    public void failed(Throwable t) {
+      if (JfrEvents.PRODUCER_FAILURE.isEnabled()) {
+        ProducerFailure failure = new ProducerFailure();
+        if (failure.shouldCommit()) {
+          failure.component = componentClass;
+          failure.producer = token.toString();
+          failure.exception = t.getClass();
+          failure.message = t.getMessage();
+          failure.inputFailed = !methodStarted;
+          failure.commit();
+        }
+      }
+    }
+  }
+
+  public static final class Factory extends ProductionComponentMonitor.Factory {
+    /**
+     * Creates the factory.
+     *
+     * @throws UnsupportedOperationException if the runtime doesn't include JDK Flight Recorder
+     */
+    public Factory() {
+      checkFlightRecorderAvailable();
+    }
+
+    @Override
+    public ProductionComponentMonitor create(Object component) {
+      return new JfrProductionComponentMonitor(component.getClass());
+    }
+  }
+}
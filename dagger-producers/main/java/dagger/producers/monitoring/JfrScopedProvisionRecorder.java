@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import dagger.internal.Beta;
+import dagger.internal.ScopedProvisionObserver;
+import dagger.producers.monitoring.JfrEvents.ScopedProvision;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * Emits a {@code dagger.ScopedProvision} JDK Flight Recorder event each time a scoped binding
+ * creates its instance, so that component startup can be attributed to individual bindings.
+ *
+ * <p>The event records the class of the binding's provider, which is usually its generated factory,
+ * and the class of the instance that it created. Its duration includes the time to create any
+ * scoped dependencies that weren't already initialized, which are recorded as their own, nested
+ * events.
+ *
+ * <p>This applies to all components in the JVM. It lives in the producers library because the
+ * Dagger runtime also targets platforms without the {@code jdk.jfr} module. Like {@link
+ * JfrProductionComponentMonitor}, it requires JDK 8u262 or later, or JDK 11 or later.
+ */
+@Beta
+public final class JfrScopedProvisionRecorder extends ScopedProvisionObserver {
+  private static final JfrScopedProvisionRecorder INSTANCE = new JfrScopedProvisionRecorder();
+
+  /**
+   * Starts emitting events for scoped bindings that are initialized after this call.
+   *
+   * @throws UnsupportedOperationException if the runtime doesn't include JDK Flight Recorder
+   */
+  public static void install() {
+    JfrProductionComponentMonitor.checkFlightRecorderAvailable();
+    ScopedProvisionObserver.install(INSTANCE);
+  }
+
+  /** Stops emitting events. */
+  public static void uninstall() {
+    ScopedProvisionObserver.install(null);
+  }
+
+  private JfrScopedProvisionRecorder() {}
+
+  @Override
+  @NullableDecl
+  public Object starting(Object provider) {
+    if (!JfrEvents.SCOPED_PROVISION.isEnabled()) {
+      return null;
+    }
+    ScopedProvision event = new ScopedProvision();
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void finished(
+      @NullableDecl Object context, Object provider, @NullableDecl Object instance) {
+    if (context == null) {
+      return;
+    }
+    ScopedProvision event = (ScopedProvision) context;
+    event.end();
+    if (event.shouldCommit()) {
+      event.provider = provider.getClass();
+      event.instance = instance == null ? null : instance.getClass();
+      event.commit();
+    }
+  }
+}
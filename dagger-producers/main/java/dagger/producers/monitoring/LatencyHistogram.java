@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import dagger.internal.Beta;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free histogram of latencies, in nanoseconds, with log-linear buckets: each power of two is
+ * split into 8 equal buckets, so recorded values are accurate to within 12.5%. Values of 2<sup>41
+ * </sup> nanoseconds (about 36 minutes) or more are counted in the last bucket.
+ *
+ * <p>Counts are kept in a shared stripe until two threads contend on it, at which point the losing
+ * thread starts recording into a separate stripe, chosen by its thread ID. Stripes are only
+ * allocated on contention, so histograms for producers that are rarely called concurrently stay
+ * small.
+ */
+@Beta
+@SuppressWarnings("GoodTime") // should use java.time.Duration
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 40;
+  static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  /** The index in each stripe of the sum of the recorded values. */
+  private static final int SUM_INDEX = BUCKET_COUNT;
+
+  private static final int STRIPE_COUNT =
+      Math.min(Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2, 64);
+
+  private final AtomicReferenceArray<AtomicLongArray> stripes =
+      new AtomicReferenceArray<>(STRIPE_COUNT);
+
+  public LatencyHistogram() {
+    stripes.set(0, newStripe());
+  }
+
+  /** Records a single value. Negative values are recorded as zero. */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    int bucket = bucketIndex(value);
+    AtomicLongArray stripe = stripes.get(stripeIndex());
+    if (stripe == null) {
+      AtomicLongArray shared = stripes.get(0);
+      long count = shared.get(bucket);
+      if (shared.compareAndSet(bucket, count, count + 1)) {
+        shared.addAndGet(SUM_INDEX, value);
+        return;
+      }
+      stripe = contendedStripe();
+    }
+    stripe.incrementAndGet(bucket);
+    stripe.addAndGet(SUM_INDEX, value);
+  }
+
+  /** Returns the values recorded so far. */
+  public Snapshot snapshot() {
+    return snapshot(false);
+  }
+
+  /**
+   * Returns the values recorded since the last reset and resets the histogram. Calling this
+   * periodically gives the distribution of values for each period; every value is included in
+   * exactly one snapshot, although a concurrently recorded value's contribution to {@link
+   * Snapshot#totalNanos()} may land in an adjacent snapshot.
+   */
+  public Snapshot snapshotAndReset() {
+    return snapshot(true);
+  }
+
+  private Snapshot snapshot(boolean reset) {
+    long[] counts = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      AtomicLongArray stripe = stripes.get(i);
+      if (stripe == null) {
+        continue;
+      }
+      for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+        counts[bucket] += reset ? stripe.getAndSet(bucket, 0) : stripe.get(bucket);
+      }
+      total += reset ? stripe.getAndSet(SUM_INDEX, 0) : stripe.get(SUM_INDEX);
+    }
+    return new Snapshot(counts, total);
+  }
+
+  private static int stripeIndex() {
+    long id = Thread.currentThread().getId();
+    int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return (hash >>> 16) & (STRIPE_COUNT - 1);
+  }
+
+  private AtomicLongArray contendedStripe() {
+    int index = stripeIndex();
+    AtomicLongArray stripe = newStripe();
+    if (index == 0 || !stripes.compareAndSet(index, null, stripe)) {
+      // Either this thread shares the first stripe, or another thread with the same index created
+      // one first.
+      stripe = stripes.get(index);
+    }
+    return stripe;
+  }
+
+  private static AtomicLongArray newStripe() {
+    return new AtomicLongArray(BUCKET_COUNT + 1);
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /** Returns the largest value that is counted in the given bucket. */
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    int subBucket = index % SUB_BUCKET_COUNT;
+    long width = 1L << (exponent - SUB_BUCKET_BITS);
+    return (SUB_BUCKET_COUNT + subBucket) * width + width - 1;
+  }
+
+  /** An immutable view of the values recorded by a {@link LatencyHistogram}. */
+  public static final class Snapshot {
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+
+    Snapshot(long[] counts, long totalNanos) {
+      this.counts = counts;
+      long count = 0;
+      for (long bucketCount : counts) {
+        count += bucketCount;
+      }
+      this.count = count;
+      this.totalNanos = totalNanos;
+    }
+
+    /** The number of recorded values. */
+    public long count() {
+      return count;
+    }
+
+    /** The sum of the recorded values. */
+    public long totalNanos() {
+      return totalNanos;
+    }
+
+    /** The mean of the recorded values, or 0 if there are none. */
+    public double meanNanos() {
+      return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Returns a value that is at least as large as {@code percentile} percent of the recorded
+     * values, to within the histogram's precision, or 0 if there are no values.
+     *
+     * @param percentile the percentile, between 0 and 100; for example 99.9 for p999
+     */
+    public long percentileNanos(double percentile) {
+      checkArgument(
+          percentile >= 0 && percentile <= 100,
+          "percentile must be between 0 and 100: %s",
+          percentile);
+      if (count == 0) {
+        return 0;
+      }
+      long rank = Math.max((long) Math.ceil(percentile / 100 * count), 1);
+      long seen = 0;
+      for (int bucket = 0; bucket < counts.length; bucket++) {
+        seen += counts[bucket];
+        if (seen >= rank) {
+          return bucketUpperBound(bucket);
+        }
+      }
+      throw new AssertionError();
+    }
+
+    /** The largest recorded value, to within the histogram's precision, or 0 if there are none. */
+    public long maxNanos() {
+      return percentileNanos(100);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "count=%d, mean=%.0fns, p50=%dns, p99=%dns, p999=%dns, max=%dns",
+          count,
+          meanNanos(),
+          percentileNanos(50),
+          percentileNanos(99),
+          percentileNanos(99.9),
+          maxNanos());
+    }
+  }
+}
@@ -118,6 +118,19 @@ public abstract class ProducerMonitor {
    */
   public void dependenciesRequested() {}
 
+  /**
+   * Called each time the producer's output is requested after {@link #requested()}, such as when a
+   * second producer that depends on it requests it. The production is already under way, so this
+   * isn't followed by any other calls. It is called on the requesting thread, under the same
+   * constraints as {@link #requested()}.
+   *
+   * <p>When multiple monitors are installed, calls to this method will be in the same order as
+   * calls to {@link #requested()}.
+   *
+   * <p>This implementation is a no-op.
+   */
+  public void requestedAgain() {}
+
   /**
    * Called when all of the producer's inputs are available. This is called regardless of whether
    * the inputs have succeeded or not; when the inputs have succeeded, this is called prior to
@@ -153,6 +166,30 @@ public abstract class ProducerMonitor {
    */
   public void methodFinished() {}
 
+  /**
+   * Called when the output of a {@link dagger.producers.Cached} producer is taken from its cache,
+   * instead of by calling the producer method. This is called instead of {@link #methodStarting()}
+   * and {@link #methodFinished()}, from the thread that would have called the producer method.
+   *
+   * <p>When multiple monitors are installed, calls to this method will be in the same order as
+   * calls to {@link #requested()}.
+   *
+   * <p>This implementation is a no-op.
+   */
+  public void cacheHit() {}
+
+  /**
+   * Called when a {@link dagger.producers.Cached} producer has no output in its cache for its
+   * inputs, and is about to call the producer method. This will be called just before {@link
+   * #methodStarting()}, from the same thread.
+   *
+   * <p>When multiple monitors are installed, calls to this method will be in the same order as
+   * calls to {@link #requested()}.
+   *
+   * <p>This implementation is a no-op.
+   */
+  public void cacheMissed() {}
+
   /**
    * Called when the producer’s future has completed successfully with a value.
    *
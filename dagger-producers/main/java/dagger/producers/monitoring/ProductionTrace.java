@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import dagger.internal.Beta;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The recorded execution of a single entry point of a production component, as reported by {@link
+ * TracingProductionComponentMonitor}.
+ *
+ * <p>All times are in nanoseconds since the component's monitor was created, or {@code -1} if the
+ * corresponding event did not happen before the entry point completed.
+ */
+@Beta
+@SuppressWarnings("GoodTime") // should use java.time.Duration
+public final class ProductionTrace {
+  /** Receives the trace of each entry point of a production component when it completes. */
+  public interface Listener {
+    void traceCompleted(ProductionTrace trace);
+  }
+
+  /**
+   * Returns a listener that writes the trace of each entry point that took at least {@code
+   * minLatency} to a new file in {@code directory}, in the {@linkplain #toChromeTraceJson() Chrome
+   * trace-event format}.
+   */
+  public static Listener chromeTraceWriter(
+      final Path directory, long minLatency, TimeUnit minLatencyUnit) {
+    checkNotNull(directory);
+    checkArgument(minLatency >= 0, "minLatency must not be negative: %s", minLatency);
+    final long minLatencyNanos = minLatencyUnit.toNanos(minLatency);
+    return new Listener() {
+      @Override
+      public void traceCompleted(ProductionTrace trace) {
+        if (trace.latencyNanos() < minLatencyNanos) {
+          return;
+        }
+        try {
+          trace.writeChromeTrace(Files.createTempFile(directory, "production-trace-", ".json"));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    };
+  }
+
+  /** The recorded execution of a single producer. */
+  public static final class Span {
+    private final ProducerToken token;
+    private final long requestedNanos;
+    private final long readyNanos;
+    private final long methodStartingNanos;
+    private final long methodFinishedNanos;
+    private final long completedNanos;
+    private final boolean failed;
+    private final ImmutableList<ProducerToken> dependencies;
+
+    Span(
+        ProducerToken token,
+        long requestedNanos,
+        long readyNanos,
+        long methodStartingNanos,
+        long methodFinishedNanos,
+        long completedNanos,
+        boolean failed,
+        ImmutableList<ProducerToken> dependencies) {
+      this.token = token;
+      this.requestedNanos = requestedNanos;
+      this.readyNanos = readyNanos;
+      this.methodStartingNanos = methodStartingNanos;
+      this.methodFinishedNanos = methodFinishedNanos;
+      this.completedNanos = completedNanos;
+      this.failed = failed;
+      this.dependencies = dependencies;
+    }
+
+    /** The producer that was executed. */
+    public ProducerToken token() {
+      return token;
+    }
+
+    /** When the producer was first requested. */
+    public long requestedNanos() {
+      return requestedNanos;
+    }
+
+    /** When all of the producer's inputs became available. */
+    public long readyNanos() {
+      return readyNanos;
+    }
+
+    /** When the producer method was called. */
+    public long methodStartingNanos() {
+      return methodStartingNanos;
+    }
+
+    /** When the producer method returned. */
+    public long methodFinishedNanos() {
+      return methodFinishedNanos;
+    }
+
+    /** When the producer's value, or its failure, became available. */
+    public long completedNanos() {
+      return completedNanos;
+    }
+
+    /** Whether the producer failed, either itself or because one of its inputs failed. */
+    public boolean failed() {
+      return failed;
+    }
+
+    /** The producers that this producer requested when it was first requested. */
+    public ImmutableList<ProducerToken> dependencies() {
+      return dependencies;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%s[requested=%d, ready=%d, methodStarting=%d, methodFinished=%d, completed=%d%s]",
+          token,
+          requestedNanos,
+          readyNanos,
+          methodStartingNanos,
+          methodFinishedNanos,
+          completedNanos,
+          failed ? ", failed" : "");
+    }
+  }
+
+  private final ImmutableList<Span> spans;
+  private final ImmutableList<Span> criticalPath;
+
+  ProductionTrace(ImmutableList<Span> spans) {
+    checkArgument(!spans.isEmpty());
+    this.spans = spans;
+    this.criticalPath = computeCriticalPath(spans);
+  }
+
+  /** The entry point whose completion produced this trace. */
+  public Span entryPoint() {
+    return spans.get(0);
+  }
+
+  /**
+   * All producers that the entry point transitively depends on, including the entry point itself,
+   * in breadth-first order starting from the entry point.
+   */
+  public ImmutableList<Span> spans() {
+    return spans;
+  }
+
+  /**
+   * The chain of dependencies that determined when the entry point completed, in execution order
+   * and ending with the entry point.
+   *
+   * <p>Starting from the entry point, each step picks the dependency that completed last, since
+   * that is the input that the producer was waiting on before it could run.
+   */
+  public ImmutableList<Span> criticalPath() {
+    return criticalPath;
+  }
+
+  /** The time between when the entry point was requested and when it completed. */
+  public long latencyNanos() {
+    return entryPoint().completedNanos() - entryPoint().requestedNanos();
+  }
+
+  private static ImmutableList<Span> computeCriticalPath(ImmutableList<Span> spans) {
+    Map<ProducerToken, Span> spansByToken = new HashMap<>();
+    for (Span span : spans) {
+      if (!spansByToken.containsKey(span.token())) {
+        spansByToken.put(span.token(), span);
+      }
+    }
+    Set<ProducerToken> visited = new HashSet<>();
+    ImmutableList.Builder<Span> reversedPath = ImmutableList.builder();
+    Span current = spans.get(0);
+    while (current != null && visited.add(current.token())) {
+      reversedPath.add(current);
+      Span lastDependency = null;
+      for (ProducerToken dependencyToken : current.dependencies()) {
+        Span dependency = spansByToken.get(dependencyToken);
+        if (dependency != null
+            && dependency.completedNanos() >= 0
+            && (lastDependency == null
+                || dependency.completedNanos() > lastDependency.completedNanos())) {
+          lastDependency = dependency;
+        }
+      }
+      current = lastDependency;
+    }
+    return reversedPath.build().reverse();
+  }
+
+  /**
+   * Returns this trace in the <a
+   * href="https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU">Chrome
+   * trace-event format</a>, which can be loaded into {@code chrome://tracing} or Perfetto.
+   *
+   * <p>Each producer is shown on its own track, with a slice covering the time from when it was
+   * requested until it completed. Nested slices show the time spent waiting for inputs and the time
+   * spent in the producer method. Producers on the {@linkplain #criticalPath() critical path} have
+   * the {@code critical_path} category.
+   */
+  public String toChromeTraceJson() {
+    Set<ProducerToken> critical = new HashSet<>();
+    for (Span span : criticalPath) {
+      critical.add(span.token());
+    }
+    StringBuilder json = new StringBuilder("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+    appendMetadata(json, "process_name", 0, entryPoint().token().toString());
+    for (int i = 0; i < spans.size(); i++) {
+      Span span = spans.get(i);
+      int tid = i + 1;
+      String category = critical.contains(span.token()) ? "producer,critical_path" : "producer";
+      json.append(',');
+      appendMetadata(json, "thread_name", tid, span.token().toString());
+      if (span.requestedNanos() >= 0 && span.completedNanos() >= 0) {
+        json.append(',');
+        appendCompleteEvent(
+            json,
+            span.token().toString(),
+            category,
+            tid,
+            span.requestedNanos(),
+            span.completedNanos(),
+            span.failed() ? "failed" : "succeeded");
+      }
+      if (span.requestedNanos() >= 0 && span.readyNanos() >= 0) {
+        json.append(',');
+        appendCompleteEvent(
+            json, "inputs", category, tid, span.requestedNanos(), span.readyNanos(), null);
+      }
+      if (span.methodStartingNanos() >= 0 && span.methodFinishedNanos() >= 0) {
+        json.append(',');
+        appendCompleteEvent(
+            json,
+            "method",
+            category,
+            tid,
+            span.methodStartingNanos(),
+            span.methodFinishedNanos(),
+            null);
+      }
+    }
+    return json.append("]}").toString();
+  }
+
+  /** Writes {@link #toChromeTraceJson()} to the given file, replacing any existing contents. */
+  public void writeChromeTrace(Path file) throws IOException {
+    Files.write(file, toChromeTraceJson().getBytes(UTF_8));
+  }
+
+  private static void appendMetadata(StringBuilder json, String name, int tid, String value) {
+    json.append("{\"name\":\"")
+        .append(name)
+        .append("\",\"ph\":\"M\",\"pid\":1,\"tid\":")
+        .append(tid)
+        .append(",\"args\":{\"name\":");
+    appendString(json, value);
+    json.append("}}");
+  }
+
+  private static void appendCompleteEvent(
+      StringBuilder json,
+      String name,
+      String category,
+      int tid,
+      long startNanos,
+      long endNanos,
+      String status) {
+    json.append("{\"name\":");
+    appendString(json, name);
+    json.append(",\"cat\":\"")
+        .append(category)
+        .append("\",\"ph\":\"X\",\"pid\":1,\"tid\":")
+        .append(tid)
+        .append(",\"ts\":")
+        .append(micros(startNanos))
+        .append(",\"dur\":")
+        .append(micros(endNanos - startNanos));
+    if (status != null) {
+      json.append(",\"args\":{\"status\":\"").append(status).append("\"}");
+    }
+    json.append('}');
+  }
+
+  private static String micros(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / 1000.0);
+  }
+
+  private static void appendString(StringBuilder json, String value) {
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          json.append("\\\"");
+          break;
+        case '\\':
+          json.append("\\\\");
+          break;
+        default:
+          if (c < 0x20) {
+            json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+      }
+    }
+    json.append('"');
+  }
+
+  @Override
+  public String toString() {
+    return "ProductionTrace" + spans;
+  }
+}
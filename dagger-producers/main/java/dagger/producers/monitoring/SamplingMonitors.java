@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Ticker;
+import dagger.internal.Beta;
+import dagger.producers.monitoring.internal.Monitors;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * Monitor factories that only create real monitors for some production components, to reduce the
+ * cost of monitoring.
+ *
+ * <p>Components that are not sampled get {@link ProductionComponentMonitor#noOp()}, which in turn
+ * returns {@link ProducerMonitor#noOp()} for every producer, so they don't allocate anything per
+ * producer. The sampling decision is made separately by each sampling factory, so to sample all of
+ * a component's monitors together, wrap a single factory that delegates to the others.
+ */
+@Beta
+@SuppressWarnings("GoodTime") // should use java.time.Duration
+public final class SamplingMonitors {
+  /**
+   * Returns a factory that creates monitors from {@code delegate} for a random {@code rate}
+   * fraction of production components, and no-op monitors for the rest.
+   *
+   * @param rate the fraction of components to sample, between 0 and 1
+   */
+  public static ProductionComponentMonitor.Factory rateSampling(
+      ProductionComponentMonitor.Factory delegate, double rate) {
+    return new RateSamplingFactory(delegate, rate, null);
+  }
+
+  /**
+   * Returns a factory that creates monitors from {@code delegate} for the next {@code
+   * componentsToSample} production components whenever a component is seen to take longer than
+   * {@code threshold}, and no-op monitors otherwise.
+   *
+   * <p>Components that are not sampled still get a monitor that shares a single producer monitor
+   * among all of the component's producers, which notes when the first producer is requested and
+   * checks the elapsed time whenever a producer completes. That producer monitor is only allocated
+   * once per component. This is meant for production components that serve a single request, so
+   * that a slow request turns on monitoring for the requests that follow it.
+   */
+  public static ProductionComponentMonitor.Factory tailLatencySampling(
+      ProductionComponentMonitor.Factory delegate,
+      long threshold,
+      TimeUnit thresholdUnit,
+      int componentsToSample) {
+    return new TailLatencySamplingFactory(
+        delegate, thresholdUnit.toNanos(threshold), componentsToSample, Ticker.systemTicker());
+  }
+
+  static final class RateSamplingFactory extends ProductionComponentMonitor.Factory {
+    private final ProductionComponentMonitor.Factory delegate;
+    private final double rate;
+    @NullableDecl private final Random random;
+
+    /** Uses {@link ThreadLocalRandom} if {@code random} is null. */
+    RateSamplingFactory(
+        ProductionComponentMonitor.Factory delegate, double rate, @NullableDecl Random random) {
+      checkArgument(rate >= 0 && rate <= 1, "rate must be between 0 and 1: %s", rate);
+      this.delegate = checkNotNull(delegate);
+      this.rate = rate;
+      this.random = random;
+    }
+
+    @Override
+    public ProductionComponentMonitor create(Object component) {
+      double sample =
+          random == null ? ThreadLocalRandom.current().nextDouble() : random.nextDouble();
+      return sample < rate ? delegate.create(component) : ProductionComponentMonitor.noOp();
+    }
+  }
+
+  static final class TailLatencySamplingFactory extends ProductionComponentMonitor.Factory {
+    private final ProductionComponentMonitor.Factory delegate;
+    private final long thresholdNanos;
+    private final int componentsToSample;
+    private final Ticker ticker;
+    private final AtomicInteger remainingSamples = new AtomicInteger();
+
+    TailLatencySamplingFactory(
+        ProductionComponentMonitor.Factory delegate,
+        long thresholdNanos,
+        int componentsToSample,
+        Ticker ticker) {
+      checkArgument(thresholdNanos >= 0, "threshold must not be negative: %s", thresholdNanos);
+      checkArgument(
+          componentsToSample > 0, "componentsToSample must be positive: %s", componentsToSample);
+      this.delegate = checkNotNull(delegate);
+      this.thresholdNanos = thresholdNanos;
+      this.componentsToSample = componentsToSample;
+      this.ticker = ticker;
+    }
+
+    @Override
+    public ProductionComponentMonitor create(Object component) {
+      return takeSample() ? delegate.create(component) : new LatencyWatchingMonitor(this);
+    }
+
+    private boolean takeSample() {
+      while (true) {
+        int remaining = remainingSamples.get();
+        if (remaining <= 0) {
+          return false;
+        }
+        if (remainingSamples.compareAndSet(remaining, remaining - 1)) {
+          return true;
+        }
+      }
+    }
+
+    void slowComponentSeen() {
+      remainingSamples.set(componentsToSample);
+    }
+  }
+
+  /**
+   * A component monitor that checks whether the component is slower than the factory's threshold,
+   * using a single producer monitor for all of its producers.
+   */
+  private static final class LatencyWatchingMonitor extends ProductionComponentMonitor {
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final TailLatencySamplingFactory factory;
+    private final ProducerMonitor producerMonitor;
+    private volatile long startNanos = NOT_STARTED;
+    private volatile boolean slow;
+
+    LatencyWatchingMonitor(TailLatencySamplingFactory factory) {
+      this.factory = factory;
+      // Wrapped here so that Monitors doesn't wrap it again for each producer.
+      this.producerMonitor =
+          Monitors.nonThrowingProducerMonitor(
+              new ProducerMonitor() {
+                @Override
+                public void requested() {
+                  if (startNanos == NOT_STARTED) {
+                    // Races between the first requests only move the start time forward slightly.
+                    startNanos = LatencyWatchingMonitor.this.factory.ticker.read();
+                  }
+                }
+
+                @Override
+                public void succeeded(Object value) {
+                  completed();
+                }
+
+                @Override
+                public void failed(Throwable t) {
+                  completed();
+                }
+              });
+    }
+
+    @Override
+    public ProducerMonitor producerMonitorFor(ProducerToken token) {
+      return producerMonitor;
+    }
+
+    private void completed() {
+      long start = startNanos;
+      if (!slow && start != NOT_STARTED && factory.ticker.read() - start > factory.thresholdNanos) {
+        slow = true;
+        factory.slowComponentSeen();
+      }
+    }
+  }
+
+  private SamplingMonitors() {}
+}
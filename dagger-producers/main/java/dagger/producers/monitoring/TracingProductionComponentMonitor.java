@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import dagger.internal.Beta;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A monitor that records when each producer of a production component is requested, becomes ready,
+ * runs and completes, along with the dependencies between producers, and reports a {@link
+ * ProductionTrace} to the given listener whenever an entry point of the component completes.
+ *
+ * <p>Dependencies are inferred from the {@link ProducerMonitor#requested()} and {@link
+ * ProducerMonitor#requestedAgain()} calls made on the requesting thread between a producer's {@code
+ * requested()} and {@link ProducerMonitor#dependenciesRequested()}, so only dependencies that are
+ * requested eagerly (i.e., values and {@code Produced} values, not {@code Producer}s) are recorded.
+ * A producer that several others depend on gets an edge from each of them. A producer that is first
+ * requested outside of another producer's dependency requests, such as through a component method,
+ * is treated as an entry point.
+ *
+ * <p>This assumes that the given listener does not throw; exceptions thrown by the listener are
+ * propagated to the caller of the monitor.
+ */
+@Beta
+public final class TracingProductionComponentMonitor extends ProductionComponentMonitor {
+  /** The producers whose dependencies are currently being requested on this thread. */
+  private static final ThreadLocal<ArrayDeque<TracingProducerMonitor>> REQUESTING =
+      new ThreadLocal<ArrayDeque<TracingProducerMonitor>>() {
+        @Override
+        protected ArrayDeque<TracingProducerMonitor> initialValue() {
+          return new ArrayDeque<>();
+        }
+      };
+
+  private final ProductionTrace.Listener listener;
+  private final Ticker ticker;
+  private final long startNanos;
+
+  TracingProductionComponentMonitor(ProductionTrace.Listener listener, Ticker ticker) {
+    this.listener = listener;
+    this.ticker = ticker;
+    this.startNanos = ticker.read();
+  }
+
+  @Override
+  public ProducerMonitor producerMonitorFor(ProducerToken token) {
+    return new TracingProducerMonitor(this, token);
+  }
+
+  /** Returns the number of nanoseconds since this monitor was created. */
+  long elapsedNanos() {
+    return ticker.read() - startNanos;
+  }
+
+  void requested(TracingProducerMonitor producerMonitor) {
+    ArrayDeque<TracingProducerMonitor> requesting = REQUESTING.get();
+    TracingProducerMonitor requester = requesting.peek();
+    if (requester != null && requester.component == this) {
+      requester.dependencies.add(producerMonitor);
+    } else {
+      producerMonitor.entryPoint = true;
+    }
+    requesting.push(producerMonitor);
+  }
+
+  void requestedAgain(TracingProducerMonitor producerMonitor) {
+    TracingProducerMonitor requester = REQUESTING.get().peek();
+    if (requester != null && requester.component == this) {
+      requester.dependencies.addIfAbsent(producerMonitor);
+    }
+  }
+
+  void dependenciesRequested(TracingProducerMonitor producerMonitor) {
+    ArrayDeque<TracingProducerMonitor> requesting = REQUESTING.get();
+    if (requesting.peek() == producerMonitor) {
+      requesting.pop();
+    }
+  }
+
+  void completed(TracingProducerMonitor producerMonitor) {
+    if (producerMonitor.entryPoint) {
+      listener.traceCompleted(trace(producerMonitor));
+    }
+  }
+
+  private static ProductionTrace trace(TracingProducerMonitor entryPoint) {
+    ImmutableList.Builder<ProductionTrace.Span> spans = ImmutableList.builder();
+    Set<TracingProducerMonitor> visited =
+        Collections.newSetFromMap(new IdentityHashMap<TracingProducerMonitor, Boolean>());
+    ArrayDeque<TracingProducerMonitor> queue = new ArrayDeque<>();
+    queue.add(entryPoint);
+    visited.add(entryPoint);
+    while (!queue.isEmpty()) {
+      TracingProducerMonitor producerMonitor = queue.remove();
+      ImmutableList.Builder<ProducerToken> dependencies = ImmutableList.builder();
+      for (TracingProducerMonitor dependency : producerMonitor.dependencies) {
+        dependencies.add(dependency.token);
+        if (visited.add(dependency)) {
+          queue.add(dependency);
+        }
+      }
+      spans.add(producerMonitor.span(dependencies.build()));
+    }
+    return new ProductionTrace(spans.build());
+  }
+
+  /** Records the lifecycle of a single producer for a {@link TracingProductionComponentMonitor}. */
+  private static final class TracingProducerMonitor extends ProducerMonitor {
+    final TracingProductionComponentMonitor component;
+    final ProducerToken token;
+    final CopyOnWriteArrayList<TracingProducerMonitor> dependencies = new CopyOnWriteArrayList<>();
+    volatile boolean entryPoint;
+    private volatile long requestedNanos = -1;
+    private volatile long readyNanos = -1;
+    private volatile long methodStartingNanos = -1;
+    private volatile long methodFinishedNanos = -1;
+    private volatile long completedNanos = -1;
+    private volatile boolean failed;
+
+    TracingProducerMonitor(TracingProductionComponentMonitor component, ProducerToken token) {
+      this.component = component;
+      this.token = token;
+    }
+
+    @Override
+    public void requested() {
+      requestedNanos = component.elapsedNanos();
+      component.requested(this);
+    }
+
+    @Override
+    public void requestedAgain() {
+      component.requestedAgain(this);
+    }
+
+    @Override
+    public void dependenciesRequested() {
+      component.dependenciesRequested(this);
+    }
+
+    @Override
+    public void ready() {
+      readyNanos = component.elapsedNanos();
+    }
+
+    @Override
+    public void methodStarting() {
+      methodStartingNanos = component.elapsedNanos();
+    }
+
+    @Override
+    public void methodFinished() {
+      methodFinishedNanos = component.elapsedNanos();
+    }
+
+    @Override
+    public void succeeded(Object value) {
+      completedNanos = component.elapsedNanos();
+      component.completed(this);
+    }
+
+    @Override
+    public void failed(Throwable t) {
+      failed = true;
+      completedNanos = component.elapsedNanos();
+      component.completed(this);
+    }
+
+    ProductionTrace.Span span(ImmutableList<ProducerToken> dependencyTokens) {
+      return new ProductionTrace.Span(
+          token,
+          requestedNanos,
+          readyNanos,
+          methodStartingNanos,
+          methodFinishedNanos,
+          completedNanos,
+          failed,
+          dependencyTokens);
+    }
+  }
+
+  public static final class Factory extends ProductionComponentMonitor.Factory {
+    private final ProductionTrace.Listener listener;
+    private final Ticker ticker;
+
+    public Factory(ProductionTrace.Listener listener) {
+      this(listener, Ticker.systemTicker());
+    }
+
+    Factory(ProductionTrace.Listener listener, Ticker ticker) {
+      this.listener = listener;
+      this.ticker = ticker;
+    }
+
+    @Override
+    public ProductionComponentMonitor create(Object component) {
+      return new TracingProductionComponentMonitor(listener, ticker);
+    }
+  }
+}
@@ -70,6 +70,23 @@ public final class Monitors {
     }
   }
 
+  /**
+   * Returns a producer monitor that delegates to {@code delegate}, and catches and logs all
+   * exceptions that it throws. The component monitors created by {@link
+   * #delegatingProductionComponentMonitorFactory} return a monitor created by this method as is, so
+   * a component monitor that uses a single producer monitor for all of its producers can wrap it
+   * once instead of having it wrapped for each producer.
+   */
+  public static ProducerMonitor nonThrowingProducerMonitor(ProducerMonitor delegate) {
+    if (isNoOp(delegate)) {
+      return ProducerMonitor.noOp();
+    } else if (delegate instanceof NonThrowingProducerMonitor) {
+      return delegate;
+    } else {
+      return new NonThrowingProducerMonitor(delegate);
+    }
+  }
+
   /**
    * A component monitor that delegates to a single monitor, and catches and logs all exceptions
    * that the delegate throws.
@@ -85,8 +102,7 @@ public final class Monitors {
     @Override
     public ProducerMonitor producerMonitorFor(ProducerToken token) {
       try {
-        ProducerMonitor monitor = delegate.producerMonitorFor(token);
-        return monitor == null ? ProducerMonitor.noOp() : new NonThrowingProducerMonitor(monitor);
+        return nonThrowingProducerMonitor(delegate.producerMonitorFor(token));
       } catch (RuntimeException e) {
         logProducerMonitorForException(e, delegate, token);
         return ProducerMonitor.noOp();
@@ -104,7 +120,7 @@ public final class Monitors {
       public ProductionComponentMonitor create(Object component) {
         try {
           ProductionComponentMonitor monitor = delegate.create(component);
-          return monitor == null
+          return isNoOp(monitor)
               ? ProductionComponentMonitor.noOp()
               : new NonThrowingProductionComponentMonitor(monitor);
         } catch (RuntimeException e) {
@@ -171,6 +187,33 @@ public final class Monitors {
       }
     }
 
+    @Override
+    public void requestedAgain() {
+      try {
+        delegate.requestedAgain();
+      } catch (RuntimeException e) {
+        logProducerMonitorMethodException(e, delegate, "requestedAgain");
+      }
+    }
+
+    @Override
+    public void cacheHit() {
+      try {
+        delegate.cacheHit();
+      } catch (RuntimeException e) {
+        logProducerMonitorMethodException(e, delegate, "cacheHit");
+      }
+    }
+
+    @Override
+    public void cacheMissed() {
+      try {
+        delegate.cacheMissed();
+      } catch (RuntimeException e) {
+        logProducerMonitorMethodException(e, delegate, "cacheMissed");
+      }
+    }
+
     @Override
     public void succeeded(Object o) {
       try {
@@ -208,7 +251,7 @@ public final class Monitors {
       for (ProductionComponentMonitor delegate : delegates) {
         try {
           ProducerMonitor monitor = delegate.producerMonitorFor(token);
-          if (monitor != null) {
+          if (!isNoOp(monitor)) {
             monitorsBuilder.add(monitor);
           }
         } catch (RuntimeException e) {
@@ -219,7 +262,7 @@ public final class Monitors {
       if (monitors.isEmpty()) {
         return ProducerMonitor.noOp();
       } else if (monitors.size() == 1) {
-        return new NonThrowingProducerMonitor(Iterables.getOnlyElement(monitors));
+        return nonThrowingProducerMonitor(Iterables.getOnlyElement(monitors));
       } else {
         return new DelegatingProducerMonitor(monitors);
       }
@@ -238,7 +281,7 @@ public final class Monitors {
         for (ProductionComponentMonitor.Factory delegate : delegates) {
           try {
             ProductionComponentMonitor monitor = delegate.create(component);
-            if (monitor != null) {
+            if (!isNoOp(monitor)) {
               monitorsBuilder.add(monitor);
             }
           } catch (RuntimeException e) {
@@ -323,6 +366,39 @@ public final class Monitors {
       }
     }
 
+    @Override
+    public void requestedAgain() {
+      for (ProducerMonitor delegate : delegates) {
+        try {
+          delegate.requestedAgain();
+        } catch (RuntimeException e) {
+          logProducerMonitorMethodException(e, delegate, "requestedAgain");
+        }
+      }
+    }
+
+    @Override
+    public void cacheHit() {
+      for (ProducerMonitor delegate : delegates) {
+        try {
+          delegate.cacheHit();
+        } catch (RuntimeException e) {
+          logProducerMonitorMethodException(e, delegate, "cacheHit");
+        }
+      }
+    }
+
+    @Override
+    public void cacheMissed() {
+      for (ProducerMonitor delegate : delegates) {
+        try {
+          delegate.cacheMissed();
+        } catch (RuntimeException e) {
+          logProducerMonitorMethodException(e, delegate, "cacheMissed");
+        }
+      }
+    }
+
     @Override
     public void succeeded(Object o) {
       for (ProducerMonitor delegate : delegates.reverse()) {
@@ -346,6 +422,19 @@ public final class Monitors {
     }
   }
 
+  /**
+   * Returns whether the given monitor is null or the shared no-op monitor, which don't need to be
+   * wrapped or called. This keeps components whose monitors were not sampled (see {@link
+   * dagger.producers.monitoring.SamplingMonitors}) from allocating a wrapper for each producer.
+   */
+  private static boolean isNoOp(ProductionComponentMonitor monitor) {
+    return monitor == null || monitor == ProductionComponentMonitor.noOp();
+  }
+
+  private static boolean isNoOp(ProducerMonitor monitor) {
+    return monitor == null || monitor == ProducerMonitor.noOp();
+  }
+
   /** Returns a provider of a no-op component monitor. */
   public static Provider<ProductionComponentMonitor> noOpProductionComponentMonitorProvider() {
     return NO_OP_PRODUCTION_COMPONENT_MONITOR_PROVIDER;
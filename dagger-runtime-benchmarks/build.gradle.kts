@@ -0,0 +1,28 @@
+import dagger.gradle.build.SoftwareType
+
+plugins {
+  alias(libs.plugins.daggerBuild)
+  id(libs.plugins.kotlinJvm.get().pluginId)
+}
+
+dependencies {
+  implementation(project(":dagger"))
+  implementation(project(":dagger-producers"))
+  implementation(libs.guava.jre)
+  implementation(libs.jmh.core)
+  annotationProcessor(libs.jmh.generator)
+}
+
+daggerBuild {
+  type = SoftwareType.JVM_LIBRARY
+  isPublished = false
+}
+
+// Runs the benchmarks, e.g. ./gradlew :dagger-runtime-benchmarks:jmh -PjmhArgs="DoubleCheck -f 1"
+tasks.register<JavaExec>("jmh") {
+  group = "benchmark"
+  description = "Runs the JMH benchmarks for the Dagger runtime and producers."
+  classpath = sourceSets["main"].runtimeClasspath
+  mainClass.set("org.openjdk.jmh.Main")
+  project.findProperty("jmhArgs")?.let { args(it.toString().split(" ")) }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dagger.internal.benchmarks;
+
+import dagger.internal.DelegateFactory;
+import dagger.internal.Provider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the indirection that {@link DelegateFactory} adds to provisions through a
+ * dependency cycle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DelegateFactoryBenchmark {
+  private final Object instance = new Object();
+
+  private Provider<Object> direct;
+  private Provider<Object> delegated;
+  private Provider<Object> doublyDelegated;
+  private Provider<Object> unwrapped;
+
+  @Setup
+  public void setUp() {
+    direct = () -> instance;
+
+    delegated = new DelegateFactory<>();
+    DelegateFactory.setDelegate(delegated, direct);
+
+    doublyDelegated = new DelegateFactory<>();
+    DelegateFactory.setDelegate(doublyDelegated, delegated);
+
+    unwrapped = DelegateFactory.setDelegateAndUnwrap(new DelegateFactory<>(), direct);
+  }
+
+  /** The baseline: a provider that is not part of a cycle. */
+  @Benchmark
+  public Object direct() {
+    return direct.get();
+  }
+
+  @Benchmark
+  public Object delegated() {
+    return delegated.get();
+  }
+
+  /** A binding whose delegate is itself a {@link DelegateFactory}, as in nested cycles. */
+  @Benchmark
+  public Object doublyDelegated() {
+    return doublyDelegated.get();
+  }
+
+  /**
+   * A binding whose cycle was closed with {@link DelegateFactory#setDelegateAndUnwrap}, as in
+   * components generated with {@code dagger.unwrapDelegateFactories}.
+   */
+  @Benchmark
+  public Object unwrapped() {
+    return unwrapped.get();
+  }
+}
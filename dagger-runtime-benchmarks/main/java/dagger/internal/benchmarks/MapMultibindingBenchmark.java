@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dagger.internal.benchmarks;
+
+import dagger.internal.Factory;
+import dagger.internal.LazyClassKeyMap;
+import dagger.internal.MapFactory;
+import dagger.internal.MapProviderFactory;
+import dagger.internal.Provider;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building and materializing {@code Map} multibindings through {@link MapFactory}, {@link
+ * MapProviderFactory} and {@link LazyClassKeyMap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapMultibindingBenchmark {
+  /** The number of entries contributed to the map. */
+  @Param({"10", "100", "10000"})
+  public int contributions;
+
+  private Factory<Map<String, Object>> mapFactory;
+  private Factory<Map<String, Provider<Object>>> mapProviderFactory;
+  private Map<Class<?>, Object> lazyClassKeyMap;
+  private Map<Integer, Provider<Object>> intKeyMap;
+  private int lookupKey;
+
+  @Setup
+  public void setUp() {
+    mapFactory = newMapFactory();
+    mapProviderFactory = newMapProviderFactory();
+    lazyClassKeyMap = LazyClassKeyMap.MapFactory.of(mapFactory).get();
+
+    MapProviderFactory.Builder<Integer, Object> intKeyBuilder =
+        MapProviderFactory.builder(contributions);
+    for (int i = 0; i < contributions; i++) {
+      intKeyBuilder.put(i, Object::new);
+    }
+    intKeyMap = intKeyBuilder.build().get();
+    lookupKey = contributions / 2;
+  }
+
+  /**
+   * Returns the key of the {@code i}th contribution. The last key is the name of a real class so
+   * that it can be looked up through a {@link LazyClassKeyMap}.
+   */
+  private String key(int i) {
+    return i == contributions - 1 ? MapMultibindingBenchmark.class.getName() : "Key" + i;
+  }
+
+  private Factory<Map<String, Object>> newMapFactory() {
+    MapFactory.Builder<String, Object> builder = MapFactory.builder(contributions);
+    for (int i = 0; i < contributions; i++) {
+      builder.put(key(i), Object::new);
+    }
+    return builder.build();
+  }
+
+  private Factory<Map<String, Provider<Object>>> newMapProviderFactory() {
+    MapProviderFactory.Builder<String, Object> builder = MapProviderFactory.builder(contributions);
+    for (int i = 0; i < contributions; i++) {
+      builder.put(key(i), Object::new);
+    }
+    return builder.build();
+  }
+
+  /** Building the factory, as done once when the component is constructed. */
+  @Benchmark
+  public Factory<Map<String, Object>> buildMapFactory() {
+    return newMapFactory();
+  }
+
+  /** Building the factory, as done once when the component is constructed. */
+  @Benchmark
+  public Factory<Map<String, Provider<Object>>> buildMapProviderFactory() {
+    return newMapProviderFactory();
+  }
+
+  /** Requesting a {@code Map<K, V>}, which calls every contributing provider. */
+  @Benchmark
+  public Map<String, Object> mapFactoryGet() {
+    return mapFactory.get();
+  }
+
+  /** Requesting a {@code Map<K, Provider<V>>}. */
+  @Benchmark
+  public Map<String, Provider<Object>> mapProviderFactoryGet() {
+    return mapProviderFactory.get();
+  }
+
+  /** A single lookup in a {@code Map<Integer, Provider<V>>}, as done when dispatching by key. */
+  @Benchmark
+  public Provider<Object> intKeyLookup() {
+    return intKeyMap.get(lookupKey);
+  }
+
+  /** A single lookup in a {@code @LazyClassKey} map. */
+  @Benchmark
+  public Object lazyClassKeyLookup() {
+    return lazyClassKeyMap.get(MapMultibindingBenchmark.class);
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.benchmarks;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.internal.InstanceFactory;
+import dagger.internal.Provider;
+import dagger.producers.Producer;
+import dagger.producers.internal.AbstractProducesMethodProducer;
+import dagger.producers.internal.CancellationListener;
+import dagger.producers.internal.Producers;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creating a production component's producer nodes and requesting its entry point, as
+ * happens once per request for a server that creates a component per request.
+ *
+ * <p>The graph is wired the way generated code wires it: every node is an {@link
+ * AbstractProducesMethodProducer} that depends on the previous node and on the node at half its
+ * index through {@linkplain Producers#nonCancellationPropagatingViewOf dependency views}, so most
+ * nodes have several dependents. Run with {@code -prof gc} to see the allocation per request in
+ * {@code gc.alloc.rate.norm}, e.g. {@code -PjmhArgs="ProductionGraph -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductionGraphBenchmark {
+  private static final Provider<Executor> EXECUTOR = InstanceFactory.create(directExecutor());
+  private static final Provider<ProductionComponentMonitor> MONITOR =
+      InstanceFactory.create(ProductionComponentMonitor.noOp());
+  private static final ProducerToken TOKEN = ProducerToken.create(Node.class);
+  private static final CancellationListener COMPONENT = mayInterruptIfRunning -> {};
+
+  @Param({"400"})
+  public int nodes;
+
+  /** When the leaf of the graph completes relative to the entry point being requested. */
+  public enum Completion {
+    /** Every node is done by the time its dependents request it. */
+    IMMEDIATE,
+    /** The leaf completes after the entry point is requested, so every node is pending first. */
+    DEFERRED,
+  }
+
+  @Param public Completion completion;
+
+  @Benchmark
+  public Object createAndRequest() throws Exception {
+    SettableFuture<Object> leafResult = SettableFuture.create();
+    if (completion == Completion.IMMEDIATE) {
+      leafResult.set("leaf");
+    }
+    Node[] graph = new Node[nodes];
+    graph[0] = new Node(leafResult);
+    for (int i = 1; i < nodes; i++) {
+      graph[i] = new Node(graph[i - 1], graph[(i - 1) / 2]);
+    }
+    ListenableFuture<Object> entryPoint =
+        Producers.entryPointViewOf(graph[nodes - 1], COMPONENT).get();
+    leafResult.set("leaf");
+    return entryPoint.get();
+  }
+
+  /** A producer node with zero or two dependencies. */
+  private static final class Node extends AbstractProducesMethodProducer<List<Object>, Object> {
+    private final ListenableFuture<Object> leafResult;
+    private final Producer<Object> first;
+    private final Producer<Object> second;
+
+    Node(ListenableFuture<Object> leafResult) {
+      super(MONITOR, TOKEN, EXECUTOR);
+      this.leafResult = leafResult;
+      this.first = null;
+      this.second = null;
+    }
+
+    Node(Producer<Object> first, Producer<Object> second) {
+      super(MONITOR, TOKEN, EXECUTOR);
+      this.leafResult = null;
+      this.first = Producers.nonCancellationPropagatingViewOf(first);
+      this.second = Producers.nonCancellationPropagatingViewOf(second);
+    }
+
+    @Override
+    protected ListenableFuture<List<Object>> collectDependencies() {
+      if (first == null) {
+        return Futures.immediateFuture(null);
+      }
+      return Futures.<Object>allAsList(first.get(), second.get());
+    }
+
+    @Override
+    public ListenableFuture<Object> callProducesMethod(List<Object> dependencies) {
+      if (leafResult != null) {
+        return leafResult;
+      }
+      return Futures.immediateFuture(dependencies.get(0));
+    }
+  }
+}
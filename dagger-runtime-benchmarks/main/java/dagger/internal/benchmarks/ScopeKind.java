@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.benchmarks;
+
+import dagger.internal.DoubleCheck;
+import dagger.internal.NonPinningDoubleCheck;
+import dagger.internal.Provider;
+import dagger.internal.SingleCheck;
+
+/** The scoping implementations that generated code may wrap a scoped binding's factory with. */
+public enum ScopeKind {
+  DOUBLE_CHECK {
+    @Override
+    <T> Provider<T> scope(Provider<T> provider) {
+      return DoubleCheck.provider(provider);
+    }
+  },
+  NON_PINNING_DOUBLE_CHECK {
+    @Override
+    <T> Provider<T> scope(Provider<T> provider) {
+      return NonPinningDoubleCheck.provider(provider);
+    }
+  },
+  SINGLE_CHECK {
+    @Override
+    <T> Provider<T> scope(Provider<T> provider) {
+      return SingleCheck.provider(provider);
+    }
+  },
+  ;
+
+  /** Returns a scoped {@link Provider} that memoizes the value of {@code provider}. */
+  abstract <T> Provider<T> scope(Provider<T> provider);
+}
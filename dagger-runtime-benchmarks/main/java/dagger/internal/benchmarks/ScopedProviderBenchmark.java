@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.benchmarks;
+
+import dagger.internal.Provider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures lookups of an already initialized scoped binding, with and without contention. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopedProviderBenchmark {
+  @Param public ScopeKind scopeKind;
+
+  private Provider<Object> scopedProvider;
+
+  @Setup
+  public void setUp() {
+    scopedProvider = scopeKind.scope(Object::new);
+    scopedProvider.get();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object uncontended() {
+    return scopedProvider.get();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object contended() {
+    return scopedProvider.get();
+  }
+
+  /** Creating the scoped provider and getting its first value, as a component does on startup. */
+  @Benchmark
+  @Threads(1)
+  public Object createAndGet() {
+    return scopeKind.scope(Object::new).get();
+  }
+}
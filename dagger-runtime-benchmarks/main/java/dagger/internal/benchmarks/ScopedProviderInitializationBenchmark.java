@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.benchmarks;
+
+import dagger.internal.Provider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures many threads racing to initialize the same scoped bindings, as happens on a cold start
+ * when concurrent requests all hit the same {@code @Singleton}s.
+ *
+ * <p>Each batch starts with {@link #BATCH_SIZE} uninitialized scoped providers. Every thread walks
+ * them in the same order, so the threads collide on each provider while it is being initialized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = ScopedProviderInitializationBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = ScopedProviderInitializationBenchmark.BATCH_SIZE)
+@Fork(1)
+public class ScopedProviderInitializationBenchmark {
+  static final int BATCH_SIZE = 10_000;
+
+  @Param public ScopeKind scopeKind;
+
+  private Provider<?>[] scopedProviders;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    scopedProviders = new Provider<?>[BATCH_SIZE];
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      scopedProviders[i] = scopeKind.scope(Object::new);
+    }
+  }
+
+  /** The position of a single thread within the batch of scoped providers. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    int index;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      index = 0;
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object uncontended(Cursor cursor) {
+    return scopedProviders[cursor.index++].get();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object contended(Cursor cursor) {
+    return scopedProviders[cursor.index++].get();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public Object highlyContended(Cursor cursor) {
+    return scopedProviders[cursor.index++].get();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dagger.internal.benchmarks;
+
+import dagger.internal.Factory;
+import dagger.internal.SetFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures materializing a {@code Set} multibinding through {@link SetFactory}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetMultibindingBenchmark {
+  /** The number of elements contributed to the set. */
+  @Param({"10", "100", "10000"})
+  public int contributions;
+
+  /** The number of elements contributed by each {@code @ElementsIntoSet} binding. */
+  private static final int ELEMENTS_PER_COLLECTION = 10;
+
+  private Factory<Set<Object>> individualContributions;
+  private Factory<Set<Object>> collectionContributions;
+
+  @Setup
+  public void setUp() {
+    SetFactory.Builder<Object> individualBuilder = SetFactory.builder(contributions, 0);
+    for (int i = 0; i < contributions; i++) {
+      individualBuilder.addProvider(Object::new);
+    }
+    individualContributions = individualBuilder.build();
+
+    int collections = contributions / ELEMENTS_PER_COLLECTION;
+    SetFactory.Builder<Object> collectionBuilder = SetFactory.builder(0, collections);
+    for (int i = 0; i < collections; i++) {
+      collectionBuilder.addCollectionProvider(SetMultibindingBenchmark::newCollection);
+    }
+    collectionContributions = collectionBuilder.build();
+  }
+
+  private static Collection<Object> newCollection() {
+    List<Object> collection = new ArrayList<>(ELEMENTS_PER_COLLECTION);
+    for (int i = 0; i < ELEMENTS_PER_COLLECTION; i++) {
+      collection.add(new Object());
+    }
+    return collection;
+  }
+
+  /** A set made only of {@code @IntoSet} contributions. */
+  @Benchmark
+  public Set<Object> individualContributions() {
+    return individualContributions.get();
+  }
+
+  /** A set made only of {@code @ElementsIntoSet} contributions. */
+  @Benchmark
+  public Set<Object> collectionContributions() {
+    return collectionContributions.get();
+  }
+}
@@ -16,11 +16,8 @@
 
 package dagger.internal;
 
-import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
 import static dagger.internal.Preconditions.checkNotNull;
-import static java.util.Collections.unmodifiableMap;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -31,23 +28,23 @@ import java.util.Map;
  * @param <V2> the value type of the map that this provides
  */
 abstract class AbstractMapFactory<K, V, V2> implements Factory<Map<K, V2>> {
-  private final Map<K, Provider<V>> contributingMap;
+  private final ImmutableArrayMap<K, Provider<V>> contributingMap;
 
-  AbstractMapFactory(Map<K, Provider<V>> map) {
-    this.contributingMap = unmodifiableMap(map);
+  AbstractMapFactory(ImmutableArrayMap<K, Provider<V>> map) {
+    this.contributingMap = map;
   }
 
   /** The map of {@link Provider}s that contribute to this map binding. */
-  final Map<K, Provider<V>> contributingMap() {
+  final ImmutableArrayMap<K, Provider<V>> contributingMap() {
     return contributingMap;
   }
 
   /** A builder for {@link AbstractMapFactory}. */
   public abstract static class Builder<K, V, V2> {
-    final LinkedHashMap<K, Provider<V>> map;
+    final ImmutableArrayMap.Builder<K, Provider<V>> map;
 
     Builder(int size) {
-      this.map = newLinkedHashMapWithExpectedSize(size);
+      this.map = ImmutableArrayMap.builderWithExpectedSize(size);
     }
 
     // Unfortunately, we cannot return a self-type here because a raw Provider type passed to one of
@@ -57,14 +57,6 @@ public final class DaggerCollections {
     return list.size() != asSet.size();
   }
 
-  /**
-   * Creates a {@link HashSet} instance, with a high enough "intial capcity" that it <em>should</em>
-   * hold {@code expectedSize} elements without growth.
-   */
-  static <T extends @Nullable Object> HashSet<T> newHashSetWithExpectedSize(int expectedSize) {
-    return new HashSet<T>(calculateInitialCapacity(expectedSize));
-  }
-
   /**
    * Creates a {@link LinkedHashMap} instance, with a high enough "initial capacity" that it
    * <em>should</em> hold {@code expectedSize} elements without growth.
@@ -73,6 +65,20 @@ public final class DaggerCollections {
     return new LinkedHashMap<K, V>(calculateInitialCapacity(expectedSize));
   }
 
+  /**
+   * Returns a power-of-two size for an open-addressed hash table that holds {@code expectedSize}
+   * elements. The load factor stays at or below 0.5, so that linear probing stays short and there
+   * is always an empty slot to end a probe.
+   */
+  static int openAddressedTableSize(int expectedSize) {
+    return Integer.highestOneBit(Math.max(expectedSize, 2) - 1) << 2;
+  }
+
+  /** Spreads the bits of {@code hashCode} so that nearby hash codes do not cluster in a table. */
+  static int smear(int hashCode) {
+    return 0x1b873593 * Integer.rotateLeft(hashCode * 0xcc9e2d51, 15);
+  }
+
   private static int calculateInitialCapacity(int expectedSize) {
     if (expectedSize < 3) {
       return expectedSize + 1;
@@ -65,6 +65,23 @@ public final class DelegateFactory<T> implements Factory<T> {
     setDelegateInternal(asDelegateFactory, delegate);
   }
 
+  /**
+   * Sets {@code delegateFactory}'s delegate provider to {@code delegate}, and returns {@code
+   * delegate}.
+   *
+   * <p>Generated code assigns the result to the field that held {@code delegateFactory}, so that
+   * uses of the field after the cycle is closed call {@code delegate} directly rather than through
+   * {@code delegateFactory}.
+   *
+   * <p>{@code delegateFactory} must be an instance of {@link DelegateFactory}, otherwise this
+   * method will throw a {@link ClassCastException}.
+   */
+  public static <T> Provider<T> setDelegateAndUnwrap(
+      Provider<T> delegateFactory, Provider<T> delegate) {
+    setDelegate(delegateFactory, delegate);
+    return delegate;
+  }
+
   /**
    * Legacy javax version of the method to support libraries compiled with an older version of
    * Dagger. Do not use directly.
@@ -27,7 +27,7 @@ import org.jspecify.annotations.Nullable;
  * delegate using the double-check idiom described in Item 71 of <i>Effective Java 2</i>.
  */
 public final class DoubleCheck<T extends @Nullable Object> implements Provider<T>, Lazy<T> {
-  private static final Object UNINITIALIZED = new Object();
+  static final Object UNINITIALIZED = new Object();
 
   private volatile @Nullable Provider<T> provider;
   private volatile @Nullable Object instance = UNINITIALIZED;
@@ -47,11 +47,11 @@ public final class DoubleCheck<T extends @Nullable Object> implements Provider<T
     return (T) result;
   }
 
-  @SuppressWarnings("nullness:dereference.of.nullable") // provider is non-null
+  @SuppressWarnings("nullness:argument") // provider is non-null
   private synchronized @Nullable Object getSynchronized() {
     @Nullable Object result = instance;
     if (result == UNINITIALIZED) {
-      result = provider.get();
+      result = ScopedProvisionObserver.provide(provider);
       instance = reentrantCheck(instance, result);
       /* Null out the reference to the provider. We are never going to need it again, so we
        * can make it eligible for GC. */
@@ -65,7 +65,7 @@ public final class DoubleCheck<T extends @Nullable Object> implements Provider<T
    * new instance is the same as the current instance, return the instance. However, if the new
    * instance differs from the current instance, an {@link IllegalStateException} is thrown.
    */
-  private static @Nullable Object reentrantCheck(
+  static @Nullable Object reentrantCheck(
       @Nullable Object currentInstance, @Nullable Object newInstance) {
     boolean isReentrant = currentInstance != UNINITIALIZED;
     if (isReentrant && currentInstance != newInstance) {
@@ -80,7 +80,7 @@ public final class DoubleCheck<T extends @Nullable Object> implements Provider<T
   public static <T extends @Nullable Object> dagger.internal.Provider<T> provider(
       dagger.internal.Provider<T> delegate) {
     checkNotNull(delegate);
-    if (delegate instanceof DoubleCheck) {
+    if (delegate instanceof DoubleCheck || delegate instanceof NonPinningDoubleCheck) {
       /* This should be a rare case, but if we have a scoped @Binds that delegates to a scoped
        * binding, we shouldn't cache the value again. */
       return delegate;
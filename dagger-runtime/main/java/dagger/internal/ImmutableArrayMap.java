@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.DaggerCollections.openAddressedTableSize;
+import static dagger.internal.DaggerCollections.smear;
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable {@link Map} backed by arrays of its keys and values in insertion order and an
+ * open-addressed hash table of key indices.
+ *
+ * <p>Maps that differ only in their values can share the keys and the hash table through {@link
+ * #withValues}, so a map binding hashes its keys once, when its factory is built, rather than every
+ * time the map is requested.
+ */
+final class ImmutableArrayMap<K, V extends @Nullable Object> extends AbstractMap<K, V> {
+  /** Returns a new {@link Builder} that can hold {@code expectedSize} entries without growing. */
+  static <K, V extends @Nullable Object> Builder<K, V> builderWithExpectedSize(int expectedSize) {
+    return new Builder<>(expectedSize);
+  }
+
+  /** A single-use builder for an {@link ImmutableArrayMap}. */
+  static final class Builder<K, V extends @Nullable Object> {
+    private @Nullable Object[] keys;
+    private @Nullable Object[] values;
+    private int[] table;
+    private int size;
+
+    private Builder(int expectedSize) {
+      keys = new Object[expectedSize];
+      values = new Object[expectedSize];
+      table = new int[openAddressedTableSize(expectedSize)];
+    }
+
+    /**
+     * Associates {@code key} with {@code value}. If {@code key} was already added, its value is
+     * replaced but it keeps its original position in the iteration order.
+     */
+    void put(K key, V value) {
+      checkNotNull(key);
+      if (size == keys.length) {
+        grow();
+      }
+      int mask = table.length - 1;
+      for (int i = smear(key.hashCode()) & mask; ; i = (i + 1) & mask) {
+        int index = table[i] - 1;
+        if (index < 0) {
+          table[i] = size + 1;
+          keys[size] = key;
+          values[size] = value;
+          size++;
+          return;
+        } else if (keys[index].equals(key)) {
+          values[index] = value;
+          return;
+        }
+      }
+    }
+
+    /** Adds all entries of {@code map} in its iteration order. */
+    void putAll(ImmutableArrayMap<K, V> map) {
+      for (int i = 0; i < map.size; i++) {
+        put(map.keyAt(i), map.valueAt(i));
+      }
+    }
+
+    ImmutableArrayMap<K, V> build() {
+      return new ImmutableArrayMap<>(keys, values, size, table);
+    }
+
+    // Only needed when more entries are added than the expected size, e.g. through putAll().
+    private void grow() {
+      int newCapacity = Math.max(keys.length * 2, 4);
+      keys = Arrays.copyOf(keys, newCapacity);
+      values = Arrays.copyOf(values, newCapacity);
+      table = new int[openAddressedTableSize(newCapacity)];
+      int mask = table.length - 1;
+      for (int index = 0; index < size; index++) {
+        int i = smear(keys[index].hashCode()) & mask;
+        while (table[i] != 0) {
+          i = (i + 1) & mask;
+        }
+        table[i] = index + 1;
+      }
+    }
+  }
+
+  private final @Nullable Object[] keys;
+  private final @Nullable Object[] values;
+  private final int size;
+  // Holds the index of each key plus one, so that zero marks an empty slot.
+  private final int[] table;
+  private @Nullable Set<Entry<K, V>> entrySet;
+
+  private ImmutableArrayMap(
+      @Nullable Object[] keys, @Nullable Object[] values, int size, int[] table) {
+    this.keys = keys;
+    this.values = values;
+    this.size = size;
+    this.table = table;
+  }
+
+  /**
+   * Returns a map with the same keys as this one, where the key at each index is associated with
+   * the element of {@code values} at the same index.
+   */
+  <V2 extends @Nullable Object> ImmutableArrayMap<K, V2> withValues(@Nullable Object[] values) {
+    return new ImmutableArrayMap<>(keys, values, size, table);
+  }
+
+  /** Returns the key at {@code index} in iteration order. */
+  @SuppressWarnings("unchecked") // Only Ks are added as keys.
+  K keyAt(int index) {
+    return (K) keys[index];
+  }
+
+  /** Returns the value at {@code index} in iteration order. */
+  @SuppressWarnings("unchecked") // Only Vs are added as values.
+  V valueAt(int index) {
+    return (V) values[index];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public @Nullable V get(@Nullable Object key) {
+    int index = indexOf(key);
+    return index < 0 ? null : valueAt(index);
+  }
+
+  private int indexOf(@Nullable Object key) {
+    if (key == null) {
+      return -1;
+    }
+    int mask = table.length - 1;
+    for (int i = smear(key.hashCode()) & mask; ; i = (i + 1) & mask) {
+      int index = table[i] - 1;
+      if (index < 0 || keys[index].equals(key)) {
+        return index;
+      }
+    }
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    Set<Entry<K, V>> result = entrySet;
+    if (result == null) {
+      result = entrySet = new EntrySet();
+    }
+    return result;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K, V>> {
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return new Iterator<Entry<K, V>>() {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return index < size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+          if (index >= size) {
+            throw new NoSuchElementException();
+          }
+          Entry<K, V> entry = new SimpleImmutableEntry<>(keyAt(index), valueAt(index));
+          index++;
+          return entry;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.DaggerCollections.openAddressedTableSize;
+import static dagger.internal.DaggerCollections.smear;
+import static dagger.internal.Preconditions.checkNotNull;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable {@link Set} backed by an array of its elements in insertion order and an
+ * open-addressed hash table used for lookups and to drop duplicates as the set is built.
+ *
+ * <p>Unlike a {@link java.util.HashSet}, building this set allocates no per-element entries and
+ * never rehashes, because the table is sized for the expected number of elements up front.
+ */
+final class ImmutableArraySet<T extends @Nullable Object> extends AbstractSet<T> {
+  /** Returns a new {@link Builder} that can hold {@code expectedSize} distinct elements. */
+  static <T extends @Nullable Object> Builder<T> builderWithExpectedSize(int expectedSize) {
+    return new Builder<T>(expectedSize);
+  }
+
+  /**
+   * A single-use builder for an {@link ImmutableArraySet}. Adding more than {@code expectedSize}
+   * distinct elements is an error.
+   */
+  static final class Builder<T extends @Nullable Object> {
+    private final Object[] elements;
+    private final Object[] table;
+    private int size;
+
+    private Builder(int expectedSize) {
+      elements = new Object[expectedSize];
+      table = new Object[openAddressedTableSize(expectedSize)];
+    }
+
+    /**
+     * Adds {@code element} unless an equal element was already added.
+     *
+     * @throws NullPointerException if {@code element} is {@code null}
+     */
+    void add(T element) {
+      checkNotNull(element);
+      int mask = table.length - 1;
+      for (int i = smear(element.hashCode()) & mask; ; i = (i + 1) & mask) {
+        Object candidate = table[i];
+        if (candidate == null) {
+          table[i] = element;
+          elements[size++] = element;
+          return;
+        } else if (candidate.equals(element)) {
+          return;
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked") // Only Ts were added to the builder.
+    Set<T> build() {
+      switch (size) {
+        case 0:
+          return emptySet();
+        case 1:
+          return singleton((T) elements[0]);
+        default:
+          return new ImmutableArraySet<T>(elements, size, table);
+      }
+    }
+  }
+
+  private final Object[] elements;
+  private final int size;
+  private final Object[] table;
+
+  private ImmutableArraySet(Object[] elements, int size, Object[] table) {
+    this.elements = elements;
+    this.size = size;
+    this.table = table;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(@Nullable Object object) {
+    if (object == null) {
+      return false;
+    }
+    int mask = table.length - 1;
+    for (int i = smear(object.hashCode()) & mask; ; i = (i + 1) & mask) {
+      Object candidate = table[i];
+      if (candidate == null) {
+        return false;
+      } else if (candidate.equals(object)) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<T>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked") // Only Ts were added to the builder.
+      public T next() {
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+        return (T) elements[index++];
+      }
+    };
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@code Map<Integer, Provider<V>>} used to implement map bindings keyed by {@code int}, such as
+ * {@link dagger.multibindings.IntKey @IntKey} bindings.
+ *
+ * <p>Keys are stored unboxed in a sorted {@code int[]} and looked up by binary search, so the map
+ * holds no per-entry objects. Iteration still follows the order in which the contributions were
+ * added.
+ */
+public final class IntKeyedProviderMap<V> extends AbstractMap<Integer, Provider<V>> {
+  /** Returns a new {@link Builder} for {@code size} contributions. */
+  public static <V> Builder<V> builder(int size) {
+    return new Builder<>(size);
+  }
+
+  /**
+   * A builder for an {@link IntKeyedProviderMap}. It is only intended to be used once, from within
+   * generated code.
+   */
+  public static final class Builder<V> {
+    private final int[] keys;
+    private final Object[] providers;
+    private int size;
+
+    private Builder(int size) {
+      keys = new int[size];
+      providers = new Object[size];
+    }
+
+    /** Associates {@code key} with {@code providerOfValue}. */
+    public Builder<V> put(int key, Provider<V> providerOfValue) {
+      keys[size] = key;
+      providers[size] = checkNotNull(providerOfValue, "provider");
+      size++;
+      return this;
+    }
+
+    /** Returns a factory that always returns the same {@link IntKeyedProviderMap}. */
+    public Factory<Map<Integer, Provider<V>>> build() {
+      return InstanceFactory.<Map<Integer, Provider<V>>>create(
+          new IntKeyedProviderMap<V>(keys, providers, size));
+    }
+  }
+
+  private final int[] sortedKeys;
+  private final @Nullable Object[] sortedProviders;
+  // Maps each position in iteration order to the index of its entry in the sorted arrays.
+  private final int[] iterationOrder;
+  private @Nullable Set<Entry<Integer, Provider<V>>> entrySet;
+
+  private IntKeyedProviderMap(int[] keys, @Nullable Object[] providers, int size) {
+    sortedKeys = Arrays.copyOf(keys, size);
+    Arrays.sort(sortedKeys);
+    for (int i = 1; i < size; i++) {
+      if (sortedKeys[i - 1] == sortedKeys[i]) {
+        throw new IllegalArgumentException("Codegen error? Duplicate key: " + sortedKeys[i]);
+      }
+    }
+    sortedProviders = new Object[size];
+    iterationOrder = new int[size];
+    for (int position = 0; position < size; position++) {
+      int index = Arrays.binarySearch(sortedKeys, keys[position]);
+      sortedProviders[index] = providers[position];
+      iterationOrder[position] = index;
+    }
+  }
+
+  /** Returns the provider for {@code key}, or {@code null} if there is none. */
+  public @Nullable Provider<V> get(int key) {
+    int index = Arrays.binarySearch(sortedKeys, key);
+    return index < 0 ? null : providerAt(index);
+  }
+
+  @Override
+  public @Nullable Provider<V> get(@Nullable Object key) {
+    return key instanceof Integer ? get(((Integer) key).intValue()) : null;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return key instanceof Integer && Arrays.binarySearch(sortedKeys, (Integer) key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return sortedKeys.length;
+  }
+
+  @Override
+  public Set<Entry<Integer, Provider<V>>> entrySet() {
+    Set<Entry<Integer, Provider<V>>> result = entrySet;
+    if (result == null) {
+      result = entrySet = new EntrySet();
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // Only Provider<V>s are added to the builder.
+  private Provider<V> providerAt(int index) {
+    return (Provider<V>) sortedProviders[index];
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<Integer, Provider<V>>> {
+    @Override
+    public int size() {
+      return sortedKeys.length;
+    }
+
+    @Override
+    public Iterator<Entry<Integer, Provider<V>>> iterator() {
+      return new Iterator<Entry<Integer, Provider<V>>>() {
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+          return position < iterationOrder.length;
+        }
+
+        @Override
+        public Entry<Integer, Provider<V>> next() {
+          if (position >= iterationOrder.length) {
+            throw new NoSuchElementException();
+          }
+          int index = iterationOrder[position++];
+          return new SimpleImmutableEntry<>(sortedKeys[index], providerAt(index));
+        }
+      };
+    }
+  }
+}
@@ -16,9 +16,16 @@
 
 package dagger.internal;
 
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -26,16 +33,31 @@ import org.jspecify.annotations.Nullable;
  * A class keyed map that delegates to a string keyed map under the hood.
  *
  * <p>A {@code LazyClassKeyMap} is created for @LazyClassKey contributed map binding.
+ *
+ * <p>By default, {@link #keySet()} and {@link #entrySet()} are unsupported because they would load
+ * every key class. A map returned by {@link #withClassLoader(ClassLoader)} supports them by loading
+ * each key class as it is iterated.
  */
 public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
   private final Map<String, V> delegate;
+  private final @Nullable ClassResolver classResolver;
 
   public static <V> Map<Class<?>, V> of(Map<String, V> delegate) {
-    return new LazyClassKeyMap<>(delegate);
+    return new LazyClassKeyMap<>(delegate, null);
   }
 
-  private LazyClassKeyMap(Map<String, V> delegate) {
+  private LazyClassKeyMap(Map<String, V> delegate, @Nullable ClassResolver classResolver) {
     this.delegate = delegate;
+    this.classResolver = classResolver;
+  }
+
+  /**
+   * Returns a view of this map whose {@link #keySet()} and {@link #entrySet()} load key classes
+   * from {@code classLoader} on demand. Each class is loaded at most once per returned map, and is
+   * not initialized.
+   */
+  public LazyClassKeyMap<V> withClassLoader(ClassLoader classLoader) {
+    return new LazyClassKeyMap<>(delegate, new ClassResolver(classLoader));
   }
 
   @Override
@@ -48,11 +70,20 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
 
   @Override
   public Set<Class<?>> keySet() {
-    // This method will load all class keys, therefore no need to use @LazyClassKey annotated
-    // bindings.
-    throw new UnsupportedOperationException(
-        "Maps created with @LazyClassKey do not support usage of keySet(). Consider @ClassKey"
-            + " instead.");
+    ClassResolver classResolver = this.classResolver;
+    if (classResolver == null) {
+      // This method will load all class keys, therefore no need to use @LazyClassKey annotated
+      // bindings.
+      throw new UnsupportedOperationException(
+          "Maps created with @LazyClassKey do not support usage of keySet(). Consider @ClassKey"
+              + " instead, or LazyClassKeys.withClassLoader().");
+    }
+    return new ResolvingSet<Class<?>>() {
+      @Override
+      Class<?> resolve(Map.Entry<String, V> entry) {
+        return classResolver.resolve(entry.getKey());
+      }
+    };
   }
 
   @Override
@@ -85,11 +116,21 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
 
   @Override
   public Set<Map.Entry<Class<?>, V>> entrySet() {
-    // This method will load all class keys, therefore no need to use @LazyClassKey annotated
-    // bindings.
-    throw new UnsupportedOperationException(
-        "Maps created with @LazyClassKey do not support usage of entrySet(). Consider @ClassKey"
-            + " instead.");
+    ClassResolver classResolver = this.classResolver;
+    if (classResolver == null) {
+      // This method will load all class keys, therefore no need to use @LazyClassKey annotated
+      // bindings.
+      throw new UnsupportedOperationException(
+          "Maps created with @LazyClassKey do not support usage of entrySet(). Consider @ClassKey"
+              + " instead, or LazyClassKeys.withClassLoader().");
+    }
+    return new ResolvingSet<Map.Entry<Class<?>, V>>() {
+      @Override
+      Map.Entry<Class<?>, V> resolve(Map.Entry<String, V> entry) {
+        return new SimpleImmutableEntry<Class<?>, V>(
+            classResolver.resolve(entry.getKey()), entry.getValue());
+      }
+    };
   }
 
   // The dagger map binding should be a immutable map.
@@ -113,6 +154,56 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
     throw new UnsupportedOperationException("Dagger map bindings are immutable");
   }
 
+  /** A view of the delegate's entries that resolves each one as it is iterated. */
+  private abstract class ResolvingSet<E> extends AbstractSet<E> {
+    abstract E resolve(Map.Entry<String, V> entry);
+
+    @Override
+    public int size() {
+      return delegate.size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      Iterator<Map.Entry<String, V>> entries = delegate.entrySet().iterator();
+      return new Iterator<E>() {
+        @Override
+        public boolean hasNext() {
+          return entries.hasNext();
+        }
+
+        @Override
+        public E next() {
+          return resolve(entries.next());
+        }
+      };
+    }
+  }
+
+  /** Loads classes by name from a {@link ClassLoader}, memoizing the result for each name. */
+  private static final class ClassResolver {
+    private final ClassLoader classLoader;
+    private final ConcurrentMap<String, Class<?>> classes = new ConcurrentHashMap<>();
+
+    ClassResolver(ClassLoader classLoader) {
+      this.classLoader = checkNotNull(classLoader, "classLoader");
+    }
+
+    Class<?> resolve(String className) {
+      Class<?> clazz = classes.get(className);
+      if (clazz == null) {
+        try {
+          clazz = Class.forName(className, /* initialize= */ false, classLoader);
+        } catch (ClassNotFoundException e) {
+          throw new IllegalStateException(
+              "Could not load the @LazyClassKey class " + className + " from " + classLoader, e);
+        }
+        classes.put(className, clazz);
+      }
+      return clazz;
+    }
+  }
+
   /** Wrapper around {@link MapFactory}. */
   public static class MapFactory<V> implements Factory<Map<Class<?>, V>> {
     Factory<Map<String, V>> delegate;
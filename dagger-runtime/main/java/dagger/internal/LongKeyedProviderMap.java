@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@code Map<Long, Provider<V>>} used to implement map bindings keyed by {@code long}, such as
+ * {@link dagger.multibindings.LongKey @LongKey} bindings.
+ *
+ * <p>Keys are stored unboxed in a sorted {@code long[]} and looked up by binary search, so the map
+ * holds no per-entry objects. Iteration still follows the order in which the contributions were
+ * added.
+ */
+public final class LongKeyedProviderMap<V> extends AbstractMap<Long, Provider<V>> {
+  /** Returns a new {@link Builder} for {@code size} contributions. */
+  public static <V> Builder<V> builder(int size) {
+    return new Builder<>(size);
+  }
+
+  /**
+   * A builder for an {@link LongKeyedProviderMap}. It is only intended to be used once, from within
+   * generated code.
+   */
+  public static final class Builder<V> {
+    private final long[] keys;
+    private final Object[] providers;
+    private int size;
+
+    private Builder(int size) {
+      keys = new long[size];
+      providers = new Object[size];
+    }
+
+    /** Associates {@code key} with {@code providerOfValue}. */
+    public Builder<V> put(long key, Provider<V> providerOfValue) {
+      keys[size] = key;
+      providers[size] = checkNotNull(providerOfValue, "provider");
+      size++;
+      return this;
+    }
+
+    /** Returns a factory that always returns the same {@link LongKeyedProviderMap}. */
+    public Factory<Map<Long, Provider<V>>> build() {
+      return InstanceFactory.<Map<Long, Provider<V>>>create(
+          new LongKeyedProviderMap<V>(keys, providers, size));
+    }
+  }
+
+  private final long[] sortedKeys;
+  private final @Nullable Object[] sortedProviders;
+  // Maps each position in iteration order to the index of its entry in the sorted arrays.
+  private final int[] iterationOrder;
+  private @Nullable Set<Entry<Long, Provider<V>>> entrySet;
+
+  private LongKeyedProviderMap(long[] keys, @Nullable Object[] providers, int size) {
+    sortedKeys = Arrays.copyOf(keys, size);
+    Arrays.sort(sortedKeys);
+    for (int i = 1; i < size; i++) {
+      if (sortedKeys[i - 1] == sortedKeys[i]) {
+        throw new IllegalArgumentException("Codegen error? Duplicate key: " + sortedKeys[i]);
+      }
+    }
+    sortedProviders = new Object[size];
+    iterationOrder = new int[size];
+    for (int position = 0; position < size; position++) {
+      int index = Arrays.binarySearch(sortedKeys, keys[position]);
+      sortedProviders[index] = providers[position];
+      iterationOrder[position] = index;
+    }
+  }
+
+  /** Returns the provider for {@code key}, or {@code null} if there is none. */
+  public @Nullable Provider<V> get(long key) {
+    int index = Arrays.binarySearch(sortedKeys, key);
+    return index < 0 ? null : providerAt(index);
+  }
+
+  @Override
+  public @Nullable Provider<V> get(@Nullable Object key) {
+    return key instanceof Long ? get(((Long) key).longValue()) : null;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return key instanceof Long && Arrays.binarySearch(sortedKeys, (Long) key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return sortedKeys.length;
+  }
+
+  @Override
+  public Set<Entry<Long, Provider<V>>> entrySet() {
+    Set<Entry<Long, Provider<V>>> result = entrySet;
+    if (result == null) {
+      result = entrySet = new EntrySet();
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked") // Only Provider<V>s are added to the builder.
+  private Provider<V> providerAt(int index) {
+    return (Provider<V>) sortedProviders[index];
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<Long, Provider<V>>> {
+    @Override
+    public int size() {
+      return sortedKeys.length;
+    }
+
+    @Override
+    public Iterator<Entry<Long, Provider<V>>> iterator() {
+      return new Iterator<Entry<Long, Provider<V>>>() {
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+          return position < iterationOrder.length;
+        }
+
+        @Override
+        public Entry<Long, Provider<V>> next() {
+          if (position >= iterationOrder.length) {
+            throw new NoSuchElementException();
+          }
+          int index = iterationOrder[position++];
+          return new SimpleImmutableEntry<>(sortedKeys[index], providerAt(index));
+        }
+      };
+    }
+  }
+}
@@ -16,13 +16,10 @@
 
 package dagger.internal;
 
-import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
 import static dagger.internal.Providers.asDaggerProvider;
-import static java.util.Collections.unmodifiableMap;
 
 import java.util.Collections;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * A {@link Factory} implementation used to implement {@link Map} bindings. This factory returns a
@@ -43,7 +40,7 @@ public final class MapFactory<K, V> extends AbstractMapFactory<K, V, V> {
     return (Provider<Map<K, V>>) (Provider) EMPTY;
   }
 
-  private MapFactory(Map<K, Provider<V>> map) {
+  private MapFactory(ImmutableArrayMap<K, Provider<V>> map) {
     super(map);
   }
 
@@ -53,11 +50,12 @@ public final class MapFactory<K, V> extends AbstractMapFactory<K, V, V> {
    */
   @Override
   public Map<K, V> get() {
-    Map<K, V> result = newLinkedHashMapWithExpectedSize(contributingMap().size());
-    for (Entry<K, Provider<V>> entry : contributingMap().entrySet()) {
-      result.put(entry.getKey(), entry.getValue().get());
+    ImmutableArrayMap<K, Provider<V>> contributingMap = contributingMap();
+    Object[] values = new Object[contributingMap.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = contributingMap.valueAt(i).get();
     }
-    return unmodifiableMap(result);
+    return contributingMap.withValues(values);
   }
 
   /** A builder for {@link MapFactory}. */
@@ -98,7 +96,7 @@ public final class MapFactory<K, V> extends AbstractMapFactory<K, V, V> {
 
     /** Returns a new {@link MapProviderFactory}. */
     public MapFactory<K, V> build() {
-      return new MapFactory<>(map);
+      return new MapFactory<>(map.build());
     }
   }
 }
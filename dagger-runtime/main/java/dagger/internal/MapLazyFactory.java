@@ -16,14 +16,11 @@
 
 package dagger.internal;
 
-import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
 import static dagger.internal.Providers.asDaggerProvider;
-import static java.util.Collections.unmodifiableMap;
 
 import dagger.Lazy;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * A {@link Factory} implementation used to implement {@link Map} bindings. This factory returns a
@@ -35,7 +32,15 @@ public final class MapLazyFactory<K, V> extends AbstractMapFactory<K, V, Lazy<V>
 
   /** Returns a new {@link Builder} */
   public static <K, V> Builder<K, V> builder(int size) {
-    return new Builder<>(size);
+    return new Builder<>(size, false);
+  }
+
+  /**
+   * Returns a new {@link Builder} for a factory whose {@link Lazy} values are memoized with {@link
+   * NonPinningDoubleCheck} instead of {@link DoubleCheck}.
+   */
+  public static <K, V> Builder<K, V> nonPinningBuilder(int size) {
+    return new Builder<>(size, true);
   }
 
   /** Returns a factory of an empty map. */
@@ -44,8 +49,11 @@ public final class MapLazyFactory<K, V> extends AbstractMapFactory<K, V, Lazy<V>
     return (Provider<Map<K, Lazy<V>>>) (Provider) EMPTY;
   }
 
-  private MapLazyFactory(Map<K, Provider<V>> map) {
+  private final boolean nonPinning;
+
+  private MapLazyFactory(ImmutableArrayMap<K, Provider<V>> map, boolean nonPinning) {
     super(map);
+    this.nonPinning = nonPinning;
   }
 
   /**
@@ -54,17 +62,25 @@ public final class MapLazyFactory<K, V> extends AbstractMapFactory<K, V, Lazy<V>
    */
   @Override
   public Map<K, Lazy<V>> get() {
-    Map<K, Lazy<V>> result = newLinkedHashMapWithExpectedSize(contributingMap().size());
-    for (Entry<K, Provider<V>> entry : contributingMap().entrySet()) {
-      result.put(entry.getKey(), DoubleCheck.lazy(entry.getValue()));
+    ImmutableArrayMap<K, Provider<V>> contributingMap = contributingMap();
+    Object[] values = new Object[contributingMap.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = lazy(contributingMap.valueAt(i));
     }
-    return unmodifiableMap(result);
+    return contributingMap.withValues(values);
+  }
+
+  private Lazy<V> lazy(Provider<V> provider) {
+    return nonPinning ? NonPinningDoubleCheck.lazy(provider) : DoubleCheck.lazy(provider);
   }
 
   /** A builder for {@link MapLazyFactory}. */
   public static final class Builder<K, V> extends AbstractMapFactory.Builder<K, V, Lazy<V>> {
-    private Builder(int size) {
+    private final boolean nonPinning;
+
+    private Builder(int size, boolean nonPinning) {
       super(size);
+      this.nonPinning = nonPinning;
     }
 
     @Override
@@ -99,7 +115,7 @@ public final class MapLazyFactory<K, V> extends AbstractMapFactory<K, V, Lazy<V>
 
     /** Returns a new {@link MapLazyFactory}. */
     public MapLazyFactory<K, V> build() {
-      return new MapLazyFactory<>(map);
+      return new MapLazyFactory<>(map.build(), nonPinning);
     }
   }
 }
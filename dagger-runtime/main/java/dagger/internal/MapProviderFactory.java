@@ -35,7 +35,7 @@ public final class MapProviderFactory<K, V> extends AbstractMapFactory<K, V, Pro
     return new Builder<>(size);
   }
 
-  private MapProviderFactory(Map<K, Provider<V>> contributingMap) {
+  private MapProviderFactory(ImmutableArrayMap<K, Provider<V>> contributingMap) {
     super(contributingMap);
   }
 
@@ -99,7 +99,7 @@ public final class MapProviderFactory<K, V> extends AbstractMapFactory<K, V, Pro
 
     /** Returns a new {@link MapProviderFactory}. */
     public MapProviderFactory<K, V> build() {
-      return new MapProviderFactory<>(map);
+      return new MapProviderFactory<>(map.build());
     }
   }
 }
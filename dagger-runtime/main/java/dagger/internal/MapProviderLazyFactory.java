@@ -16,14 +16,11 @@
 
 package dagger.internal;
 
-import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
 import static dagger.internal.Providers.asDaggerProvider;
-import static java.util.Collections.unmodifiableMap;
 
 import dagger.Lazy;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * A {@link Factory} implementation used to implement {@link Map} bindings. This factory returns a
@@ -36,7 +33,15 @@ public final class MapProviderLazyFactory<K, V>
 
   /** Returns a new {@link Builder} */
   public static <K, V> Builder<K, V> builder(int size) {
-    return new Builder<>(size);
+    return new Builder<>(size, false);
+  }
+
+  /**
+   * Returns a new {@link Builder} for a factory whose {@link Lazy} values are memoized with {@link
+   * NonPinningDoubleCheck} instead of {@link DoubleCheck}.
+   */
+  public static <K, V> Builder<K, V> nonPinningBuilder(int size) {
+    return new Builder<>(size, true);
   }
 
   /** Returns a factory of an empty map. */
@@ -45,8 +50,11 @@ public final class MapProviderLazyFactory<K, V>
     return (Provider<Map<K, Provider<Lazy<V>>>>) (Provider) EMPTY;
   }
 
-  private MapProviderLazyFactory(Map<K, Provider<V>> map) {
+  private final boolean nonPinning;
+
+  private MapProviderLazyFactory(ImmutableArrayMap<K, Provider<V>> map, boolean nonPinning) {
     super(map);
+    this.nonPinning = nonPinning;
   }
 
   /**
@@ -55,18 +63,27 @@ public final class MapProviderLazyFactory<K, V>
    */
   @Override
   public Map<K, Provider<Lazy<V>>> get() {
-    Map<K, Provider<Lazy<V>>> result = newLinkedHashMapWithExpectedSize(contributingMap().size());
-    for (Entry<K, Provider<V>> entry : contributingMap().entrySet()) {
-      result.put(entry.getKey(), () -> DoubleCheck.lazy(entry.getValue()));
+    ImmutableArrayMap<K, Provider<V>> contributingMap = contributingMap();
+    Object[] values = new Object[contributingMap.size()];
+    for (int i = 0; i < values.length; i++) {
+      Provider<V> provider = contributingMap.valueAt(i);
+      values[i] = (Provider<Lazy<V>>) () -> lazy(provider);
     }
-    return unmodifiableMap(result);
+    return contributingMap.withValues(values);
+  }
+
+  private Lazy<V> lazy(Provider<V> provider) {
+    return nonPinning ? NonPinningDoubleCheck.lazy(provider) : DoubleCheck.lazy(provider);
   }
 
   /** A builder for {@link MapProviderLazyFactory}. */
   public static final class Builder<K, V>
       extends AbstractMapFactory.Builder<K, V, Provider<Lazy<V>>> {
-    private Builder(int size) {
+    private final boolean nonPinning;
+
+    private Builder(int size, boolean nonPinning) {
       super(size);
+      this.nonPinning = nonPinning;
     }
 
     @Override
@@ -101,7 +118,7 @@ public final class MapProviderLazyFactory<K, V>
 
     /** Returns a new {@link MapProviderLazyFactory}. */
     public MapProviderLazyFactory<K, V> build() {
-      return new MapProviderLazyFactory<>(map);
+      return new MapProviderLazyFactory<>(map.build(), nonPinning);
     }
   }
 }
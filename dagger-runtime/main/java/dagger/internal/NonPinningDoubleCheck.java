@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dagger.internal;
+
+import static dagger.internal.DoubleCheck.UNINITIALIZED;
+import static dagger.internal.DoubleCheck.reentrantCheck;
+import static dagger.internal.Preconditions.checkNotNull;
+
+import dagger.Lazy;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Lazy} and {@link Provider} implementation that memoizes the value returned from a
+ * delegate, like {@link DoubleCheck}, but guards the initialization with a {@link ReentrantLock}
+ * instead of a {@code synchronized} block.
+ *
+ * <p>Threads that block on a {@link ReentrantLock} do not pin their carrier thread when running on
+ * a virtual thread, and contending threads wait on a lock owned by this provider rather than on the
+ * provider's monitor. The lock is only allocated, with a compare-and-set, the first time the value
+ * is requested before it has been initialized, and is released once the value is set.
+ */
+public final class NonPinningDoubleCheck<T extends @Nullable Object>
+    implements Provider<T>, Lazy<T> {
+  @SuppressWarnings("rawtypes") // class literals can't be parameterized
+  private static final AtomicReferenceFieldUpdater<NonPinningDoubleCheck, ReentrantLock>
+      LOCK_UPDATER =
+          AtomicReferenceFieldUpdater.newUpdater(
+              NonPinningDoubleCheck.class, ReentrantLock.class, "lock");
+
+  private volatile @Nullable Provider<T> provider;
+  private volatile @Nullable Object instance = UNINITIALIZED;
+  private volatile @Nullable ReentrantLock lock;
+
+  private NonPinningDoubleCheck(Provider<T> provider) {
+    assert provider != null;
+    this.provider = provider;
+  }
+
+  @SuppressWarnings("unchecked") // cast only happens when result comes from the provider
+  @Override
+  public T get() {
+    @Nullable Object result = instance;
+    if (result == UNINITIALIZED) {
+      result = getWithLock();
+    }
+    return (T) result;
+  }
+
+  @SuppressWarnings("nullness:argument") // provider is non-null
+  private @Nullable Object getWithLock() {
+    ReentrantLock lock = lock();
+    lock.lock();
+    try {
+      @Nullable Object result = instance;
+      if (result == UNINITIALIZED) {
+        result = ScopedProvisionObserver.provide(provider);
+        instance = reentrantCheck(instance, result);
+        /* Null out the reference to the provider. We are never going to need it again, so we
+         * can make it eligible for GC. */
+        provider = null;
+      }
+      /* The value is set, so the same goes for the lock. Threads already waiting on the lock hold
+       * their own reference to it. */
+      this.lock = null;
+      return result;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private ReentrantLock lock() {
+    @Nullable ReentrantLock lock = this.lock;
+    if (lock == null) {
+      ReentrantLock newLock = new ReentrantLock();
+      // If another thread installed its lock first, use that one instead.
+      lock = LOCK_UPDATER.compareAndSet(this, null, newLock) ? newLock : this.lock;
+      if (lock == null) {
+        // The value was initialized and the winning lock released in the meantime. Any lock will
+        // do since the value will be found under it.
+        lock = newLock;
+      }
+    }
+    return lock;
+  }
+
+  /** Returns a {@link Provider} that caches the value from the given delegate provider. */
+  public static <T extends @Nullable Object> Provider<T> provider(Provider<T> delegate) {
+    checkNotNull(delegate);
+    if (delegate instanceof NonPinningDoubleCheck || delegate instanceof DoubleCheck) {
+      /* This should be a rare case, but if we have a scoped @Binds that delegates to a scoped
+       * binding, we shouldn't cache the value again. */
+      return delegate;
+    }
+    return new NonPinningDoubleCheck<T>(delegate);
+  }
+
+  /** Returns a {@link Lazy} that caches the value from the given provider. */
+  public static <T extends @Nullable Object> Lazy<T> lazy(Provider<T> provider) {
+    if (provider instanceof Lazy) {
+      @SuppressWarnings("unchecked")
+      final Lazy<T> lazy = (Lazy<T>) provider;
+      // Avoids memoizing a value that is already memoized. See DoubleCheck#lazy.
+      return lazy;
+    }
+    return new NonPinningDoubleCheck<T>(checkNotNull(provider));
+  }
+}
@@ -27,10 +27,12 @@ import dagger.Lazy;
 public final class ProviderOfLazy<T> implements Provider<Lazy<T>> {
 
   private final Provider<T> provider;
+  private final boolean nonPinning;
 
-  private ProviderOfLazy(Provider<T> provider) {
+  private ProviderOfLazy(Provider<T> provider, boolean nonPinning) {
     assert provider != null;
     this.provider = provider;
+    this.nonPinning = nonPinning;
   }
 
   /**
@@ -39,7 +41,7 @@ public final class ProviderOfLazy<T> implements Provider<Lazy<T>> {
    */
   @Override
   public Lazy<T> get() {
-    return DoubleCheck.lazy(provider);
+    return nonPinning ? NonPinningDoubleCheck.lazy(provider) : DoubleCheck.lazy(provider);
   }
 
   /**
@@ -49,7 +51,15 @@ public final class ProviderOfLazy<T> implements Provider<Lazy<T>> {
    * @see #get()
    */
   public static <T> Provider<Lazy<T>> create(Provider<T> provider) {
-    return new ProviderOfLazy<T>(checkNotNull(provider));
+    return new ProviderOfLazy<T>(checkNotNull(provider), false);
+  }
+
+  /**
+   * Like {@link #create(Provider)}, but the {@link Lazy} instances are memoized with {@link
+   * NonPinningDoubleCheck} instead of {@link DoubleCheck}.
+   */
+  public static <T> Provider<Lazy<T>> createNonPinning(Provider<T> provider) {
+    return new ProviderOfLazy<T>(checkNotNull(provider), true);
   }
 
   /**
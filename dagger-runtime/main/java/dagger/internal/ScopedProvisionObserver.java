@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A hook that is notified when a {@link DoubleCheck} or {@link NonPinningDoubleCheck} creates the
+ * instance of a scoped binding, so that profilers can attribute initialization time to individual
+ * bindings.
+ *
+ * <p>At most one observer is installed at a time. When none is installed, the only cost is a
+ * volatile read the first time each scoped binding is requested.
+ *
+ * <p>This is intended to be installed by monitoring libraries such as {@code
+ * dagger.producers.monitoring.JfrScopedProvisionRecorder}. Do not use directly.
+ */
+public abstract class ScopedProvisionObserver {
+  private static volatile @Nullable ScopedProvisionObserver installed;
+
+  /** Installs the given observer, replacing any existing one, or removes it if {@code null}. */
+  public static void install(@Nullable ScopedProvisionObserver observer) {
+    installed = observer;
+  }
+
+  /**
+   * Called on the initializing thread immediately before a scoped binding's provider is called.
+   *
+   * @param provider the provider of the scoped binding, which is usually its generated factory
+   * @return a context object that is passed to {@link #finished}
+   */
+  public abstract @Nullable Object starting(Object provider);
+
+  /**
+   * Called on the initializing thread after a scoped binding's provider returns or throws. The time
+   * between {@link #starting} and this call includes the time to create any scoped dependencies
+   * that were not already initialized.
+   *
+   * @param context the object returned from {@link #starting}
+   * @param provider the provider of the scoped binding
+   * @param instance the instance that was created, or {@code null} if the provider threw or
+   *     returned {@code null}
+   */
+  public abstract void finished(
+      @Nullable Object context, Object provider, @Nullable Object instance);
+
+  /** Calls {@code provider}, notifying the installed observer, if any. */
+  static <T extends @Nullable Object> T provide(Provider<T> provider) {
+    @Nullable ScopedProvisionObserver observer = installed;
+    if (observer == null) {
+      return provider.get();
+    }
+    @Nullable Object context = observer.starting(provider);
+    @Nullable T instance = null;
+    try {
+      instance = provider.get();
+      return instance;
+    } finally {
+      observer.finished(context, provider, instance);
+    }
+  }
+}
@@ -17,12 +17,9 @@
 package dagger.internal;
 
 import static dagger.internal.DaggerCollections.hasDuplicates;
-import static dagger.internal.DaggerCollections.newHashSetWithExpectedSize;
 import static dagger.internal.DaggerCollections.presizedList;
-import static dagger.internal.Preconditions.checkNotNull;
 import static dagger.internal.Providers.asDaggerProvider;
 import static java.util.Collections.emptySet;
-import static java.util.Collections.unmodifiableSet;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -129,11 +126,21 @@ public final class SetFactory<T extends @Nullable Object> implements Factory<Set
    */
   @Override
   public Set<T> get() {
-    int size = individualProviders.size();
     // Profiling revealed that this method was a CPU-consuming hotspot in some applications, so
     // these loops were changed to use c-style for.  Versus enhanced for-each loops, C-style for is
     // faster for ArrayLists, at least through Java 8.
+    if (collectionProviders.isEmpty()) {
+      // Without @ElementsIntoSet contributions, the size is known up front and the elements can be
+      // added as they are provided.
+      ImmutableArraySet.Builder<T> providedValues =
+          ImmutableArraySet.builderWithExpectedSize(individualProviders.size());
+      for (int i = 0, c = individualProviders.size(); i < c; i++) {
+        providedValues.add(individualProviders.get(i).get());
+      }
+      return providedValues.build();
+    }
 
+    int size = individualProviders.size();
     List<Collection<T>> providedCollections =
         new ArrayList<Collection<T>>(collectionProviders.size());
     for (int i = 0, c = collectionProviders.size(); i < c; i++) {
@@ -142,16 +149,16 @@ public final class SetFactory<T extends @Nullable Object> implements Factory<Set
       providedCollections.add(providedCollection);
     }
 
-    Set<T> providedValues = newHashSetWithExpectedSize(size);
+    ImmutableArraySet.Builder<T> providedValues = ImmutableArraySet.builderWithExpectedSize(size);
     for (int i = 0, c = individualProviders.size(); i < c; i++) {
-      providedValues.add(checkNotNull(individualProviders.get(i).get()));
+      providedValues.add(individualProviders.get(i).get());
     }
     for (int i = 0, c = providedCollections.size(); i < c; i++) {
       for (T element : providedCollections.get(i)) {
-        providedValues.add(checkNotNull(element));
+        providedValues.add(element);
       }
     }
 
-    return unmodifiableSet(providedValues);
+    return providedValues.build();
   }
 }
@@ -61,7 +61,9 @@ public final class SingleCheck<T extends @Nullable Object> implements Provider<T
   /** Returns a {@link Provider} that caches the value from the given delegate provider. */
   public static <T> Provider<T> provider(Provider<T> provider) {
     // If a scoped @Binds delegates to a scoped binding, don't cache the value again.
-    if (provider instanceof SingleCheck || provider instanceof DoubleCheck) {
+    if (provider instanceof SingleCheck
+        || provider instanceof DoubleCheck
+        || provider instanceof NonPinningDoubleCheck) {
       return provider;
     }
     return new SingleCheck<T>(checkNotNull(provider));
@@ -28,7 +28,9 @@ import java.lang.annotation.Target;
  * A {@link MapKey} annotation for maps with {@code Class<?>} keys.
  *
  * <p>The difference from {@link ClassKey} is that dagger generates a string representation for the
- * class to use under the hood, which prevents loading unused classes at runtime.
+ * class to use under the hood, which prevents loading unused classes at runtime. As a result, the
+ * map does not support {@link java.util.Map#keySet()} or {@link java.util.Map#entrySet()}; use
+ * {@link LazyClassKeys#withClassLoader} to get a view that does.
  */
 @Target({ElementType.METHOD, ElementType.FIELD, ElementType.TYPE})
 @Retention(RUNTIME)
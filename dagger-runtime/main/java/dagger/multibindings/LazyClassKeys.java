@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.multibindings;
+
+import dagger.internal.LazyClassKeyMap;
+import java.util.Map;
+
+/** Utilities for maps whose contributions are keyed by {@link LazyClassKey}. */
+public final class LazyClassKeys {
+  /**
+   * Returns a view of {@code map} that supports {@link Map#keySet()} and {@link Map#entrySet()}.
+   *
+   * <p>A map with {@link LazyClassKey} keys refers to its key classes by name so that they are not
+   * loaded until needed, and so it can't be iterated by key. The returned view loads each key class
+   * from {@code classLoader} when it is first iterated, without initializing it, and reuses it on
+   * later iterations of the same view. Lookups by key are unaffected. This is meant for occasional
+   * iteration, such as from debugging or diagnostics code; code that routinely iterates the map
+   * should use {@link ClassKey} instead.
+   *
+   * <p>If {@code map} was not created for {@link LazyClassKey} bindings, it is returned as is.
+   *
+   * @throws IllegalStateException during iteration if a key class can't be loaded from {@code
+   *     classLoader}
+   */
+  public static <V> Map<Class<?>, V> withClassLoader(
+      Map<Class<?>, V> map, ClassLoader classLoader) {
+    if (map instanceof LazyClassKeyMap) {
+      return ((LazyClassKeyMap<V>) map).withClassLoader(classLoader);
+    }
+    return map;
+  }
+
+  private LazyClassKeys() {}
+}
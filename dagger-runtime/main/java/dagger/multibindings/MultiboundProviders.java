@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.multibindings;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import jakarta.inject.Provider;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Utilities for resolving multibound collections of providers, such as the values of an injected
+ * {@code Map<K, Provider<V>>}, in one call.
+ *
+ * <p>These methods accept {@code jakarta.inject.Provider}s. To use them with an injected map,
+ * request it as {@code Map<K, jakarta.inject.Provider<V>>}.
+ */
+public final class MultiboundProviders {
+  /**
+   * Calls {@link Provider#get()} on each of {@code providers} and returns the results in iteration
+   * order.
+   *
+   * <p>If a provider throws, the remaining providers are not called and the exception is
+   * propagated.
+   */
+  public static <T extends @Nullable Object> List<T> getAll(
+      Collection<? extends Provider<? extends T>> providers) {
+    @Nullable Object[] results = new Object[providers.size()];
+    int i = 0;
+    for (Provider<? extends T> provider : providers) {
+      results[i++] = provider.get();
+    }
+    return resultList(results);
+  }
+
+  /**
+   * Calls {@link Provider#get()} on each of {@code providers}, running up to {@code parallelism} of
+   * the calls at a time, and returns the results in iteration order.
+   *
+   * <p>The calling thread resolves providers too, and at most {@code parallelism - 1} tasks are
+   * submitted to {@code executor}. Each task resolves providers until none are left, so the call
+   * completes even if {@code executor} rejects or never runs some of the tasks. It returns once
+   * every provider has been resolved.
+   *
+   * <p>The providers must be safe to call concurrently. Bindings in Dagger components are, as long
+   * as the user code they call is: a scoped binding shared by several of the providers is still
+   * only created once, and the other calls wait for it.
+   *
+   * <p>If a provider throws, no more providers are called, and the first exception is propagated
+   * once the calls already in progress have finished.
+   *
+   * @throws IllegalArgumentException if {@code parallelism} is less than 1
+   */
+  public static <T extends @Nullable Object> List<T> getAll(
+      Collection<? extends Provider<? extends T>> providers, Executor executor, int parallelism) {
+    checkNotNull(executor, "executor");
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+    }
+    int size = providers.size();
+    if (size <= 1 || parallelism == 1) {
+      return getAll(providers);
+    }
+
+    BatchResolution resolution = new BatchResolution(providers.toArray(new Provider<?>[0]));
+    for (int i = Math.min(parallelism, size) - 1; i > 0; i--) {
+      try {
+        executor.execute(resolution);
+      } catch (RejectedExecutionException e) {
+        // The calling thread resolves whatever the executor doesn't.
+        break;
+      }
+    }
+    resolution.run();
+    return resultList(resolution.awaitResults());
+  }
+
+  /** Resolves an array of providers from any number of threads. */
+  private static final class BatchResolution implements Runnable {
+    private final Provider<?>[] providers;
+    private final @Nullable Object[] results;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final CountDownLatch remaining;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    BatchResolution(Provider<?>[] providers) {
+      this.providers = providers;
+      this.results = new Object[providers.length];
+      this.remaining = new CountDownLatch(providers.length);
+    }
+
+    @Override
+    public void run() {
+      for (int i = nextIndex.getAndIncrement();
+          i < providers.length;
+          i = nextIndex.getAndIncrement()) {
+        try {
+          if (failure.get() == null) {
+            results[i] = providers[i].get();
+          }
+        } catch (Throwable t) {
+          failure.compareAndSet(null, t);
+        } finally {
+          remaining.countDown();
+        }
+      }
+    }
+
+    /** Waits for every provider to be resolved, and returns their results. */
+    @Nullable Object[] awaitResults() {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          remaining.await();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      Throwable t = failure.get();
+      if (t instanceof RuntimeException) {
+        throw (RuntimeException) t;
+      } else if (t instanceof Error) {
+        throw (Error) t;
+      } else if (t != null) {
+        throw new RuntimeException(t);
+      }
+      return results;
+    }
+  }
+
+  @SuppressWarnings("unchecked") // Each element was returned by a Provider<? extends T>.
+  private static <T extends @Nullable Object> List<T> resultList(@Nullable Object[] results) {
+    return Collections.unmodifiableList((List<T>) Arrays.asList(results));
+  }
+
+  private MultiboundProviders() {}
+}
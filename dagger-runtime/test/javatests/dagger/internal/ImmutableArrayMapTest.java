@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ImmutableArrayMapTest {
+  @Test
+  public void empty() {
+    Map<String, Integer> map =
+        ImmutableArrayMap.<String, Integer>builderWithExpectedSize(0).build();
+    assertThat(map).isEmpty();
+    assertThat(map.get("a")).isNull();
+  }
+
+  @Test
+  public void keepsInsertionOrder() {
+    ImmutableArrayMap.Builder<String, Integer> builder =
+        ImmutableArrayMap.builderWithExpectedSize(3);
+    builder.put("b", 2);
+    builder.put("c", 3);
+    builder.put("a", 1);
+    assertThat(builder.build()).containsExactly("b", 2, "c", 3, "a", 1).inOrder();
+  }
+
+  @Test
+  public void putExistingKey_replacesValueInPlace() {
+    ImmutableArrayMap.Builder<String, Integer> builder =
+        ImmutableArrayMap.builderWithExpectedSize(3);
+    builder.put("a", 1);
+    builder.put("b", 2);
+    builder.put("a", 3);
+    assertThat(builder.build()).containsExactly("a", 3, "b", 2).inOrder();
+  }
+
+  @Test
+  public void growsBeyondExpectedSize() {
+    ImmutableArrayMap.Builder<Integer, String> builder =
+        ImmutableArrayMap.builderWithExpectedSize(1);
+    ImmutableMap.Builder<Integer, String> expected = ImmutableMap.builder();
+    for (int i = 0; i < 100; i++) {
+      builder.put(i, "v" + i);
+      expected.put(i, "v" + i);
+    }
+    assertThat(builder.build()).containsExactlyEntriesIn(expected.buildOrThrow()).inOrder();
+  }
+
+  @Test
+  public void putAll() {
+    ImmutableArrayMap.Builder<String, Integer> parent =
+        ImmutableArrayMap.builderWithExpectedSize(2);
+    parent.put("a", 1);
+    parent.put("b", 2);
+    ImmutableArrayMap.Builder<String, Integer> builder =
+        ImmutableArrayMap.builderWithExpectedSize(1);
+    builder.putAll(parent.build());
+    builder.put("c", 3);
+    assertThat(builder.build()).containsExactly("a", 1, "b", 2, "c", 3).inOrder();
+  }
+
+  @Test
+  public void collidingHashCodes() {
+    ImmutableArrayMap.Builder<Collider, Integer> builder =
+        ImmutableArrayMap.builderWithExpectedSize(50);
+    for (int i = 0; i < 50; i++) {
+      builder.put(new Collider(i), i);
+    }
+    Map<Collider, Integer> map = builder.build();
+    for (int i = 0; i < 50; i++) {
+      assertThat(map.get(new Collider(i))).isEqualTo(i);
+    }
+    assertThat(map.containsKey(new Collider(50))).isFalse();
+  }
+
+  @Test
+  public void withValues_sharesKeys() {
+    ImmutableArrayMap.Builder<String, Integer> builder =
+        ImmutableArrayMap.builderWithExpectedSize(2);
+    builder.put("a", 1);
+    builder.put("b", 2);
+    ImmutableArrayMap<String, Integer> map = builder.build();
+    Map<String, String> withValues = map.withValues(new Object[] {"x", "y"});
+    assertThat(withValues).containsExactly("a", "x", "b", "y").inOrder();
+    assertThat(map).containsExactly("a", 1, "b", 2).inOrder();
+  }
+
+  @Test
+  public void lookups() {
+    ImmutableArrayMap.Builder<String, Integer> builder =
+        ImmutableArrayMap.builderWithExpectedSize(2);
+    builder.put("a", 1);
+    builder.put("b", 2);
+    Map<String, Integer> map = builder.build();
+    assertThat(map.get("a")).isEqualTo(1);
+    assertThat(map.get("c")).isNull();
+    assertThat(map.get(null)).isNull();
+    assertThat(map.containsKey("b")).isTrue();
+    assertThat(map.containsKey(1)).isFalse();
+    assertThat(map.containsValue(2)).isTrue();
+    assertThat(map).isEqualTo(ImmutableMap.of("b", 2, "a", 1));
+    assertThat(map.hashCode()).isEqualTo(ImmutableMap.of("a", 1, "b", 2).hashCode());
+  }
+
+  @Test
+  public void nullKey() {
+    ImmutableArrayMap.Builder<String, Integer> builder =
+        ImmutableArrayMap.builderWithExpectedSize(1);
+    assertThrows(NullPointerException.class, () -> builder.put(null, 1));
+  }
+
+  @Test
+  public void immutable() {
+    ImmutableArrayMap.Builder<String, Integer> builder =
+        ImmutableArrayMap.builderWithExpectedSize(1);
+    builder.put("a", 1);
+    Map<String, Integer> map = builder.build();
+    assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+    assertThrows(UnsupportedOperationException.class, map::clear);
+    assertThrows(
+        UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(2));
+  }
+
+  private static final class Collider {
+    final int value;
+
+    Collider(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Collider && ((Collider) other).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return 7;
+    }
+  }
+}
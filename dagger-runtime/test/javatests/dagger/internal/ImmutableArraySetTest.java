@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ImmutableArraySetTest {
+  @Test
+  public void empty() {
+    Set<String> set = ImmutableArraySet.<String>builderWithExpectedSize(0).build();
+    assertThat(set).isEmpty();
+  }
+
+  @Test
+  public void keepsInsertionOrder() {
+    Set<Integer> set = build(5, 3, 9, 1, 7);
+    assertThat(set).containsExactly(5, 3, 9, 1, 7).inOrder();
+  }
+
+  @Test
+  public void dropsDuplicates() {
+    Set<String> set = build("a", "b", "a", "c", "b");
+    assertThat(set).containsExactly("a", "b", "c").inOrder();
+    assertThat(set).hasSize(3);
+  }
+
+  @Test
+  public void collidingHashCodes() {
+    Collider[] colliders = new Collider[100];
+    for (int i = 0; i < colliders.length; i++) {
+      colliders[i] = new Collider(i);
+    }
+    Set<Collider> set = build(colliders);
+    assertThat(set).containsExactlyElementsIn(Arrays.asList(colliders)).inOrder();
+    for (Collider collider : colliders) {
+      assertThat(set.contains(new Collider(collider.value))).isTrue();
+    }
+    assertThat(set.contains(new Collider(colliders.length))).isFalse();
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    Set<Integer> set = build(1, 2, 3, 4);
+    assertThat(set).isEqualTo(ImmutableSet.of(4, 3, 2, 1));
+    assertThat(set.hashCode()).isEqualTo(ImmutableSet.of(1, 2, 3, 4).hashCode());
+  }
+
+  @Test
+  public void contains() {
+    Set<Integer> set = build(1, 2, 3);
+    assertThat(set.contains(2)).isTrue();
+    assertThat(set.contains(4)).isFalse();
+    assertThat(set.contains("2")).isFalse();
+    assertThat(set.contains(null)).isFalse();
+  }
+
+  @Test
+  public void nullElement() {
+    ImmutableArraySet.Builder<String> builder = ImmutableArraySet.builderWithExpectedSize(1);
+    assertThrows(NullPointerException.class, () -> builder.add(null));
+  }
+
+  @Test
+  public void immutable() {
+    Set<Integer> set = build(1, 2, 3);
+    assertThrows(UnsupportedOperationException.class, () -> set.add(4));
+    assertThrows(UnsupportedOperationException.class, () -> set.remove(1));
+    assertThrows(UnsupportedOperationException.class, set::clear);
+    Iterator<Integer> iterator = set.iterator();
+    iterator.next();
+    assertThrows(UnsupportedOperationException.class, iterator::remove);
+  }
+
+  @Test
+  public void iteratorExhausted() {
+    Iterator<Integer> iterator = build(1, 2).iterator();
+    iterator.next();
+    iterator.next();
+    assertThat(iterator.hasNext()).isFalse();
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @SafeVarargs
+  private static <T> Set<T> build(T... elements) {
+    ImmutableArraySet.Builder<T> builder =
+        ImmutableArraySet.builderWithExpectedSize(elements.length);
+    for (T element : elements) {
+      builder.add(element);
+    }
+    return builder.build();
+  }
+
+  private static final class Collider {
+    final int value;
+
+    Collider(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Collider && ((Collider) other).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return 42;
+    }
+  }
+}
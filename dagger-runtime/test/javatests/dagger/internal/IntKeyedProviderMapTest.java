@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class IntKeyedProviderMapTest {
+  private static final Provider<String> A = InstanceFactory.create("a");
+  private static final Provider<String> B = InstanceFactory.create("b");
+  private static final Provider<String> C = InstanceFactory.create("c");
+
+  @Test
+  public void empty() {
+    Map<Integer, Provider<String>> map = IntKeyedProviderMap.<String>builder(0).build().get();
+    assertThat(map).isEmpty();
+    assertThat(map.get(0)).isNull();
+  }
+
+  @Test
+  public void iteratesInDeclarationOrder() {
+    Map<Integer, Provider<String>> map =
+        IntKeyedProviderMap.<String>builder(3).put(3, A).put(-7, B).put(1, C).build().get();
+    assertThat(map).containsExactly(3, A, -7, B, 1, C).inOrder();
+  }
+
+  @Test
+  public void lookup() {
+    IntKeyedProviderMap.Builder<String> builder = IntKeyedProviderMap.builder(3);
+    builder.put(Integer.MAX_VALUE, A).put(Integer.MIN_VALUE, B).put(0, C);
+    IntKeyedProviderMap<String> map = (IntKeyedProviderMap<String>) builder.build().get();
+    assertThat(map.get(Integer.MIN_VALUE)).isSameInstanceAs(B);
+    assertThat(map.get(Integer.MAX_VALUE)).isSameInstanceAs(A);
+    assertThat(map.get((Object) 0)).isSameInstanceAs(C);
+    assertThat(map.get(1)).isNull();
+    assertThat(map.get((Object) 0L)).isNull();
+    assertThat(map.get(null)).isNull();
+    assertThat(map.containsKey(0)).isTrue();
+    assertThat(map.containsKey(0L)).isFalse();
+  }
+
+  @Test
+  public void duplicateKey() {
+    IntKeyedProviderMap.Builder<String> builder =
+        IntKeyedProviderMap.<String>builder(2).put(1, A).put(1, B);
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  public void nullProvider() {
+    assertThrows(NullPointerException.class, () -> IntKeyedProviderMap.builder(1).put(1, null));
+  }
+
+  @Test
+  public void immutable() {
+    Map<Integer, Provider<String>> map =
+        IntKeyedProviderMap.<String>builder(1).put(1, A).build().get();
+    assertThrows(UnsupportedOperationException.class, () -> map.put(2, B));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove(1));
+    assertThrows(
+        UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(B));
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class LazyClassKeyMapTest {
+  private static final ImmutableMap<String, String> DELEGATE =
+      ImmutableMap.of(String.class.getName(), "string", Inner.class.getName(), "inner");
+
+  @Test
+  public void get() {
+    Map<Class<?>, String> map = LazyClassKeyMap.of(DELEGATE);
+    assertThat(map.get(String.class)).isEqualTo("string");
+    assertThat(map.get(Inner.class)).isEqualTo("inner");
+    assertThat(map.get(Integer.class)).isNull();
+    assertThat(map.containsKey(Inner.class)).isTrue();
+  }
+
+  @Test
+  public void iteration_unsupportedByDefault() {
+    Map<Class<?>, String> map = LazyClassKeyMap.of(DELEGATE);
+    assertThrows(UnsupportedOperationException.class, map::keySet);
+    assertThrows(UnsupportedOperationException.class, map::entrySet);
+  }
+
+  @Test
+  public void withClassLoader_iteratesInDelegateOrder() {
+    Map<Class<?>, String> map =
+        ((LazyClassKeyMap<String>) LazyClassKeyMap.of(DELEGATE))
+            .withClassLoader(getClass().getClassLoader());
+    assertThat(map.keySet()).containsExactly(String.class, Inner.class).inOrder();
+    assertThat(map).containsExactly(String.class, "string", Inner.class, "inner").inOrder();
+    assertThat(map.get(Inner.class)).isEqualTo("inner");
+  }
+
+  @Test
+  public void withClassLoader_doesNotInitializeClasses() {
+    Map<Class<?>, String> map =
+        ((LazyClassKeyMap<String>)
+                LazyClassKeyMap.of(ImmutableMap.of(NotInitialized.class.getName(), "value")))
+            .withClassLoader(getClass().getClassLoader());
+    assertThat(map.keySet()).containsExactly(NotInitialized.class);
+    assertThat(notInitializedWasInitialized).isFalse();
+  }
+
+  @Test
+  public void withClassLoader_missingClass() {
+    Map<Class<?>, String> map =
+        ((LazyClassKeyMap<String>) LazyClassKeyMap.of(ImmutableMap.of("does.not.Exist", "value")))
+            .withClassLoader(getClass().getClassLoader());
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> map.keySet().iterator().next());
+    assertThat(exception).hasMessageThat().contains("does.not.Exist");
+    assertThat(exception).hasCauseThat().isInstanceOf(ClassNotFoundException.class);
+  }
+
+  @Test
+  public void withClassLoader_immutable() {
+    Map<Class<?>, String> map =
+        ((LazyClassKeyMap<String>) LazyClassKeyMap.of(DELEGATE))
+            .withClassLoader(getClass().getClassLoader());
+    assertThrows(UnsupportedOperationException.class, () -> map.put(Integer.class, "integer"));
+    assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove(String.class));
+    assertThrows(
+        UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(""));
+  }
+
+  static class Inner {}
+
+  private static boolean notInitializedWasInitialized;
+
+  static class NotInitialized {
+    static {
+      notInitializedWasInitialized = true;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class LongKeyedProviderMapTest {
+  private static final Provider<String> A = InstanceFactory.create("a");
+  private static final Provider<String> B = InstanceFactory.create("b");
+  private static final Provider<String> C = InstanceFactory.create("c");
+
+  @Test
+  public void empty() {
+    Map<Long, Provider<String>> map = LongKeyedProviderMap.<String>builder(0).build().get();
+    assertThat(map).isEmpty();
+    assertThat(map.get(0L)).isNull();
+  }
+
+  @Test
+  public void iteratesInDeclarationOrder() {
+    Map<Long, Provider<String>> map =
+        LongKeyedProviderMap.<String>builder(3).put(3, A).put(-7, B).put(1L << 40, C).build().get();
+    assertThat(map).containsExactly(3L, A, -7L, B, 1L << 40, C).inOrder();
+  }
+
+  @Test
+  public void lookup() {
+    LongKeyedProviderMap.Builder<String> builder = LongKeyedProviderMap.builder(3);
+    builder.put(Long.MAX_VALUE, A).put(Long.MIN_VALUE, B).put(0, C);
+    LongKeyedProviderMap<String> map = (LongKeyedProviderMap<String>) builder.build().get();
+    assertThat(map.get(Long.MIN_VALUE)).isSameInstanceAs(B);
+    assertThat(map.get(Long.MAX_VALUE)).isSameInstanceAs(A);
+    assertThat(map.get((Object) 0L)).isSameInstanceAs(C);
+    assertThat(map.get(1L)).isNull();
+    assertThat(map.get((Object) 0)).isNull();
+    assertThat(map.get(null)).isNull();
+    assertThat(map.containsKey(0L)).isTrue();
+    assertThat(map.containsKey(0)).isFalse();
+  }
+
+  @Test
+  public void duplicateKey() {
+    LongKeyedProviderMap.Builder<String> builder =
+        LongKeyedProviderMap.<String>builder(2).put(1, A).put(1, B);
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  public void nullProvider() {
+    assertThrows(NullPointerException.class, () -> LongKeyedProviderMap.builder(1).put(1, null));
+  }
+
+  @Test
+  public void immutable() {
+    Map<Long, Provider<String>> map =
+        LongKeyedProviderMap.<String>builder(1).put(1, A).build().get();
+    assertThrows(UnsupportedOperationException.class, () -> map.put(2L, B));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove(1L));
+    assertThrows(
+        UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(B));
+  }
+}
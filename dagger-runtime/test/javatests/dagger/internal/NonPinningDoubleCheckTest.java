@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Uninterruptibles;
+import dagger.Lazy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class NonPinningDoubleCheckTest {
+  @Test
+  public void provider_nullPointerException() {
+    assertThrows(NullPointerException.class, () -> NonPinningDoubleCheck.provider(null));
+  }
+
+  @Test
+  public void lazy_nullPointerException() {
+    assertThrows(NullPointerException.class, () -> NonPinningDoubleCheck.lazy(null));
+  }
+
+  @Test
+  public void doubleWrapping_provider() {
+    Provider<Object> provider = NonPinningDoubleCheck.provider(Object::new);
+    assertThat(NonPinningDoubleCheck.provider(provider)).isSameInstanceAs(provider);
+    assertThat(DoubleCheck.provider(provider)).isSameInstanceAs(provider);
+    assertThat(SingleCheck.provider(provider)).isSameInstanceAs(provider);
+  }
+
+  @Test
+  public void doubleWrapping_doubleCheck() {
+    Provider<Object> doubleCheck = DoubleCheck.provider(Object::new);
+    assertThat(NonPinningDoubleCheck.provider(doubleCheck)).isSameInstanceAs(doubleCheck);
+  }
+
+  @Test
+  public void doubleWrapping_lazy() {
+    Provider<Object> provider = NonPinningDoubleCheck.provider(Object::new);
+    assertThat(NonPinningDoubleCheck.lazy(provider)).isSameInstanceAs(provider);
+    assertThat(DoubleCheck.lazy(provider)).isSameInstanceAs(provider);
+  }
+
+  @Test
+  public void get() throws Exception {
+    int numThreads = 10;
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+
+    final CountDownLatch latch = new CountDownLatch(numThreads);
+    LatchedProvider provider = new LatchedProvider(latch);
+    final Lazy<Object> lazy = NonPinningDoubleCheck.lazy(provider);
+
+    List<Callable<Object>> tasks = Lists.newArrayListWithCapacity(numThreads);
+    for (int i = 0; i < numThreads; i++) {
+      tasks.add(
+          () -> {
+            latch.countDown();
+            return lazy.get();
+          });
+    }
+
+    List<Future<Object>> futures = executor.invokeAll(tasks);
+
+    assertThat(provider.provisions.get()).isEqualTo(1);
+    Set<Object> results = Sets.newIdentityHashSet();
+    for (Future<Object> future : futures) {
+      results.add(future.get());
+    }
+    assertThat(results).hasSize(1);
+    executor.shutdown();
+  }
+
+  private static class LatchedProvider implements Provider<Object> {
+    final AtomicInteger provisions;
+    final CountDownLatch latch;
+
+    LatchedProvider(CountDownLatch latch) {
+      this.latch = latch;
+      this.provisions = new AtomicInteger();
+    }
+
+    @Override
+    public Object get() {
+      if (latch != null) {
+        Uninterruptibles.awaitUninterruptibly(latch);
+      }
+      provisions.incrementAndGet();
+      return new Object();
+    }
+  }
+
+  @Test
+  public void exceptionFromProvider_retriedOnNextGet() {
+    AtomicInteger invocationCount = new AtomicInteger();
+    Object object = new Object();
+    Provider<Object> provider =
+        NonPinningDoubleCheck.provider(
+            () -> {
+              if (invocationCount.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+              }
+              return object;
+            });
+    assertThrows(IllegalStateException.class, provider::get);
+    assertThat(provider.get()).isSameInstanceAs(object);
+    assertThat(provider.get()).isSameInstanceAs(object);
+    assertThat(invocationCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void reentranceWithoutCondition_throwsStackOverflow() {
+    AtomicReference<Provider<Object>> doubleCheckReference = new AtomicReference<>();
+    Provider<Object> doubleCheck =
+        NonPinningDoubleCheck.provider(() -> doubleCheckReference.get().get());
+    doubleCheckReference.set(doubleCheck);
+    assertThrows(StackOverflowError.class, () -> doubleCheck.get());
+  }
+
+  @Test
+  public void reentranceReturningSameInstance() {
+    AtomicReference<Provider<Object>> doubleCheckReference = new AtomicReference<>();
+    AtomicInteger invocationCount = new AtomicInteger();
+    Object object = new Object();
+    Provider<Object> doubleCheck =
+        NonPinningDoubleCheck.provider(
+            () -> {
+              if (invocationCount.incrementAndGet() == 1) {
+                doubleCheckReference.get().get();
+              }
+              return object;
+            });
+    doubleCheckReference.set(doubleCheck);
+    assertThat(doubleCheck.get()).isSameInstanceAs(object);
+  }
+
+  @Test
+  public void reentranceReturningDifferentInstances_throwsIllegalStateException() {
+    AtomicReference<Provider<Object>> doubleCheckReference = new AtomicReference<>();
+    AtomicInteger invocationCount = new AtomicInteger();
+    Provider<Object> doubleCheck =
+        NonPinningDoubleCheck.provider(
+            () -> {
+              if (invocationCount.incrementAndGet() == 1) {
+                doubleCheckReference.get().get();
+              }
+              return new Object();
+            });
+    doubleCheckReference.set(doubleCheck);
+    assertThrows(IllegalStateException.class, () -> doubleCheck.get());
+  }
+
+  @Test
+  public void instanceFactoryAsLazyDoesNotWrap() {
+    Factory<Object> factory = InstanceFactory.create(new Object());
+    assertThat(NonPinningDoubleCheck.lazy(factory)).isSameInstanceAs(factory);
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ScopedProvisionObserverTest {
+  private final List<String> events = new ArrayList<>();
+
+  private final ScopedProvisionObserver observer =
+      new ScopedProvisionObserver() {
+        @Override
+        public Object starting(Object provider) {
+          events.add("starting " + provider);
+          return provider.toString();
+        }
+
+        @Override
+        public void finished(Object context, Object provider, Object instance) {
+          events.add("finished " + context + " -> " + instance);
+        }
+      };
+
+  @After
+  public void tearDown() {
+    ScopedProvisionObserver.install(null);
+  }
+
+  @Test
+  public void doubleCheck_observesFirstProvision() {
+    ScopedProvisionObserver.install(observer);
+    Provider<Object> provider = DoubleCheck.provider(new NamedProvider("a", "A"));
+
+    assertThat(provider.get()).isEqualTo("A");
+    assertThat(provider.get()).isEqualTo("A");
+
+    assertThat(events).containsExactly("starting a", "finished a -> A").inOrder();
+  }
+
+  @Test
+  public void nonPinningDoubleCheck_observesFirstProvision() {
+    ScopedProvisionObserver.install(observer);
+    Provider<Object> provider = NonPinningDoubleCheck.provider(new NamedProvider("a", "A"));
+
+    assertThat(provider.get()).isEqualTo("A");
+    assertThat(provider.get()).isEqualTo("A");
+
+    assertThat(events).containsExactly("starting a", "finished a -> A").inOrder();
+  }
+
+  @Test
+  public void nestedProvisions() {
+    ScopedProvisionObserver.install(observer);
+    final Provider<Object> inner = DoubleCheck.provider(new NamedProvider("inner", "I"));
+    Provider<Object> outer =
+        DoubleCheck.provider(
+            new NamedProvider("outer", "O") {
+              @Override
+              public Object get() {
+                return "" + inner.get() + super.get();
+              }
+            });
+
+    assertThat(outer.get()).isEqualTo("IO");
+
+    assertThat(events)
+        .containsExactly(
+            "starting outer", "starting inner", "finished inner -> I", "finished outer -> IO")
+        .inOrder();
+  }
+
+  @Test
+  public void providerThrows_finishedWithoutInstance() {
+    ScopedProvisionObserver.install(observer);
+    Provider<Object> provider =
+        DoubleCheck.provider(
+            new NamedProvider("a", "A") {
+              @Override
+              public Object get() {
+                throw new IllegalStateException();
+              }
+            });
+
+    assertThrows(IllegalStateException.class, provider::get);
+
+    assertThat(events).containsExactly("starting a", "finished a -> null").inOrder();
+  }
+
+  @Test
+  public void notInstalled_notObserved() {
+    ScopedProvisionObserver.install(observer);
+    ScopedProvisionObserver.install(null);
+    Provider<Object> provider = DoubleCheck.provider(new NamedProvider("a", "A"));
+
+    assertThat(provider.get()).isEqualTo("A");
+
+    assertThat(events).isEmpty();
+  }
+
+  private static class NamedProvider implements Provider<Object> {
+    private final String name;
+    private final Object instance;
+
+    NamedProvider(String name, Object instance) {
+      this.name = name;
+      this.instance = instance;
+    }
+
+    @Override
+    public Object get() {
+      return instance;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
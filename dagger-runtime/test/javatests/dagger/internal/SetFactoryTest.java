@@ -67,6 +67,29 @@ public class SetFactoryTest {
     assertThat(factory.get()).containsExactly(2, 12, 24, 25, 34, 35);
   }
 
+  @Test
+  public void duplicateContributions() {
+    Factory<Set<Integer>> factory =
+        SetFactory.<Integer>builder(2, 1)
+            .addProvider(() -> 1)
+            .addProvider(() -> 1)
+            .addCollectionProvider(() -> ImmutableSet.of(1, 2))
+            .build();
+    assertThat(factory.get()).containsExactly(1, 2);
+  }
+
+  @Test
+  public void individualProvidersOnly() {
+    Factory<Set<Integer>> factory =
+        SetFactory.<Integer>builder(3, 0)
+            .addProvider(incrementingIntegerProvider(0))
+            .addProvider(incrementingIntegerProvider(10))
+            .addProvider(() -> 10)
+            .build();
+    assertThat(factory.get()).containsExactly(0, 10);
+    assertThat(factory.get()).containsExactly(1, 11, 10);
+  }
+
   private static Provider<Integer> incrementingIntegerProvider(int seed) {
     final AtomicInteger value = new AtomicInteger(seed);
     return value::getAndIncrement;
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.TruthJUnit.assume;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that scoped providers do not pin the carrier thread of virtual threads blocked on their
+ * initialization.
+ *
+ * <p>The JDK prints the stack of a virtual thread that parks while pinned when {@code
+ * jdk.tracePinnedThreads} is set. The property is read once, when the first virtual thread is
+ * created, so it is set here before any test in this class runs. These tests are skipped on JDKs
+ * without virtual threads.
+ */
+@RunWith(JUnit4.class)
+public final class VirtualThreadPinningTest {
+  private static final String PINNED_MONITOR_MARKER = "<== monitors";
+  private static final int NUM_THREADS = 16;
+
+  static {
+    System.setProperty("jdk.tracePinnedThreads", "full");
+  }
+
+  @Test
+  public void nonPinningDoubleCheck_contendedInitialization_doesNotPin() throws Exception {
+    String trace = contendedInitializationTrace(NonPinningDoubleCheck::provider);
+    assertThat(trace).doesNotContain(PINNED_MONITOR_MARKER);
+  }
+
+  @Test
+  public void nonPinningDoubleCheck_lazy_contendedInitialization_doesNotPin() throws Exception {
+    String trace =
+        contendedInitializationTrace(provider -> NonPinningDoubleCheck.lazy(provider)::get);
+    assertThat(trace).doesNotContain(PINNED_MONITOR_MARKER);
+  }
+
+  // Verifies that the trace above would actually report pinning. Blocking inside a monitor no
+  // longer pins as of JDK 24, which also dropped jdk.tracePinnedThreads.
+  @Test
+  public void doubleCheck_contendedInitialization_pins() throws Exception {
+    assume().that(javaFeatureVersion()).isLessThan(24);
+    String trace = contendedInitializationTrace(DoubleCheck::provider);
+    assertThat(trace).contains(PINNED_MONITOR_MARKER);
+  }
+
+  /**
+   * Requests a scoped provider from many virtual threads while its first provision is blocked, and
+   * returns everything printed to {@link System#out} in the meantime.
+   */
+  private static String contendedInitializationTrace(UnaryOperator<Provider<Object>> scoping)
+      throws Exception {
+    ExecutorService executor = newVirtualThreadPerTaskExecutor();
+    CountDownLatch provisionStarted = new CountDownLatch(1);
+    CountDownLatch releaseProvision = new CountDownLatch(1);
+    Provider<Object> provider =
+        scoping.apply(
+            () -> {
+              provisionStarted.countDown();
+              Uninterruptibles.awaitUninterruptibly(releaseProvision);
+              return new Object();
+            });
+
+    PrintStream originalOut = System.out;
+    ByteArrayOutputStream trace = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(trace, /* autoFlush= */ true, "UTF-8"));
+    try {
+      List<Future<Object>> futures = new ArrayList<>();
+      for (int i = 0; i < NUM_THREADS; i++) {
+        futures.add(executor.submit(provider::get));
+      }
+      provisionStarted.await();
+      // Give the remaining threads a chance to block on the provider before releasing it.
+      Thread.sleep(100);
+      releaseProvision.countDown();
+      Object instance = futures.get(0).get();
+      for (Future<Object> future : futures) {
+        assertThat(future.get()).isSameInstanceAs(instance);
+      }
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+      System.setOut(originalOut);
+    }
+    return trace.toString("UTF-8");
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+    // The runtime targets Java 8, so the virtual thread API is only reachable reflectively.
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException e) {
+      assume().withMessage("virtual threads are not available").fail();
+      throw new AssertionError(e);
+    }
+  }
+
+  private static int javaFeatureVersion() {
+    String version = System.getProperty("java.specification.version");
+    return version.startsWith("1.") ? 8 : Integer.parseInt(version);
+  }
+}
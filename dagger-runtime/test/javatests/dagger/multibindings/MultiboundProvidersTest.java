@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.multibindings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import jakarta.inject.Provider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class MultiboundProvidersTest {
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void shutDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void getAll_returnsResultsInOrder() {
+    assertThat(MultiboundProviders.getAll(providers(5))).containsExactly(0, 1, 2, 3, 4).inOrder();
+  }
+
+  @Test
+  public void getAll_daggerProviders() {
+    List<dagger.internal.Provider<Integer>> providers = ImmutableList.of(() -> 1, () -> 2);
+    assertThat(MultiboundProviders.getAll(providers)).containsExactly(1, 2).inOrder();
+    assertThat(MultiboundProviders.getAll(providers, executor, 2)).containsExactly(1, 2).inOrder();
+  }
+
+  @Test
+  public void getAll_empty() {
+    assertThat(MultiboundProviders.getAll(ImmutableList.<Provider<String>>of())).isEmpty();
+    assertThat(MultiboundProviders.getAll(ImmutableList.<Provider<String>>of(), executor, 4))
+        .isEmpty();
+  }
+
+  @Test
+  public void getAll_resultsAreUnmodifiable() {
+    List<Integer> results = MultiboundProviders.getAll(providers(2), executor, 2);
+    assertThrows(UnsupportedOperationException.class, () -> results.set(0, 1));
+  }
+
+  @Test
+  public void getAll_withExecutor_returnsResultsInOrder() {
+    assertThat(MultiboundProviders.getAll(providers(100), executor, 4))
+        .containsExactlyElementsIn(providerValues(100))
+        .inOrder();
+  }
+
+  @Test
+  public void getAll_withExecutor_boundsParallelism() throws Exception {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<Provider<Integer>> providers = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      int value = i;
+      providers.add(
+          () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+              Thread.sleep(1);
+            } catch (InterruptedException e) {
+              throw new AssertionError(e);
+            }
+            running.decrementAndGet();
+            return value;
+          });
+    }
+    assertThat(MultiboundProviders.getAll(providers, executor, 2))
+        .containsExactlyElementsIn(providerValues(50))
+        .inOrder();
+    assertThat(maxRunning.get()).isAtMost(2);
+  }
+
+  @Test
+  public void getAll_withExecutor_usesCallingThread() {
+    Thread caller = Thread.currentThread();
+    List<Provider<Thread>> providers =
+        ImmutableList.of(Thread::currentThread, Thread::currentThread);
+    assertThat(
+            MultiboundProviders.getAll(
+                providers,
+                command -> {
+                  throw new RejectedExecutionException();
+                },
+                2))
+        .containsExactly(caller, caller);
+  }
+
+  @Test
+  public void getAll_withExecutor_completesIfTasksNeverRun() {
+    List<Runnable> neverRun = new ArrayList<>();
+    assertThat(MultiboundProviders.getAll(providers(10), neverRun::add, 4))
+        .containsExactlyElementsIn(providerValues(10))
+        .inOrder();
+    assertThat(neverRun).hasSize(3);
+    // Tasks run after the call has returned find nothing left to do.
+    neverRun.forEach(Runnable::run);
+  }
+
+  @Test
+  public void getAll_withExecutor_runsConcurrently() {
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    Provider<Boolean> provider =
+        () -> {
+          bothStarted.countDown();
+          try {
+            return bothStarted.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            throw new AssertionError(e);
+          }
+        };
+    assertThat(MultiboundProviders.getAll(ImmutableList.of(provider, provider), executor, 2))
+        .containsExactly(true, true);
+  }
+
+  @Test
+  public void getAll_withExecutor_propagatesFailure() {
+    IllegalStateException failure = new IllegalStateException("boom");
+    AtomicInteger calls = new AtomicInteger();
+    List<Provider<Integer>> providers = new ArrayList<>();
+    providers.add(
+        () -> {
+          throw failure;
+        });
+    for (int i = 0; i < 100; i++) {
+      providers.add(calls::incrementAndGet);
+    }
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () -> MultiboundProviders.getAll(providers, MoreExecutors.directExecutor(), 4));
+    assertThat(thrown).isSameInstanceAs(failure);
+    assertThat(calls.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void getAll_withExecutor_invalidParallelism() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MultiboundProviders.getAll(providers(2), executor, 0));
+  }
+
+  private static List<Provider<Integer>> providers(int count) {
+    List<Provider<Integer>> providers = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      int value = i;
+      providers.add(() -> value);
+    }
+    return providers;
+  }
+
+  private static List<Integer> providerValues(int count) {
+    List<Integer> values = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      values.add(i);
+    }
+    return values;
+  }
+}
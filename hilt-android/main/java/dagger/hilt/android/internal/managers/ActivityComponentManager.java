@@ -25,6 +25,7 @@ import dagger.hilt.InstallIn;
 import dagger.hilt.android.components.ActivityRetainedComponent;
 import dagger.hilt.android.internal.builders.ActivityComponentBuilder;
 import dagger.hilt.internal.GeneratedComponentManager;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Do not use except in Hilt generated code!
@@ -47,7 +48,7 @@ public class ActivityComponentManager
   }
 
   private volatile Object component;
-  private final Object componentLock = new Object();
+  private final ReentrantLock componentLock = new ReentrantLock();
 
   protected final Activity activity;
 
@@ -66,10 +67,13 @@ public class ActivityComponentManager
   @Override
   public Object generatedComponent() {
     if (component == null) {
-      synchronized (componentLock) {
+      componentLock.lock();
+      try {
         if (component == null) {
           component = createComponent();
         }
+      } finally {
+        componentLock.unlock();
       }
     }
     return component;
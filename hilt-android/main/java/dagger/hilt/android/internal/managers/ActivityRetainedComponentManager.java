@@ -37,6 +37,7 @@ import dagger.hilt.android.internal.lifecycle.RetainedLifecycleImpl;
 import dagger.hilt.android.scopes.ActivityRetainedScoped;
 import dagger.hilt.components.SingletonComponent;
 import dagger.hilt.internal.GeneratedComponentManager;
+import java.util.concurrent.locks.ReentrantLock;
 
 /** A manager for the creation of components that survives activity configuration changes. */
 final
@@ -89,7 +90,7 @@ class ActivityRetainedComponentManager
   private final Context context;
 
   @Nullable private volatile ActivityRetainedComponent component;
-  private final Object componentLock = new Object();
+  private final ReentrantLock componentLock = new ReentrantLock();
 
   protected ActivityRetainedComponentManager(ComponentActivity activity) {
     this.viewModelStoreOwner = activity;
@@ -124,10 +125,13 @@ class ActivityRetainedComponentManager
     // TODO(bcorso): don't need the component lock since the component is stored in ViewModel
     // which does its own locking
     if (component == null) {
-      synchronized (componentLock) {
+      componentLock.lock();
+      try {
         if (component == null) {
           component = createComponent();
         }
+      } finally {
+        componentLock.unlock();
       }
     }
     return component;
@@ -17,6 +17,7 @@
 package dagger.hilt.android.internal.managers;
 
 import dagger.hilt.internal.GeneratedComponentManager;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Do not use except in Hilt generated code!
@@ -25,7 +26,7 @@ import dagger.hilt.internal.GeneratedComponentManager;
  */
 public final class ApplicationComponentManager implements GeneratedComponentManager<Object> {
   private volatile Object component;
-  private final Object componentLock = new Object();
+  private final ReentrantLock componentLock = new ReentrantLock();
   private final ComponentSupplier componentCreator;
 
   public ApplicationComponentManager(ComponentSupplier componentCreator) {
@@ -35,10 +36,13 @@ public final class ApplicationComponentManager implements GeneratedComponentMana
   @Override
   public Object generatedComponent() {
     if (component == null) {
-      synchronized (componentLock) {
+      componentLock.lock();
+      try {
         if (component == null) {
           component = componentCreator.get();
         }
+      } finally {
+        componentLock.unlock();
       }
     }
     return component;
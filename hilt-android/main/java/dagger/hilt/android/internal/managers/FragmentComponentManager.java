@@ -30,6 +30,7 @@ import dagger.hilt.android.internal.builders.FragmentComponentBuilder;
 import dagger.hilt.internal.GeneratedComponentManager;
 import dagger.hilt.internal.GeneratedComponentManagerHolder;
 import dagger.hilt.internal.Preconditions;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Do not use except in Hilt generated code!
@@ -52,7 +53,7 @@ public class FragmentComponentManager implements GeneratedComponentManager<Objec
 
   private volatile Object component;
 
-  private final Object componentLock = new Object();
+  private final ReentrantLock componentLock = new ReentrantLock();
   private final Fragment fragment;
 
   public FragmentComponentManager(Fragment fragment) {
@@ -62,10 +63,13 @@ public class FragmentComponentManager implements GeneratedComponentManager<Objec
   @Override
   public Object generatedComponent() {
     if (component == null) {
-      synchronized (componentLock) {
+      componentLock.lock();
+      try {
         if (component == null) {
           component = createComponent();
         }
+      } finally {
+        componentLock.unlock();
       }
     }
     return component;
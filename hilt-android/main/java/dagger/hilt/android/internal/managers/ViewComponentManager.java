@@ -34,6 +34,7 @@ import dagger.hilt.android.internal.builders.ViewComponentBuilder;
 import dagger.hilt.android.internal.builders.ViewWithFragmentComponentBuilder;
 import dagger.hilt.internal.GeneratedComponentManager;
 import dagger.hilt.internal.Preconditions;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Do not use except in Hilt generated code!
@@ -62,7 +63,7 @@ public final class ViewComponentManager implements GeneratedComponentManager<Obj
 
   private volatile Object component;
 
-  private final Object componentLock = new Object();
+  private final ReentrantLock componentLock = new ReentrantLock();
   private final boolean hasFragmentBindings;
   private final View view;
 
@@ -74,10 +75,13 @@ public final class ViewComponentManager implements GeneratedComponentManager<Obj
   @Override
   public Object generatedComponent() {
     if (component == null) {
-      synchronized (componentLock) {
+      componentLock.lock();
+      try {
         if (component == null) {
           component = createComponent();
         }
+      } finally {
+        componentLock.unlock();
       }
     }
     return component;
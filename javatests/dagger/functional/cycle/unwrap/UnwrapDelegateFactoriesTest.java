@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.cycle.unwrap;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Component;
+import dagger.Lazy;
+import dagger.internal.DelegateFactory;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for dependency cycles generated with {@code dagger.unwrapDelegateFactories} enabled. */
+@RunWith(JUnit4.class)
+public final class UnwrapDelegateFactoriesTest {
+  static final class A {
+    final B b;
+
+    @Inject
+    A(B b) {
+      this.b = b;
+    }
+  }
+
+  static final class B {
+    final Provider<A> aProvider;
+
+    @Inject
+    B(Provider<A> aProvider) {
+      this.aProvider = aProvider;
+    }
+  }
+
+  @Singleton
+  static final class S {
+    final Lazy<T> t;
+
+    @Inject
+    S(Lazy<T> t) {
+      this.t = t;
+    }
+  }
+
+  static final class T {
+    final S s;
+
+    @Inject
+    T(S s) {
+      this.s = s;
+    }
+  }
+
+  @Singleton
+  @Component
+  interface TestComponent {
+    A a();
+
+    Provider<A> aProvider();
+
+    B b();
+
+    S s();
+
+    Provider<S> sProvider();
+  }
+
+  @Test
+  public void providerCycle() {
+    TestComponent component = DaggerUnwrapDelegateFactoriesTest_TestComponent.create();
+    A a = component.a();
+    assertThat(a.b.aProvider.get()).isNotSameInstanceAs(a);
+    assertThat(a.b.aProvider.get().b).isNotNull();
+    assertThat(component.b().aProvider.get().b).isNotNull();
+  }
+
+  @Test
+  public void providerCycle_componentProviderIsUnwrapped() {
+    TestComponent component = DaggerUnwrapDelegateFactoriesTest_TestComponent.create();
+    assertThat(component.aProvider()).isNotInstanceOf(DelegateFactory.class);
+    assertThat(component.aProvider().get().b).isNotNull();
+  }
+
+  @Test
+  public void scopedLazyCycle() {
+    TestComponent component = DaggerUnwrapDelegateFactoriesTest_TestComponent.create();
+    S s = component.s();
+    assertThat(s.t.get().s).isSameInstanceAs(s);
+    assertThat(component.sProvider().get()).isSameInstanceAs(s);
+    assertThat(component.sProvider()).isNotInstanceOf(DelegateFactory.class);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.fullbindinggraph;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Component;
+import dagger.Module;
+import dagger.Provides;
+import dagger.Reusable;
+import dagger.Subcomponent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests components whose reachable binding graph is created along with the full binding graph, as
+ * is done when {@code -Adagger.fullBindingGraphValidation} is enabled.
+ */
+@RunWith(JUnit4.class)
+public final class FullBindingGraphValidationTest {
+  @Component(modules = ParentModule.class)
+  interface ParentComponent {
+    Child child();
+  }
+
+  // Only the full binding graph resolves these bindings in the parent; the reachable binding graph
+  // resolves the String binding later, when the child requests it.
+  @Module
+  static final class ParentModule {
+    @Provides
+    static String string() {
+      return "parent";
+    }
+
+    @Provides
+    static Integer unusedInteger(String string) {
+      return string.length();
+    }
+  }
+
+  @Subcomponent
+  interface Child {
+    String string();
+  }
+
+  @Test
+  public void bindingOnlyRequestedBySubcomponent() {
+    assertThat(DaggerFullBindingGraphValidationTest_ParentComponent.create().child().string())
+        .isEqualTo("parent");
+  }
+
+  // The full binding graph resolves the @Reusable binding in the parent, but since no entry point
+  // of the parent requests it, each child still owns its own instance.
+  @Component(modules = ReusableModule.class)
+  interface ParentWithReusableComponent {
+    ReusableChildOne childOne();
+
+    ReusableChildTwo childTwo();
+  }
+
+  @Module
+  static final class ReusableModule {
+    @Provides
+    @Reusable
+    static Object reusable() {
+      return new Object();
+    }
+  }
+
+  @Subcomponent
+  interface ReusableChildOne {
+    Object reusable();
+  }
+
+  @Subcomponent
+  interface ReusableChildTwo {
+    Object reusable();
+  }
+
+  @Test
+  public void reusableBindingOnlyRequestedBySubcomponents() {
+    ParentWithReusableComponent parent =
+        DaggerFullBindingGraphValidationTest_ParentWithReusableComponent.create();
+    ReusableChildOne childOne = parent.childOne();
+    ReusableChildTwo childTwo = parent.childTwo();
+
+    assertThat(childOne.reusable()).isSameInstanceAs(childOne.reusable());
+    assertThat(childTwo.reusable()).isSameInstanceAs(childTwo.reusable());
+    assertThat(childOne.reusable()).isNotSameInstanceAs(childTwo.reusable());
+  }
+}
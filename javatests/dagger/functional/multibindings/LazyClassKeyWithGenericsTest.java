@@ -23,6 +23,7 @@ import dagger.Module;
 import dagger.Provides;
 import dagger.multibindings.IntoMap;
 import dagger.multibindings.LazyClassKey;
+import dagger.multibindings.LazyClassKeys;
 import java.util.Map;
 import javax.inject.Provider;
 import javax.inject.Singleton;
@@ -86,4 +87,15 @@ public final class LazyClassKeyWithGenericsTest {
     assertThat(intMap.get(Thing.class).get()).isEqualTo(2);
     assertThat(intMap.get(GenericThing.class).get()).isEqualTo(1);
   }
+
+  @Test
+  public void withClassLoader() {
+    TestComponent testComponent = DaggerLazyClassKeyWithGenericsTest_TestComponent.create();
+    Map<Class<?>, String> map =
+        LazyClassKeys.withClassLoader(testComponent.map(), getClass().getClassLoader());
+    assertThat(map)
+        .containsExactly(Thing.class, "Thing", GenericThing.class, "GenericThing")
+        .inOrder();
+    assertThat(map.keySet()).containsExactly(Thing.class, GenericThing.class).inOrder();
+  }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.multibindings;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Component;
+import dagger.Module;
+import dagger.Provides;
+import dagger.multibindings.IntKey;
+import dagger.multibindings.IntoMap;
+import dagger.multibindings.LongKey;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@code Map<Integer, Provider<V>>} and {@code Map<Long, Provider<V>>} bindings. */
+@RunWith(JUnit4.class)
+public final class PrimitiveKeyedProviderMapTest {
+  @Component(modules = TestModule.class)
+  interface TestComponent {
+    Provider<Map<Integer, Provider<String>>> intKeyedProviderMap();
+
+    Provider<Map<Long, Provider<String>>> longKeyedProviderMap();
+
+    Map<Integer, String> intKeyedMap();
+
+    Dispatcher dispatcher();
+  }
+
+  @Module
+  interface TestModule {
+    @Provides
+    @IntoMap
+    @IntKey(3)
+    static String three() {
+      return "three";
+    }
+
+    @Provides
+    @IntoMap
+    @IntKey(-1)
+    static String minusOne() {
+      return "minus one";
+    }
+
+    @Provides
+    @IntoMap
+    @IntKey(1)
+    static String one() {
+      return "one";
+    }
+
+    @Provides
+    @IntoMap
+    @LongKey(Long.MAX_VALUE)
+    static String maxLong() {
+      return "max";
+    }
+
+    @Provides
+    @IntoMap
+    @LongKey(Long.MIN_VALUE)
+    static String minLong() {
+      return "min";
+    }
+  }
+
+  static final class Dispatcher {
+    final Map<Integer, Provider<String>> handlers;
+
+    @Inject
+    Dispatcher(Map<Integer, Provider<String>> handlers) {
+      this.handlers = handlers;
+    }
+  }
+
+  @Test
+  public void intKeyedProviderMap() {
+    Map<Integer, Provider<String>> map =
+        DaggerPrimitiveKeyedProviderMapTest_TestComponent.create().intKeyedProviderMap().get();
+    assertThat(map.keySet()).containsExactly(3, -1, 1).inOrder();
+    assertThat(map.get(-1).get()).isEqualTo("minus one");
+    assertThat(map.get(3).get()).isEqualTo("three");
+    assertThat(map.get(2)).isNull();
+    assertThat(map.get(3L)).isNull();
+    assertThat(map.containsKey(1)).isTrue();
+  }
+
+  @Test
+  public void longKeyedProviderMap() {
+    Map<Long, Provider<String>> map =
+        DaggerPrimitiveKeyedProviderMapTest_TestComponent.create().longKeyedProviderMap().get();
+    assertThat(map.keySet()).containsExactly(Long.MAX_VALUE, Long.MIN_VALUE).inOrder();
+    assertThat(map.get(Long.MIN_VALUE).get()).isEqualTo("min");
+    assertThat(map.get(Long.MAX_VALUE).get()).isEqualTo("max");
+    assertThat(map.get(0L)).isNull();
+  }
+
+  @Test
+  public void intKeyedMap() {
+    assertThat(DaggerPrimitiveKeyedProviderMapTest_TestComponent.create().intKeyedMap())
+        .containsExactly(3, "three", -1, "minus one", 1, "one")
+        .inOrder();
+  }
+
+  @Test
+  public void injectedIntKeyedProviderMap() {
+    Map<Integer, Provider<String>> handlers =
+        DaggerPrimitiveKeyedProviderMapTest_TestComponent.create().dispatcher().handlers;
+    assertThat(handlers.keySet()).containsExactly(3, -1, 1).inOrder();
+    assertThat(handlers.get(1).get()).isEqualTo("one");
+  }
+}
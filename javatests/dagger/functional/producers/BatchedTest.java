@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.Module;
+import dagger.Provides;
+import dagger.producers.Batched;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import javax.inject.Qualifier;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link Batched}. */
+@RunWith(JUnit4.class)
+public final class BatchedTest {
+  private static final List<List<Integer>> batches =
+      Collections.synchronizedList(new ArrayList<>());
+
+  @Qualifier
+  @interface Id {}
+
+  @Qualifier
+  @interface Greeting {}
+
+  @ProductionComponent(modules = {ExecutorModule.class, NamesModule.class})
+  interface NameComponent {
+    ListenableFuture<String> name();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      NameComponent create(@BindsInstance int id);
+    }
+  }
+
+  @ProductionComponent(modules = {ExecutorModule.class, GreetingsModule.class})
+  interface GreetingComponent {
+    @Greeting
+    ListenableFuture<String> greeting();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      GreetingComponent create(@BindsInstance @Id int id);
+    }
+  }
+
+  @Module
+  static final class ExecutorModule {
+    @Provides
+    @Production
+    static Executor executor() {
+      return directExecutor();
+    }
+  }
+
+  @ProducerModule
+  static final class NamesModule {
+    @Produces
+    @Batched(maxBatchSize = 3, maxDelayMillis = 60_000)
+    static List<String> names(List<Integer> ids) {
+      batches.add(ImmutableList.copyOf(ids));
+      List<String> names = new ArrayList<>();
+      for (int id : ids) {
+        names.add("name " + id);
+      }
+      return names;
+    }
+  }
+
+  @ProducerModule
+  static final class GreetingsModule {
+    @Produces
+    @Batched(maxDelayMillis = 100)
+    @Greeting
+    static ListenableFuture<List<String>> greetings(@Id List<Integer> ids) {
+      batches.add(ImmutableList.copyOf(ids));
+      List<String> greetings = new ArrayList<>();
+      for (int id : ids) {
+        greetings.add("hello " + id);
+      }
+      return Futures.immediateFuture(greetings);
+    }
+  }
+
+  @Before
+  public void clearBatches() {
+    batches.clear();
+  }
+
+  @Test
+  public void fullBatch_sharedByComponents() throws Exception {
+    NameComponent.Factory factory = DaggerBatchedTest_NameComponent.factory();
+    ListenableFuture<String> first = factory.create(1).name();
+    ListenableFuture<String> second = factory.create(2).name();
+    assertThat(batches).isEmpty();
+
+    ListenableFuture<String> third = factory.create(3).name();
+    assertThat(batches).containsExactly(ImmutableList.of(1, 2, 3));
+    assertThat(first.get()).isEqualTo("name 1");
+    assertThat(second.get()).isEqualTo("name 2");
+    assertThat(third.get()).isEqualTo("name 3");
+  }
+
+  @Test
+  public void partialBatch_calledAfterDelay() throws Exception {
+    GreetingComponent.Factory factory = DaggerBatchedTest_GreetingComponent.factory();
+    ListenableFuture<String> first = factory.create(1).greeting();
+    ListenableFuture<String> second = factory.create(2).greeting();
+    ListenableFuture<String> duplicate = factory.create(1).greeting();
+
+    assertThat(first.get(10, SECONDS)).isEqualTo("hello 1");
+    assertThat(second.get(10, SECONDS)).isEqualTo("hello 2");
+    assertThat(duplicate.get(10, SECONDS)).isEqualTo("hello 1");
+    assertThat(batches).containsExactly(ImmutableList.of(1, 2));
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.Module;
+import dagger.Provides;
+import dagger.multibindings.IntoSet;
+import dagger.producers.Cached;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.monitoring.ProducerMonitor;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link Cached}. */
+@RunWith(JUnit4.class)
+public final class CachedTest {
+  private static final AtomicInteger calls = new AtomicInteger();
+  private static final AtomicInteger hits = new AtomicInteger();
+  private static final AtomicInteger misses = new AtomicInteger();
+
+  @ProductionComponent(modules = {ExecutorModule.class, MonitorModule.class, FlagsModule.class})
+  interface FlagsComponent {
+    ListenableFuture<String> flags();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      FlagsComponent create(@BindsInstance int user);
+    }
+  }
+
+  @Module
+  static final class ExecutorModule {
+    @Provides
+    @Production
+    static Executor executor() {
+      return directExecutor();
+    }
+  }
+
+  @Module
+  static final class MonitorModule {
+    @Provides
+    @IntoSet
+    static ProductionComponentMonitor.Factory countingMonitor() {
+      return new ProductionComponentMonitor.Factory() {
+        @Override
+        public ProductionComponentMonitor create(Object component) {
+          return new ProductionComponentMonitor() {
+            @Override
+            public ProducerMonitor producerMonitorFor(ProducerToken token) {
+              return new ProducerMonitor() {
+                @Override
+                public void cacheHit() {
+                  hits.incrementAndGet();
+                }
+
+                @Override
+                public void cacheMissed() {
+                  misses.incrementAndGet();
+                }
+              };
+            }
+          };
+        }
+      };
+    }
+  }
+
+  @ProducerModule
+  static final class FlagsModule {
+    @Produces
+    @Cached(maxSize = 10, ttlMillis = 60_000)
+    static String flags(int user) {
+      return "flags for " + user + " #" + calls.incrementAndGet();
+    }
+  }
+
+  @Test
+  public void resultsSharedByComponentsWithSameInputs() throws Exception {
+    FlagsComponent.Factory factory = DaggerCachedTest_FlagsComponent.factory();
+    String first = factory.create(1).flags().get();
+    String second = factory.create(1).flags().get();
+    String other = factory.create(2).flags().get();
+
+    assertThat(first).isEqualTo("flags for 1 #1");
+    assertThat(second).isSameInstanceAs(first);
+    assertThat(other).isEqualTo("flags for 2 #2");
+    assertThat(calls.get()).isEqualTo(2);
+    assertThat(hits.get()).isEqualTo(1);
+    assertThat(misses.get()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.BindsInstance;
+import dagger.Module;
+import dagger.Provides;
+import dagger.multibindings.IntoSet;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.Timeout;
+import dagger.producers.monitoring.ProducerMonitor;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link Timeout}. */
+@RunWith(JUnit4.class)
+public final class DeadlineTest {
+  private static final List<Throwable> failures =
+      Collections.synchronizedList(new ArrayList<Throwable>());
+
+  @ProductionComponent(modules = {ExecutorModule.class, MonitorModule.class, LookupModule.class})
+  interface LookupComponent {
+    ListenableFuture<String> lookup();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      LookupComponent create(@BindsInstance SettableFuture<String> backend);
+    }
+  }
+
+  @Module
+  static final class ExecutorModule {
+    @Provides
+    @Production
+    static Executor executor() {
+      return directExecutor();
+    }
+  }
+
+  @Module
+  static final class MonitorModule {
+    @Provides
+    @IntoSet
+    static ProductionComponentMonitor.Factory failureRecordingMonitor() {
+      return new ProductionComponentMonitor.Factory() {
+        @Override
+        public ProductionComponentMonitor create(Object component) {
+          return new ProductionComponentMonitor() {
+            @Override
+            public ProducerMonitor producerMonitorFor(ProducerToken token) {
+              return new ProducerMonitor() {
+                @Override
+                public void failed(Throwable t) {
+                  failures.add(t);
+                }
+              };
+            }
+          };
+        }
+      };
+    }
+  }
+
+  @ProducerModule
+  static final class LookupModule {
+    @Produces
+    @Timeout(millis = 50)
+    static ListenableFuture<String> lookup(SettableFuture<String> backend) {
+      return backend;
+    }
+  }
+
+  @Test
+  public void slowProducerFailsWithTimeoutAndIsCancelled() throws Exception {
+    SettableFuture<String> backend = SettableFuture.create();
+    ListenableFuture<String> lookup =
+        DaggerDeadlineTest_LookupComponent.factory().create(backend).lookup();
+
+    ExecutionException e = assertThrows(ExecutionException.class, lookup::get);
+    assertThat(e).hasCauseThat().isInstanceOf(TimeoutException.class);
+    assertThat(backend.isCancelled()).isTrue();
+    assertThat(failures).hasSize(1);
+    assertThat(failures.get(0)).isInstanceOf(TimeoutException.class);
+  }
+
+  @Test
+  public void fastProducerSucceeds() throws Exception {
+    SettableFuture<String> backend = SettableFuture.create();
+    backend.set("found");
+    ListenableFuture<String> lookup =
+        DaggerDeadlineTest_LookupComponent.factory().create(backend).lookup();
+
+    assertThat(lookup.get()).isEqualTo("found");
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.Binds;
+import dagger.BindsInstance;
+import dagger.Module;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.ProducesOn;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.ProductionScope;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import javax.inject.Named;
+import javax.inject.Qualifier;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link ProducesOn}. */
+@RunWith(JUnit4.class)
+public final class ProducesOnTest {
+  @Qualifier
+  @interface OnMethod {}
+
+  @Qualifier
+  @interface OnModule {}
+
+  @ProductionComponent(modules = {TestModule.class, IoModule.class, ExecutorModule.class})
+  interface TestComponent {
+    ListenableFuture<Integer> base();
+
+    @OnMethod
+    ListenableFuture<String> onMethod();
+
+    @OnModule
+    ListenableFuture<String> onModule();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      TestComponent create(
+          @BindsInstance @Production Executor productionExecutor,
+          @BindsInstance @Named("cpu") Executor cpuExecutor);
+    }
+  }
+
+  @ProducerModule
+  static final class TestModule {
+    @Produces
+    static int base() {
+      return 21;
+    }
+
+    @Produces
+    @ProducesOn(@Named("cpu"))
+    @OnMethod
+    static String onMethod(int base) {
+      return "cpu " + base;
+    }
+  }
+
+  @ProducesOn(@Named("io"))
+  @ProducerModule
+  static final class IoModule {
+    @Produces
+    @OnModule
+    static String onModule(int base) {
+      return "io " + base;
+    }
+  }
+
+  @Module
+  interface ExecutorModule {
+    @Binds
+    @ProductionScope
+    @Named("io")
+    Executor ioExecutor(@Named("cpu") Executor cpuExecutor);
+  }
+
+  private final Queue<Runnable> productionTasks = new ArrayDeque<>();
+  private final Queue<Runnable> cpuTasks = new ArrayDeque<>();
+  private final TestComponent component =
+      DaggerProducesOnTest_TestComponent.factory().create(productionTasks::add, cpuTasks::add);
+
+  @Test
+  public void notAnnotated_usesProductionExecutor() throws Exception {
+    ListenableFuture<Integer> base = component.base();
+    assertThat(productionTasks).hasSize(1);
+    assertThat(cpuTasks).isEmpty();
+    productionTasks.remove().run();
+    assertThat(base.get()).isEqualTo(21);
+  }
+
+  @Test
+  public void annotatedMethod_usesNamedExecutor() throws Exception {
+    ListenableFuture<String> onMethod = component.onMethod();
+    productionTasks.remove().run();
+    assertThat(productionTasks).isEmpty();
+    assertThat(cpuTasks).hasSize(1);
+    cpuTasks.remove().run();
+    assertThat(onMethod.get()).isEqualTo("cpu 21");
+  }
+
+  @Test
+  public void annotatedModule_usesNamedExecutor() throws Exception {
+    ListenableFuture<String> onModule = component.onModule();
+    productionTasks.remove().run();
+    assertThat(productionTasks).isEmpty();
+    assertThat(cpuTasks).hasSize(1);
+    cpuTasks.remove().run();
+    assertThat(onModule.get()).isEqualTo("io 21");
+  }
+}
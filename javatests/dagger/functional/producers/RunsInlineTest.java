@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.RunsInline;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import javax.inject.Qualifier;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link RunsInline}. */
+@RunWith(JUnit4.class)
+public final class RunsInlineTest {
+  @Qualifier
+  @interface OnExecutor {}
+
+  @ProductionComponent(modules = {TestModule.class, InlineModule.class})
+  interface TestComponent {
+    ListenableFuture<Integer> base();
+
+    ListenableFuture<String> inlineMethod();
+
+    ListenableFuture<Long> inlineModule();
+
+    @OnExecutor
+    ListenableFuture<String> onExecutor();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      TestComponent create(@BindsInstance @Production Executor executor);
+    }
+  }
+
+  @ProducerModule
+  static final class TestModule {
+    @Produces
+    @RunsInline
+    static int base() {
+      return 21;
+    }
+
+    @Produces
+    @RunsInline
+    static String inlineMethod(int base) {
+      return "inline " + base;
+    }
+
+    @Produces
+    @OnExecutor
+    static String onExecutor(int base) {
+      return "executor " + base;
+    }
+  }
+
+  @RunsInline
+  @ProducerModule
+  static final class InlineModule {
+    @Produces
+    static long inlineModule(int base) {
+      return base * 2L;
+    }
+  }
+
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final TestComponent component =
+      DaggerRunsInlineTest_TestComponent.factory().create(tasks::add);
+
+  @Test
+  public void dependenciesDone_runsInline() throws Exception {
+    ListenableFuture<String> inlineMethod = component.inlineMethod();
+    ListenableFuture<Long> inlineModule = component.inlineModule();
+    assertThat(tasks).isEmpty();
+    assertThat(inlineMethod.get()).isEqualTo("inline 21");
+    assertThat(inlineModule.get()).isEqualTo(42L);
+  }
+
+  @Test
+  public void notAnnotated_usesExecutor() throws Exception {
+    ListenableFuture<String> onExecutor = component.onExecutor();
+    assertThat(component.base().isDone()).isTrue();
+    assertThat(onExecutor.isDone()).isFalse();
+    assertThat(tasks).hasSize(1);
+    tasks.remove().run();
+    assertThat(onExecutor.get()).isEqualTo("executor 21");
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.interruptible;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@code -Adagger.interruptibleProducers=enabled}. */
+@RunWith(JUnit4.class)
+public final class InterruptibleProducersTest {
+  @ProductionComponent(modules = BlockingModule.class)
+  interface TestComponent {
+    ListenableFuture<String> result();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      TestComponent create(
+          @BindsInstance @Production Executor executor, @BindsInstance Latches latches);
+    }
+  }
+
+  static final class Latches {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+  }
+
+  @ProducerModule
+  static final class BlockingModule {
+    @Produces
+    static int blocking(Latches latches) throws InterruptedException {
+      latches.started.countDown();
+      try {
+        latches.release.await();
+      } catch (InterruptedException e) {
+        latches.interrupted.countDown();
+        throw e;
+      }
+      return 42;
+    }
+
+    @Produces
+    static ListenableFuture<String> result(int blocking) {
+      return Futures.immediateFuture("released " + blocking);
+    }
+  }
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final Latches latches = new Latches();
+  private final TestComponent component =
+      DaggerInterruptibleProducersTest_TestComponent.factory().create(executor, latches);
+
+  @After
+  public void shutDownExecutor() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void completes() throws Exception {
+    ListenableFuture<String> result = component.result();
+    latches.started.await();
+    latches.release.countDown();
+    assertThat(result.get()).isEqualTo("released 42");
+  }
+
+  @Test
+  public void cancelEntryPointMayInterrupt_interruptsBlockedMethod() throws Exception {
+    ListenableFuture<String> result = component.result();
+    latches.started.await();
+    assertThat(result.cancel(true)).isTrue();
+    latches.interrupted.await();
+  }
+}
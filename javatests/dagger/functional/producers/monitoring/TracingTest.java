@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.Provides;
+import dagger.multibindings.IntoSet;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import dagger.producers.monitoring.ProductionTrace;
+import dagger.producers.monitoring.TracingProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import javax.inject.Named;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests {@link TracingProductionComponentMonitor} with a generated production component. */
+@RunWith(JUnit4.class)
+public final class TracingTest {
+  @ProductionComponent(modules = DiamondModule.class)
+  interface DiamondComponent {
+    @Named("a")
+    ListenableFuture<String> a();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      DiamondComponent create(
+          @BindsInstance @Production Executor executor,
+          @BindsInstance ProductionTrace.Listener listener);
+    }
+  }
+
+  /** {@code a} depends on {@code b} and {@code c}, which both depend on {@code d}. */
+  @ProducerModule
+  static final class DiamondModule {
+    @Provides
+    @IntoSet
+    static ProductionComponentMonitor.Factory monitorFactory(ProductionTrace.Listener listener) {
+      return new TracingProductionComponentMonitor.Factory(listener);
+    }
+
+    @Produces
+    @Named("a")
+    static String a(@Named("b") String b, @Named("c") String c) {
+      return b + c;
+    }
+
+    @Produces
+    @Named("b")
+    static String b(@Named("d") String d) {
+      return "b" + d;
+    }
+
+    @Produces
+    @Named("c")
+    static String c(@Named("d") String d) {
+      return "c" + d;
+    }
+
+    @Produces
+    @Named("d")
+    static String d() {
+      return "d";
+    }
+  }
+
+  @Test
+  public void diamond_recordsEdgeFromEachDependent() throws Exception {
+    List<ProductionTrace> traces = new ArrayList<>();
+    DiamondComponent component =
+        DaggerTracingTest_DiamondComponent.factory().create(directExecutor(), traces::add);
+
+    assertThat(component.a().get()).isEqualTo("bdcd");
+    assertThat(traces).hasSize(1);
+    Map<String, List<String>> dependencies = new LinkedHashMap<>();
+    for (ProductionTrace.Span span : traces.get(0).spans()) {
+      List<String> names = new ArrayList<>();
+      for (ProducerToken dependency : span.dependencies()) {
+        names.add(methodName(dependency));
+      }
+      dependencies.put(methodName(span.token()), names);
+    }
+    assertThat(dependencies).containsKey("a");
+    assertThat(dependencies.get("a")).containsExactly("b", "c");
+    assertThat(dependencies.get("b")).containsExactly("d");
+    assertThat(dependencies.get("c")).containsExactly("d");
+    assertThat(dependencies.get("d")).isEmpty();
+    assertThat(dependencies).hasSize(4);
+  }
+
+  /** Returns the name of the {@code @Produces} method of a {@code DiamondModule} producer. */
+  private static String methodName(ProducerToken token) {
+    String factory = token.toString();
+    String method =
+        factory.substring(factory.lastIndexOf('_') + 1, factory.length() - "Factory".length());
+    return method.toLowerCase();
+  }
+}
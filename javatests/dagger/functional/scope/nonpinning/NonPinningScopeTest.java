@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dagger.functional.scope.nonpinning;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+import dagger.BindsOptionalOf;
+import dagger.Component;
+import dagger.Lazy;
+import dagger.Module;
+import dagger.Provides;
+import dagger.Reusable;
+import dagger.internal.DoubleCheck;
+import dagger.internal.NonPinningDoubleCheck;
+import dagger.multibindings.IntoMap;
+import dagger.multibindings.StringKey;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for scoped bindings generated with {@code dagger.nonPinningScopedProviders} enabled. */
+@RunWith(JUnit4.class)
+public final class NonPinningScopeTest {
+  private static final AtomicInteger singletonInstances = new AtomicInteger();
+
+  @Singleton
+  static final class SingletonType {
+    @Inject
+    SingletonType(ReusableType reusableType) {
+      singletonInstances.incrementAndGet();
+    }
+  }
+
+  @Reusable
+  static final class ReusableType {
+    @Inject
+    ReusableType() {}
+  }
+
+  static final class UnscopedType {
+    @Inject
+    UnscopedType() {}
+  }
+
+  static final class OptionalType {}
+
+  @Module
+  abstract static class TestModule {
+    @BindsOptionalOf
+    abstract OptionalType optionalType();
+
+    @Provides
+    static OptionalType provideOptionalType() {
+      return new OptionalType();
+    }
+
+    @Provides
+    @IntoMap
+    @StringKey("key")
+    static UnscopedType provideUnscopedIntoMap() {
+      return new UnscopedType();
+    }
+  }
+
+  @Singleton
+  @Component(modules = TestModule.class)
+  interface TestComponent {
+    SingletonType singleton();
+
+    Provider<SingletonType> singletonProvider();
+
+    Lazy<SingletonType> singletonLazy();
+
+    Provider<ReusableType> reusableProvider();
+
+    Lazy<UnscopedType> unscopedLazy();
+
+    UnscopedType unscoped();
+
+    Provider<Lazy<UnscopedType>> unscopedProviderOfLazy();
+
+    Optional<Lazy<OptionalType>> optionalLazy();
+
+    Provider<Optional<Lazy<OptionalType>>> optionalLazyProvider();
+
+    Map<String, Lazy<UnscopedType>> lazyMap();
+
+    Map<String, Provider<Lazy<UnscopedType>>> providerOfLazyMap();
+
+    Provider<Map<String, Lazy<UnscopedType>>> lazyMapProvider();
+
+    Provider<Map<String, Provider<Lazy<UnscopedType>>>> providerOfLazyMapProvider();
+  }
+
+  @Test
+  public void scopedBinding() {
+    TestComponent component = DaggerNonPinningScopeTest_TestComponent.create();
+    assertThat(component.singleton()).isSameInstanceAs(component.singleton());
+    assertThat(component.singletonProvider().get()).isSameInstanceAs(component.singleton());
+    assertThat(component.singletonLazy().get()).isSameInstanceAs(component.singleton());
+    assertThat(component.reusableProvider().get())
+        .isSameInstanceAs(component.reusableProvider().get());
+  }
+
+  @Test
+  public void lazyBinding() {
+    TestComponent component = DaggerNonPinningScopeTest_TestComponent.create();
+    Lazy<UnscopedType> lazy = component.unscopedLazy();
+    assertThat(lazy.get()).isSameInstanceAs(lazy.get());
+    assertThat(component.unscopedLazy().get()).isNotSameInstanceAs(lazy.get());
+    assertThat(component.unscoped()).isNotSameInstanceAs(component.unscoped());
+  }
+
+  @Test
+  public void memoizesWithNonPinningDoubleCheck() throws Exception {
+    TestComponent component = DaggerNonPinningScopeTest_TestComponent.create();
+    List<Object> fieldValues = new ArrayList<>();
+    for (Field field : component.getClass().getDeclaredFields()) {
+      field.setAccessible(true);
+      fieldValues.add(field.get(component));
+    }
+    assertThat(Iterables.filter(fieldValues, NonPinningDoubleCheck.class)).isNotEmpty();
+    assertThat(Iterables.filter(fieldValues, DoubleCheck.class)).isEmpty();
+    assertThat(component.singletonLazy()).isInstanceOf(NonPinningDoubleCheck.class);
+    assertThat(component.unscopedLazy()).isInstanceOf(NonPinningDoubleCheck.class);
+    assertThat(component.unscopedProviderOfLazy().get()).isInstanceOf(NonPinningDoubleCheck.class);
+    assertThat(component.optionalLazy().get()).isInstanceOf(NonPinningDoubleCheck.class);
+    assertThat(component.optionalLazyProvider().get().get())
+        .isInstanceOf(NonPinningDoubleCheck.class);
+    assertThat(component.lazyMap().get("key")).isInstanceOf(NonPinningDoubleCheck.class);
+    assertThat(component.providerOfLazyMap().get("key").get())
+        .isInstanceOf(NonPinningDoubleCheck.class);
+    assertThat(component.lazyMapProvider().get().get("key"))
+        .isInstanceOf(NonPinningDoubleCheck.class);
+    assertThat(component.providerOfLazyMapProvider().get().get("key").get())
+        .isInstanceOf(NonPinningDoubleCheck.class);
+  }
+
+  @Test
+  public void scopedBinding_concurrentFirstRequests() throws Exception {
+    int numThreads = 16;
+    TestComponent component = DaggerNonPinningScopeTest_TestComponent.create();
+    CountDownLatch latch = new CountDownLatch(numThreads);
+    List<Callable<SingletonType>> tasks = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      tasks.add(
+          () -> {
+            latch.countDown();
+            latch.await();
+            return component.singleton();
+          });
+    }
+
+    int instancesBefore = singletonInstances.get();
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    Set<SingletonType> results = Sets.newIdentityHashSet();
+    for (Future<SingletonType> future : executor.invokeAll(tasks)) {
+      results.add(future.get());
+    }
+    executor.shutdown();
+
+    assertThat(results).hasSize(1);
+    assertThat(singletonInstances.get() - instancesBefore).isEqualTo(1);
+  }
+}
@@ -0,0 +1,615 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+
+import androidx.room3.compiler.processing.XMessager;
+import androidx.room3.compiler.processing.XProcessingEnv;
+import androidx.room3.compiler.processing.util.Source;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import dagger.Binds;
+import dagger.BindsInstance;
+import dagger.Component;
+import dagger.Module;
+import dagger.Provides;
+import dagger.internal.codegen.binding.BindingGraph.TopLevelBindingGraph;
+import dagger.internal.codegen.binding.BindingGraphFactory;
+import dagger.internal.codegen.binding.BindingGraphFactory.FullAndReachableBindingGraphs;
+import dagger.internal.codegen.binding.ComponentDescriptor;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions;
+import dagger.internal.codegen.compileroption.ProcessingOptions;
+import dagger.internal.codegen.validation.InjectBindingRegistryModule;
+import dagger.testing.compile.CompilerTests;
+import java.util.Map;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that the reachable binding graph from {@link
+ * BindingGraphFactory#createFullAndReachable(ComponentDescriptor)} is the same graph, with its
+ * nodes and edges in the same order, as the one from {@link BindingGraphFactory#create
+ * create(componentDescriptor, false)}.
+ */
+@RunWith(JUnit4.class)
+public final class BindingGraphFactoryTest {
+  @Test
+  public void component() {
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import dagger.Lazy;",
+            "import javax.inject.Provider;",
+            "",
+            "@Component(modules = TestModule.class)",
+            "interface TestComponent {",
+            "  Foo foo();",
+            "  Lazy<Foo> lazyFoo();",
+            "  Provider<Bar> barProvider();",
+            "}");
+    Source module =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Binds;",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "",
+            "@Module",
+            "interface TestModule {",
+            "  @Provides",
+            "  static String string(Bar bar) {",
+            "    return \"\";",
+            "  }",
+            "",
+            "  @Provides",
+            "  static Integer unused(Long l) {",
+            "    return 0;",
+            "  }",
+            "",
+            "  @Binds",
+            "  Object unusedBinds(Baz baz);",
+            "}");
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Foo {",
+            "  @Inject",
+            "  Foo(String string, Bar bar) {}",
+            "}");
+    Source bar =
+        CompilerTests.javaSource(
+            "test.Bar",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Bar {",
+            "  @Inject",
+            "  Bar() {}",
+            "}");
+    Source baz =
+        CompilerTests.javaSource(
+            "test.Baz",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Baz {",
+            "  @Inject",
+            "  Baz(Foo foo) {}",
+            "}");
+
+    assertReachableBindingGraph(
+        "test.TestComponent", /* derived= */ true, component, module, foo, bar, baz);
+  }
+
+  @Test
+  public void subcomponents() {
+    Source parent =
+        CompilerTests.javaSource(
+            "test.Parent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component(modules = ParentModule.class)",
+            "interface Parent {",
+            "  Long l();",
+            "  Child child();",
+            "  Child.Builder childBuilder();",
+            "}");
+    Source parentModule =
+        CompilerTests.javaSource(
+            "test.ParentModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "",
+            "@Module(subcomponents = {Child.class, UnusedChild.class})",
+            "interface ParentModule {",
+            "  @Provides",
+            "  static Long l() {",
+            "    return 0L;",
+            "  }",
+            "",
+            "  @Provides",
+            "  static String string() {",
+            "    return \"\";",
+            "  }",
+            "}");
+    Source child =
+        CompilerTests.javaSource(
+            "test.Child",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface Child {",
+            "  String string();",
+            "  Long l();",
+            "  Grandchild grandchild();",
+            "",
+            "  @Subcomponent.Builder",
+            "  interface Builder {",
+            "    Child build();",
+            "  }",
+            "}");
+    Source grandchild =
+        CompilerTests.javaSource(
+            "test.Grandchild",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface Grandchild {",
+            "  String string();",
+            "  Foo foo();",
+            "}");
+    Source unusedChild =
+        CompilerTests.javaSource(
+            "test.UnusedChild",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface UnusedChild {",
+            "  String string();",
+            "",
+            "  @Subcomponent.Builder",
+            "  interface Builder {",
+            "    UnusedChild build();",
+            "  }",
+            "}");
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Foo {",
+            "  @Inject",
+            "  Foo(String string, Long l) {}",
+            "}");
+
+    assertReachableBindingGraph(
+        "test.Parent",
+        /* derived= */ true,
+        parent,
+        parentModule,
+        child,
+        grandchild,
+        unusedChild,
+        foo);
+  }
+
+  @Test
+  public void reusableBindingInSubcomponents() {
+    Source parent =
+        CompilerTests.javaSource(
+            "test.Parent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component",
+            "interface Parent {",
+            "  Child1 child1();",
+            "  Child2 child2();",
+            "}");
+    Source child1 =
+        CompilerTests.javaSource(
+            "test.Child1",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface Child1 {",
+            "  Foo foo();",
+            "}");
+    Source child2 =
+        CompilerTests.javaSource(
+            "test.Child2",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface Child2 {",
+            "  Foo foo();",
+            "  Bar bar();",
+            "}");
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import dagger.Reusable;",
+            "import javax.inject.Inject;",
+            "",
+            "@Reusable",
+            "final class Foo {",
+            "  @Inject",
+            "  Foo() {}",
+            "}");
+    Source bar =
+        CompilerTests.javaSource(
+            "test.Bar",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Bar {",
+            "  @Inject",
+            "  Bar(Foo foo) {}",
+            "}");
+
+    assertReachableBindingGraph(
+        "test.Parent", /* derived= */ true, parent, child1, child2, foo, bar);
+  }
+
+  @Test
+  public void reusableBindingResolvedForUnusedParentBinding_resolvesReachableGraph() {
+    // The full resolution resolves Foo in Parent for the unused Object binding, so both children
+    // use that Foo instead of owning their own. The reachable binding graph can't be derived from
+    // that, so it's resolved separately.
+    Source parent =
+        CompilerTests.javaSource(
+            "test.Parent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component(modules = ParentModule.class)",
+            "interface Parent {",
+            "  Child1 child1();",
+            "  Child2 child2();",
+            "}");
+    Source parentModule =
+        CompilerTests.javaSource(
+            "test.ParentModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "",
+            "@Module",
+            "interface ParentModule {",
+            "  @Provides",
+            "  static Object object(Foo foo) {",
+            "    return foo;",
+            "  }",
+            "}");
+    Source child1 =
+        CompilerTests.javaSource(
+            "test.Child1",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface Child1 {",
+            "  Foo foo();",
+            "}");
+    Source child2 =
+        CompilerTests.javaSource(
+            "test.Child2",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface Child2 {",
+            "  Foo foo();",
+            "}");
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import dagger.Reusable;",
+            "import javax.inject.Inject;",
+            "",
+            "@Reusable",
+            "final class Foo {",
+            "  @Inject",
+            "  Foo() {}",
+            "}");
+
+    assertReachableBindingGraph(
+        "test.Parent", /* derived= */ false, parent, parentModule, child1, child2, foo);
+  }
+
+  @Test
+  public void multibindings() {
+    Source parent =
+        CompilerTests.javaSource(
+            "test.Parent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import java.util.Map;",
+            "import java.util.Set;",
+            "",
+            "@Component(modules = ParentModule.class)",
+            "interface Parent {",
+            "  Set<String> strings();",
+            "  Set<Object> objects();",
+            "  Map<String, Integer> ints();",
+            "  Child child();",
+            "}");
+    Source parentModule =
+        CompilerTests.javaSource(
+            "test.ParentModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.multibindings.ElementsIntoSet;",
+            "import dagger.multibindings.IntoMap;",
+            "import dagger.multibindings.IntoSet;",
+            "import dagger.multibindings.Multibinds;",
+            "import dagger.multibindings.StringKey;",
+            "import java.util.Collections;",
+            "import java.util.Map;",
+            "import java.util.Set;",
+            "",
+            "@Module",
+            "interface ParentModule {",
+            "  @Multibinds",
+            "  Set<Object> objects();",
+            "",
+            "  @Multibinds",
+            "  Map<String, Long> unusedLongs();",
+            "",
+            "  @Provides",
+            "  @IntoSet",
+            "  static String string() {",
+            "    return \"\";",
+            "  }",
+            "",
+            "  @Provides",
+            "  @ElementsIntoSet",
+            "  static Set<String> strings() {",
+            "    return Collections.emptySet();",
+            "  }",
+            "",
+            "  @Provides",
+            "  @IntoMap",
+            "  @StringKey(\"parent\")",
+            "  static Integer parentInt() {",
+            "    return 0;",
+            "  }",
+            "}");
+    Source child =
+        CompilerTests.javaSource(
+            "test.Child",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "import java.util.Map;",
+            "import java.util.Set;",
+            "import javax.inject.Provider;",
+            "",
+            "@Subcomponent(modules = ChildModule.class)",
+            "interface Child {",
+            "  Set<String> strings();",
+            "  Set<Object> objects();",
+            "  Map<String, Provider<Integer>> intProviders();",
+            "}");
+    Source childModule =
+        CompilerTests.javaSource(
+            "test.ChildModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.multibindings.IntoMap;",
+            "import dagger.multibindings.IntoSet;",
+            "import dagger.multibindings.StringKey;",
+            "",
+            "@Module",
+            "interface ChildModule {",
+            "  @Provides",
+            "  @IntoSet",
+            "  static Object object() {",
+            "    return new Object();",
+            "  }",
+            "",
+            "  @Provides",
+            "  @IntoMap",
+            "  @StringKey(\"child\")",
+            "  static Integer childInt() {",
+            "    return 1;",
+            "  }",
+            "}");
+
+    assertReachableBindingGraph(
+        "test.Parent", /* derived= */ true, parent, parentModule, child, childModule);
+  }
+
+  @Test
+  public void subcomponentRequestsBindingResolvedForUnusedParentBinding_resolvesReachableGraph() {
+    // The full resolution resolves Bar in Parent for the unused Foo binding, so Child uses that Bar
+    // instead of owning its own. The reachable binding graph can't be derived from that, so it's
+    // resolved separately.
+    Source parent =
+        CompilerTests.javaSource(
+            "test.Parent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component(modules = ParentModule.class)",
+            "interface Parent {",
+            "  Child child();",
+            "}");
+    Source parentModule =
+        CompilerTests.javaSource(
+            "test.ParentModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "",
+            "@Module",
+            "interface ParentModule {",
+            "  @Provides",
+            "  static Foo foo(Bar bar) {",
+            "    return new Foo();",
+            "  }",
+            "}");
+    Source child =
+        CompilerTests.javaSource(
+            "test.Child",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface Child {",
+            "  Bar bar();",
+            "}");
+    Source foo = CompilerTests.javaSource("test.Foo", "package test;", "", "final class Foo {}");
+    Source bar =
+        CompilerTests.javaSource(
+            "test.Bar",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Bar {",
+            "  @Inject",
+            "  Bar() {}",
+            "}");
+
+    assertReachableBindingGraph(
+        "test.Parent", /* derived= */ false, parent, parentModule, child, foo, bar);
+  }
+
+  private static void assertReachableBindingGraph(
+      String componentName, boolean derived, Source... sources) {
+    CompilerTests.invocationCompiler(sources)
+        .compile(
+            invocation -> {
+              XProcessingEnv processingEnv = invocation.getProcessingEnv();
+              TestComponent testComponent =
+                  DaggerBindingGraphFactoryTest_TestComponent.factory()
+                      .create(processingEnv, ImmutableMap.of());
+              ComponentDescriptor componentDescriptor =
+                  testComponent
+                      .componentDescriptorFactory()
+                      .rootComponentDescriptor(processingEnv.requireTypeElement(componentName));
+              BindingGraphFactory bindingGraphFactory = testComponent.bindingGraphFactory();
+
+              FullAndReachableBindingGraphs graphs =
+                  bindingGraphFactory.createFullAndReachable(componentDescriptor);
+              assertThat(graphs.isReachableBindingGraphDerived()).isEqualTo(derived);
+              assertSameNetwork(
+                  graphs.fullBindingGraph().topLevelBindingGraph(),
+                  bindingGraphFactory.create(componentDescriptor, true).topLevelBindingGraph());
+              assertSameNetwork(
+                  graphs.reachableBindingGraph().topLevelBindingGraph(),
+                  bindingGraphFactory.create(componentDescriptor, false).topLevelBindingGraph());
+            });
+  }
+
+  private static void assertSameNetwork(
+      TopLevelBindingGraph actual, TopLevelBindingGraph expected) {
+    assertThat(actual.isFullBindingGraph()).isEqualTo(expected.isFullBindingGraph());
+    assertThat(actual.network().nodes())
+        .containsExactlyElementsIn(expected.network().nodes())
+        .inOrder();
+    // Each resolution creates its own edges, so compare them by their endpoints and what they
+    // represent instead.
+    assertThat(edges(actual)).containsExactlyElementsIn(edges(expected)).inOrder();
+  }
+
+  private static ImmutableList<ImmutableList<Object>> edges(TopLevelBindingGraph graph) {
+    return graph.network().edges().stream()
+        .map(
+            edge ->
+                ImmutableList.<Object>of(
+                    graph.network().incidentNodes(edge), edge.getClass(), edge.toString()))
+        .collect(toImmutableList());
+  }
+
+  @Singleton
+  @Component(modules = {InjectBindingRegistryModule.class, TestModule.class})
+  interface TestComponent {
+    ComponentDescriptor.Factory componentDescriptorFactory();
+
+    BindingGraphFactory bindingGraphFactory();
+
+    @Component.Factory
+    interface Factory {
+      TestComponent create(
+          @BindsInstance XProcessingEnv processingEnv,
+          @BindsInstance @ProcessingOptions Map<String, String> processingOptions);
+    }
+  }
+
+  @Module
+  interface TestModule {
+    @Binds
+    CompilerOptions compilerOptions(ProcessingEnvironmentCompilerOptions compilerOptions);
+
+    @Provides
+    static XMessager messager(XProcessingEnv processingEnv) {
+      return processingEnv.getMessager();
+    }
+  }
+}
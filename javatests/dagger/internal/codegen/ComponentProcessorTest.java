@@ -245,6 +245,48 @@ public class ComponentProcessorTest {
             });
   }
 
+  @Test
+  public void componentWithScope_nonPinningScopedProviders() throws Exception {
+    Source injectableTypeFile = CompilerTests.javaSource("test.SomeInjectableType",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Singleton",
+            "final class SomeInjectableType {",
+            "  @Inject SomeInjectableType() {}",
+            "}");
+    Source componentFile = CompilerTests.javaSource("test.SimpleComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import dagger.Lazy;",
+            "import javax.inject.Provider;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Singleton",
+            "@Component",
+            "interface SimpleComponent {",
+            "  SomeInjectableType someInjectableType();",
+            "  Lazy<SomeInjectableType> lazySomeInjectableType();",
+            "  Provider<SomeInjectableType> someInjectableTypeProvider();",
+            "  Provider<Lazy<SomeInjectableType>> providerOfLazySomeInjectableType();",
+            "}");
+
+    CompilerTests.daggerCompiler(injectableTypeFile, componentFile)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.nonPinningScopedProviders", "enabled")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerSimpleComponent"));
+            });
+  }
+
   @Test
   public void simpleComponentWithNesting() throws Exception {
     Source nestedTypesFile = CompilerTests.javaSource("test.OuterType",
@@ -353,6 +353,176 @@ public class MapBindingComponentProcessorTest {
             });
   }
 
+  @Test
+  public void mapBindingsWithIntKey() throws Exception {
+    Source mapModuleOneFile =
+        CompilerTests.javaSource(
+            "test.MapModuleOne",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.multibindings.IntoMap;",
+            "import dagger.multibindings.IntKey;",
+            "",
+            "@Module",
+            "final class MapModuleOne {",
+            "  @Provides @IntoMap @IntKey(1) Handler provideAdminHandler() {",
+            "    return new AdminHandler();",
+            "  }",
+            "}");
+    Source mapModuleTwoFile =
+        CompilerTests.javaSource(
+            "test.MapModuleTwo",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.multibindings.IntoMap;",
+            "import dagger.multibindings.IntKey;",
+            "",
+            "@Module",
+            "final class MapModuleTwo {",
+            "  @Provides @IntoMap @IntKey(2) Handler provideLoginHandler() {",
+            "    return new LoginHandler();",
+            "  }",
+            "}");
+    Source handlerFile =
+        CompilerTests.javaSource(
+            "test.Handler",
+            "package test;",
+            "",
+            "interface Handler {}");
+    Source loginHandlerFile =
+        CompilerTests.javaSource(
+            "test.LoginHandler",
+            "package test;",
+            "",
+            "class LoginHandler implements Handler {",
+            "  public LoginHandler() {}",
+            "}");
+    Source adminHandlerFile =
+        CompilerTests.javaSource(
+            "test.AdminHandler",
+            "package test;",
+            "",
+            "class AdminHandler implements Handler {",
+            "  public AdminHandler() {}",
+            "}");
+    Source componentFile =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import java.util.Map;",
+            "import javax.inject.Provider;",
+            "",
+            "@Component(modules = {MapModuleOne.class, MapModuleTwo.class})",
+            "interface TestComponent {",
+            "  Provider<Map<Integer, Provider<Handler>>> dispatcher();",
+            "}");
+
+    CompilerTests.daggerCompiler(
+            mapModuleOneFile,
+            mapModuleTwoFile,
+            handlerFile,
+            loginHandlerFile,
+            adminHandlerFile,
+            componentFile)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
+
+  @Test
+  public void mapBindingsWithLongKey() throws Exception {
+    Source mapModuleOneFile =
+        CompilerTests.javaSource(
+            "test.MapModuleOne",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.multibindings.IntoMap;",
+            "import dagger.multibindings.LongKey;",
+            "",
+            "@Module",
+            "final class MapModuleOne {",
+            "  @Provides @IntoMap @LongKey(1L) Handler provideAdminHandler() {",
+            "    return new AdminHandler();",
+            "  }",
+            "}");
+    Source mapModuleTwoFile =
+        CompilerTests.javaSource(
+            "test.MapModuleTwo",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.multibindings.IntoMap;",
+            "import dagger.multibindings.LongKey;",
+            "",
+            "@Module",
+            "final class MapModuleTwo {",
+            "  @Provides @IntoMap @LongKey(2L) Handler provideLoginHandler() {",
+            "    return new LoginHandler();",
+            "  }",
+            "}");
+    Source handlerFile =
+        CompilerTests.javaSource(
+            "test.Handler",
+            "package test;",
+            "",
+            "interface Handler {}");
+    Source loginHandlerFile =
+        CompilerTests.javaSource(
+            "test.LoginHandler",
+            "package test;",
+            "",
+            "class LoginHandler implements Handler {",
+            "  public LoginHandler() {}",
+            "}");
+    Source adminHandlerFile =
+        CompilerTests.javaSource(
+            "test.AdminHandler",
+            "package test;",
+            "",
+            "class AdminHandler implements Handler {",
+            "  public AdminHandler() {}",
+            "}");
+    Source componentFile =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import java.util.Map;",
+            "import javax.inject.Provider;",
+            "",
+            "@Component(modules = {MapModuleOne.class, MapModuleTwo.class})",
+            "interface TestComponent {",
+            "  Provider<Map<Long, Provider<Handler>>> dispatcher();",
+            "}");
+
+    CompilerTests.daggerCompiler(
+            mapModuleOneFile,
+            mapModuleTwoFile,
+            handlerFile,
+            loginHandlerFile,
+            adminHandlerFile,
+            componentFile)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
+
   @Test
   public void mapBindingsWithWrappedKey() throws Exception {
     Source mapModuleOneFile =
@@ -419,6 +419,33 @@ public class ProducerModuleFactoryGeneratorTest {
             });
   }
 
+  @Test public void singleProducesMethodRunsInline() {
+    Source moduleFile =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import com.google.common.util.concurrent.ListenableFuture;",
+            "import dagger.producers.ProducerModule;",
+            "import dagger.producers.Produces;",
+            "import dagger.producers.RunsInline;",
+            "",
+            "@ProducerModule",
+            "final class TestModule {",
+            "  @Produces",
+            "  @RunsInline",
+            "  ListenableFuture<String> produceString() {",
+            "    return null;",
+            "  }",
+            "}");
+    daggerCompiler(moduleFile)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              assertSourceMatchesGolden(subject, "test/TestModule_ProduceStringFactory");
+            });
+  }
+
   @Test public void singleProducesMethodSingleArgsFuture() {
     Source moduleFile =
         CompilerTests.javaSource(
@@ -510,6 +537,221 @@ public class ProducerModuleFactoryGeneratorTest {
             });
   }
 
+  @Test
+  public void singleProducesMethodInterruptible() {
+    Source moduleFile =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import com.google.common.util.concurrent.ListenableFuture;",
+            "import dagger.producers.ProducerModule;",
+            "import dagger.producers.Produces;",
+            "",
+            "@ProducerModule",
+            "final class TestModule {",
+            "  @Produces ListenableFuture<String> produceString() {",
+            "    return null;",
+            "  }",
+            "}");
+    daggerCompiler(moduleFile)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.interruptibleProducers", "ENABLED")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              assertSourceMatchesGolden(subject, "test/TestModule_ProduceStringFactory");
+            });
+  }
+
+  @Test
+  public void singleProducesMethodBatched() {
+    Source moduleFile =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import com.google.common.util.concurrent.ListenableFuture;",
+            "import dagger.producers.Batched;",
+            "import dagger.producers.ProducerModule;",
+            "import dagger.producers.Produces;",
+            "import java.util.List;",
+            "",
+            "@ProducerModule",
+            "final class TestModule {",
+            "  @Produces",
+            "  @Batched(maxBatchSize = 10, maxDelayMillis = 5)",
+            "  static ListenableFuture<List<String>> produceStrings(List<Integer> ids) {",
+            "    return null;",
+            "  }",
+            "}");
+    daggerCompiler(moduleFile)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              assertSourceMatchesGolden(subject, "test/TestModule_ProduceStringsFactory");
+            });
+  }
+
+  @Test
+  public void batchedMethodNotStatic() {
+    assertThatProductionModuleMethod(
+            "@Produces @Batched List<String> produceStrings(List<Integer> ids) { return null; }")
+        .hasError("@Batched methods must be static");
+  }
+
+  @Test
+  public void batchedMethodWithoutListParameter() {
+    assertThatProductionModuleMethod(
+            "@Produces @Batched static List<String> produceStrings(Integer id) { return null; }")
+        .hasError(
+            "@Batched methods must have a single List parameter whose element type is not a "
+                + "framework type");
+  }
+
+  @Test
+  public void batchedMethodWithListOfProducers() {
+    assertThatProductionModuleMethod(
+            "@Produces @Batched static List<String> produceStrings(List<Producer<Integer>> ids) "
+                + "{ return null; }")
+        .hasError(
+            "@Batched methods must have a single List parameter whose element type is not a "
+                + "framework type");
+  }
+
+  @Test
+  public void batchedMethodNotReturningList() {
+    assertThatProductionModuleMethod(
+            "@Produces @Batched static ListenableFuture<String> produceString(List<Integer> ids) "
+                + "{ return null; }")
+        .importing(ListenableFuture.class)
+        .hasError(
+            "@Batched methods must return a List, or a ListenableFuture of a List, with one value "
+                + "for each key");
+  }
+
+  @Test
+  public void batchedMethodInvalidMaxBatchSize() {
+    assertThatProductionModuleMethod(
+            "@Produces @Batched(maxBatchSize = 0) "
+                + "static List<String> produceStrings(List<Integer> ids) { return null; }")
+        .hasError("@Batched maxBatchSize must be positive");
+  }
+
+  @Test
+  public void singleProducesMethodCached() {
+    Source moduleFile =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import com.google.common.util.concurrent.ListenableFuture;",
+            "import dagger.producers.Cached;",
+            "import dagger.producers.ProducerModule;",
+            "import dagger.producers.Produces;",
+            "",
+            "@ProducerModule",
+            "final class TestModule {",
+            "  @Produces",
+            "  @Cached(maxSize = 10, ttlMillis = 500)",
+            "  static ListenableFuture<String> produceString(Integer i) {",
+            "    return null;",
+            "  }",
+            "}");
+    daggerCompiler(moduleFile)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              assertSourceMatchesGolden(subject, "test/TestModule_ProduceStringFactory");
+            });
+  }
+
+  @Test
+  public void cachedMethodNotStatic() {
+    assertThatProductionModuleMethod(
+            "@Produces @Cached String produceString(Integer i) { return null; }")
+        .hasError("@Cached methods must be static");
+  }
+
+  @Test
+  public void cachedMethodWithProviderDependency() {
+    assertThatProductionModuleMethod(
+            "@Produces @Cached static String produceString(Provider<Integer> i) { return null; }")
+        .hasError(
+            "@Cached methods can only depend on values or Produced values, which are used as the "
+                + "key in the cache");
+  }
+
+  @Test
+  public void cachedMethodInvalidTtl() {
+    assertThatProductionModuleMethod(
+            "@Produces @Cached(ttlMillis = -1) static String produceString(Integer i) "
+                + "{ return null; }")
+        .hasError("@Cached ttlMillis must not be negative");
+  }
+
+  @Test
+  public void singleProducesMethodWithDeadline() {
+    Source moduleFile =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import com.google.common.util.concurrent.ListenableFuture;",
+            "import dagger.producers.Hedged;",
+            "import dagger.producers.ProducerModule;",
+            "import dagger.producers.Produces;",
+            "import dagger.producers.Timeout;",
+            "",
+            "@ProducerModule",
+            "final class TestModule {",
+            "  @Produces",
+            "  @Timeout(millis = 100)",
+            "  @Hedged(percentile = 99, minDelayMillis = 5)",
+            "  ListenableFuture<String> produceString(Integer i) {",
+            "    return null;",
+            "  }",
+            "}");
+    daggerCompiler(moduleFile)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              assertSourceMatchesGolden(subject, "test/TestModule_ProduceStringFactory");
+            });
+  }
+
+  @Test
+  public void timeoutMethodNotPositive() {
+    assertThatProductionModuleMethod(
+            "@Produces @Timeout(millis = 0) String produceString() { return null; }")
+        .hasError("@Timeout millis must be positive");
+  }
+
+  @Test
+  public void hedgedMethodInvalidPercentile() {
+    assertThatProductionModuleMethod(
+            "@Produces @Hedged(percentile = 100) String produceString() { return null; }")
+        .hasError("@Hedged percentile must be between 0 and 100, exclusive");
+  }
+
+  @Test
+  public void hedgedMethodInvalidMinDelay() {
+    assertThatProductionModuleMethod(
+            "@Produces @Hedged(minDelayMillis = -1) String produceString() { return null; }")
+        .hasError("@Hedged minDelayMillis must not be negative");
+  }
+
+  @Test
+  public void timeoutMethodCached() {
+    assertThatProductionModuleMethod(
+            "@Produces @Cached @Timeout(millis = 10) static String produceString(Integer i) "
+                + "{ return null; }")
+        .hasError("@Timeout and @Hedged methods cannot be @Batched or @Cached");
+  }
+
   @Test
   public void producesMethodMultipleQualifiersOnMethod() {
     assertThatProductionModuleMethod(
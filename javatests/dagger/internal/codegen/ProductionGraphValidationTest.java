@@ -516,6 +516,79 @@ public class ProductionGraphValidationTest {
             });
   }
 
+  @Test
+  public void producesOnUnscopedExecutor() {
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestClass",
+            "package test;",
+            "",
+            "import com.google.common.util.concurrent.ListenableFuture;",
+            "import com.google.common.util.concurrent.MoreExecutors;",
+            "import dagger.Binds;",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.producers.ProducerModule;",
+            "import dagger.producers.Produces;",
+            "import dagger.producers.ProducesOn;",
+            "import dagger.producers.ProductionComponent;",
+            "import dagger.producers.ProductionScope;",
+            "import java.util.concurrent.Executor;",
+            "import javax.inject.Named;",
+            "",
+            "final class TestClass {",
+            "  interface A {}",
+            "  interface B {}",
+            "",
+            "  @ProducerModule",
+            "  static final class AModule {",
+            "    @Produces",
+            "    @ProducesOn(@Named(\"io\"))",
+            "    static A a() {",
+            "      return null;",
+            "    }",
+            "",
+            "    @Produces",
+            "    @ProducesOn(@Named(\"cpu\"))",
+            "    static B b(A a) {",
+            "      return null;",
+            "    }",
+            "  }",
+            "",
+            "  @Module",
+            "  abstract static class NamedExecutorModule {",
+            "    @Provides",
+            "    @Named(\"io\")",
+            "    static Executor io() {",
+            "      return MoreExecutors.directExecutor();",
+            "    }",
+            "",
+            "    @Binds",
+            "    @ProductionScope",
+            "    @Named(\"cpu\")",
+            "    abstract Executor cpu(@Named(\"io\") Executor io);",
+            "  }",
+            "",
+            "  @ProductionComponent(",
+            "      modules = {ExecutorModule.class, NamedExecutorModule.class, AModule.class})",
+            "  interface AComponent {",
+            "    ListenableFuture<B> getB();",
+            "  }",
+            "}");
+
+    CompilerTests.daggerCompiler(EXECUTOR_MODULE, component)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject.hasErrorContaining(
+                      "@javax.inject.Named(\"io\") java.util.concurrent.Executor is the "
+                          + "@ProducesOn executor for")
+                  .onSource(component)
+                  .onLineContaining("interface AComponent");
+            });
+  }
+
   @Test
   public void componentWithBadModule() {
     Source badModule =
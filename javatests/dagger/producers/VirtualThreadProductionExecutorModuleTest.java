@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import dagger.producers.internal.VirtualThreadExecutor;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class VirtualThreadProductionExecutorModuleTest {
+  @Test
+  public void runsTasksOnVirtualThreads() throws Exception {
+    assumeTrue(hasVirtualThreads());
+    Executor executor = new VirtualThreadExecutor();
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          thread.set(Thread.currentThread());
+          done.countDown();
+        });
+    done.await();
+    assertThat(Thread.class.getMethod("isVirtual").invoke(thread.get())).isEqualTo(true);
+  }
+
+  @Test
+  public void unsupportedBeforeJava21() {
+    assumeFalse(hasVirtualThreads());
+    assertThrows(
+        UnsupportedOperationException.class,
+        VirtualThreadExecutor::new);
+  }
+
+  private static boolean hasVirtualThreads() {
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
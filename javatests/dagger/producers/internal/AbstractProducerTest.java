@@ -21,7 +21,10 @@ import static org.junit.Assert.assertThrows;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import dagger.producers.Producer;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -53,6 +56,78 @@ public class AbstractProducerTest {
     assertThat(producer.get().get()).isEqualTo(0);
   }
 
+  @Test
+  public void cancelBeforeGet_neverComputes() {
+    CountingProducer producer = new CountingProducer(SettableFuture.<Integer>create());
+    producer.cancel(false);
+
+    assertThat(producer.get().isCancelled()).isTrue();
+    assertThat(producer.computeCalls).isEqualTo(0);
+  }
+
+  @Test
+  public void dependencyView_computesOnlyWhenRequested() {
+    CountingProducer producer = new CountingProducer(SettableFuture.<Integer>create());
+    Producer<Integer> view = producer.newDependencyView();
+    assertThat(producer.computeCalls).isEqualTo(0);
+
+    ListenableFuture<Integer> viewFuture = view.get();
+    assertThat(producer.computeCalls).isEqualTo(1);
+    assertThat(view.get()).isSameInstanceAs(viewFuture);
+    assertThat(producer.newDependencyView().get()).isNotSameInstanceAs(viewFuture);
+    assertThat(producer.computeCalls).isEqualTo(1);
+  }
+
+  @Test
+  public void dependencyView_cancellationDoesNotPropagate() throws Exception {
+    SettableFuture<Integer> delegate = SettableFuture.create();
+    CountingProducer producer = new CountingProducer(delegate);
+    ListenableFuture<Integer> cancelledView = producer.newDependencyView().get();
+    ListenableFuture<Integer> otherView = producer.newDependencyView().get();
+
+    cancelledView.cancel(true);
+    delegate.set(42);
+
+    assertThat(cancelledView.isCancelled()).isTrue();
+    assertThat(producer.get().get()).isEqualTo(42);
+    assertThat(otherView.get()).isEqualTo(42);
+  }
+
+  @Test
+  public void dependencyView_ofCompletedProducer_returnsProducerFuture() {
+    CountingProducer producer = new CountingProducer(Futures.immediateFuture(42));
+    ListenableFuture<Integer> future = producer.get();
+
+    assertThat(producer.newDependencyView().get()).isSameInstanceAs(future);
+  }
+
+  @Test
+  public void entryPointView_cancellationNotifiesListener() {
+    CountingProducer producer = new CountingProducer(SettableFuture.<Integer>create());
+    List<Boolean> cancellations = new ArrayList<>();
+    Producer<Integer> entryPoint = producer.newEntryPointView(cancellations::add);
+
+    entryPoint.get().cancel(true);
+
+    assertThat(cancellations).containsExactly(true);
+    assertThat(producer.get().isCancelled()).isFalse();
+  }
+
+  private static final class CountingProducer extends AbstractProducer<Integer> {
+    private final ListenableFuture<Integer> delegate;
+    int computeCalls;
+
+    CountingProducer(ListenableFuture<Integer> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    protected ListenableFuture<Integer> compute() {
+      computeCalls++;
+      return delegate;
+    }
+  }
+
   static final class DelegateProducer<T> extends AbstractProducer<T> {
     private final ListenableFuture<T> delegate;
 
@@ -17,6 +17,7 @@
 package dagger.producers.internal;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
 import static com.google.common.util.concurrent.Futures.immediateFuture;
 import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static org.junit.Assert.assertThrows;
@@ -34,12 +35,17 @@ import dagger.producers.Producer;
 import dagger.producers.monitoring.ProducerMonitor;
 import dagger.producers.monitoring.ProducerToken;
 import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -111,10 +117,148 @@ public class AbstractProducesMethodProducerTest {
     verifyNoMoreInteractions(monitor);
   }
 
+  @Test
+  public void runsInline_dependenciesDone_callsMethodWithoutExecutor() throws Exception {
+    List<Runnable> executed = new ArrayList<>();
+    InlineProducer producer =
+        new InlineProducer(componentMonitorProvider, immediateFuture(21), executed::add);
+
+    ListenableFuture<Integer> future = producer.get();
+    assertThat(executed).isEmpty();
+    assertThat(producer.callingThread).isSameInstanceAs(Thread.currentThread());
+    assertThat(future.get()).isEqualTo(42);
+    InOrder order = Mockito.inOrder(monitor);
+    order.verify(monitor).requested();
+    order.verify(monitor).dependenciesRequested();
+    order.verify(monitor).ready();
+    order.verify(monitor).methodStarting();
+    order.verify(monitor).methodFinished();
+    order.verify(monitor).succeeded(42);
+  }
+
+  @Test
+  public void runsInline_dependenciesPending_usesExecutor() throws Exception {
+    List<Runnable> executed = new ArrayList<>();
+    SettableFuture<Integer> dependency = SettableFuture.create();
+    InlineProducer producer =
+        new InlineProducer(componentMonitorProvider, dependency, executed::add);
+
+    ListenableFuture<Integer> future = producer.get();
+    dependency.set(21);
+    assertThat(future.isDone()).isFalse();
+    verify(monitor).ready();
+    verify(monitor, Mockito.never()).methodStarting();
+    assertThat(executed).hasSize(1);
+    executed.get(0).run();
+    assertThat(future.get()).isEqualTo(42);
+    verify(monitor).methodStarting();
+  }
+
+  @Test
+  public void runsInline_dependencyFailed() throws Exception {
+    Throwable t = new RuntimeException("monkey");
+    InlineProducer producer =
+        new InlineProducer(
+            componentMonitorProvider,
+            immediateFailedFuture(t),
+            runnable -> {
+              throw new AssertionError();
+            });
+
+    ListenableFuture<Integer> future = producer.get();
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertThat(e).hasCauseThat().isSameInstanceAs(t);
+    // The same callbacks as if the producer didn't run inline.
+    verify(monitor).ready();
+    verify(monitor, Mockito.never()).methodStarting();
+    verify(monitor).failed(t);
+  }
+
+  @Test
+  public void runsInline_methodThrows() throws Exception {
+    InlineProducer producer =
+        new InlineProducer(
+            componentMonitorProvider,
+            immediateFuture(-1),
+            runnable -> {
+              throw new AssertionError();
+            });
+
+    ListenableFuture<Integer> future = producer.get();
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertThat(e).hasCauseThat().isInstanceOf(IllegalArgumentException.class);
+    verify(monitor).methodStarting();
+    verify(monitor).methodFinished();
+    verify(monitor).failed(e.getCause());
+  }
+
   private ListenableFuture<?> anyListenableFuture() {
     return any(ListenableFuture.class);
   }
 
+  @Test
+  public void interruptible_success() throws Exception {
+    BlockingProducer producer = new BlockingProducer(componentMonitorProvider);
+    ListenableFuture<Integer> future = producer.get();
+    producer.started.await();
+    producer.release.countDown();
+    assertThat(future.get()).isEqualTo(42);
+
+    InOrder order = Mockito.inOrder(monitor);
+    order.verify(monitor).requested();
+    order.verify(monitor).ready();
+    order.verify(monitor).methodStarting();
+    order.verify(monitor).methodFinished();
+    order.verify(monitor).succeeded(42);
+  }
+
+  @Test
+  public void interruptible_cancelMayInterrupt_interruptsMethod() throws Exception {
+    BlockingProducer producer = new BlockingProducer(componentMonitorProvider);
+    ListenableFuture<Integer> future = producer.get();
+    producer.started.await();
+
+    producer.cancel(true);
+    producer.finished.await();
+    assertThat(producer.interrupted).isTrue();
+    assertThat(future.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void interruptible_cancelMayNotInterrupt_letsMethodFinish() throws Exception {
+    BlockingProducer producer = new BlockingProducer(componentMonitorProvider);
+    ListenableFuture<Integer> future = producer.get();
+    producer.started.await();
+
+    producer.cancel(false);
+    assertThat(future.isCancelled()).isTrue();
+    producer.release.countDown();
+    producer.finished.await();
+    assertThat(producer.interrupted).isFalse();
+  }
+
+  @Test
+  public void executorProviderThrows_failsFuture() throws Exception {
+    UnsupportedOperationException thrown = new UnsupportedOperationException("no executor");
+    Producer<Integer> producer =
+        new DelegateProducer<>(
+            componentMonitorProvider,
+            immediateFuture(42),
+            new Provider<Executor>() {
+              @Override
+              public Executor get() {
+                throw thrown;
+              }
+            });
+
+    ListenableFuture<Integer> future = producer.get();
+    assertThat(future.isDone()).isTrue();
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertThat(e).hasCauseThat().isInstanceOf(RejectedExecutionException.class);
+    assertThat(e).hasCauseThat().hasCauseThat().isSameInstanceAs(thrown);
+    verify(monitor, Mockito.never()).methodStarting();
+  }
+
   @Test
   public void monitor_null() throws Exception {
     assertThrows(
@@ -127,15 +271,22 @@ public class AbstractProducesMethodProducerTest {
     DelegateProducer(
         Provider<ProductionComponentMonitor> componentMonitorProvider,
         ListenableFuture<T> delegate) {
-      super(
+      this(
           componentMonitorProvider,
-          null, // token
+          delegate,
           new Provider<Executor>() {
             @Override
             public Executor get() {
               return directExecutor();
             }
           });
+    }
+
+    DelegateProducer(
+        Provider<ProductionComponentMonitor> componentMonitorProvider,
+        ListenableFuture<T> delegate,
+        Provider<Executor> executorProvider) {
+      super(componentMonitorProvider, null /* token */, executorProvider);
       this.delegate = delegate;
     }
 
@@ -149,4 +300,83 @@ public class AbstractProducesMethodProducerTest {
       return delegate;
     }
   }
+
+  /** Doubles its dependency, throwing if it is negative. */
+  static final class InlineProducer extends AbstractProducesMethodProducer<Integer, Integer> {
+    private final ListenableFuture<Integer> dependency;
+    Thread callingThread;
+
+    InlineProducer(
+        Provider<ProductionComponentMonitor> componentMonitorProvider,
+        ListenableFuture<Integer> dependency,
+        Executor executor) {
+      super(
+          componentMonitorProvider,
+          null, // token
+          new Provider<Executor>() {
+            @Override
+            public Executor get() {
+              return executor;
+            }
+          },
+          /* runsInline= */ true);
+      this.dependency = dependency;
+    }
+
+    @Override
+    protected ListenableFuture<Integer> collectDependencies() {
+      return dependency;
+    }
+
+    @Override
+    protected ListenableFuture<Integer> callProducesMethod(Integer value) {
+      callingThread = Thread.currentThread();
+      if (value < 0) {
+        throw new IllegalArgumentException();
+      }
+      return immediateFuture(value * 2);
+    }
+  }
+
+  /** Blocks in its {@code @Produces} method until released, running on a new thread. */
+  static final class BlockingProducer extends AbstractProducesMethodProducer<Integer, Integer> {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch finished = new CountDownLatch(1);
+    volatile boolean interrupted;
+
+    BlockingProducer(Provider<ProductionComponentMonitor> componentMonitorProvider) {
+      super(
+          componentMonitorProvider,
+          null, // token
+          new Provider<Executor>() {
+            @Override
+            public Executor get() {
+              return runnable -> new Thread(runnable).start();
+            }
+          },
+          /* runsInline= */ false,
+          /* interruptible= */ true);
+    }
+
+    @Override
+    protected ListenableFuture<Integer> collectDependencies() {
+      return immediateFuture(21);
+    }
+
+    @Override
+    protected ListenableFuture<Integer> callProducesMethod(Integer value)
+        throws InterruptedException {
+      started.countDown();
+      try {
+        release.await();
+        return immediateFuture(value * 2);
+      } catch (InterruptedException e) {
+        interrupted = true;
+        throw e;
+      } finally {
+        finished.countDown();
+      }
+    }
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests {@link AggregateFuture}. */
+@RunWith(JUnit4.class)
+public final class AggregateFutureTest {
+  @Test
+  public void combinesValuesInInputOrder() throws Exception {
+    SettableFuture<String> first = SettableFuture.create();
+    SettableFuture<String> second = SettableFuture.create();
+    ListenableFuture<List<Object>> future = aggregate(first, second, Futures.immediateFuture("c"));
+
+    second.set("b");
+    assertThat(future.isDone()).isFalse();
+    first.set("a");
+
+    assertThat(future.get()).containsExactly("a", "b", "c").inOrder();
+  }
+
+  @Test
+  public void noInputs() throws Exception {
+    assertThat(aggregate().get()).isEmpty();
+  }
+
+  @Test
+  public void failsWithFirstFailure_withoutWaitingForOtherInputs() {
+    SettableFuture<String> pending = SettableFuture.create();
+    SettableFuture<String> failing = SettableFuture.create();
+    ListenableFuture<List<Object>> future = aggregate(pending, failing);
+    RuntimeException cause = new RuntimeException("monkey");
+
+    failing.setException(cause);
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertThat(e).hasCauseThat().isSameInstanceAs(cause);
+    assertThat(pending.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void combineFailure_failsFuture() {
+    AggregateFuture<Object, Object> future =
+        new AggregateFuture<Object, Object>(1) {
+          @Override
+          Object combine(Object[] values) {
+            throw new NullPointerException();
+          }
+        };
+    future.setInput(0, Futures.immediateFuture("a"));
+    future.start();
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertThat(e).hasCauseThat().isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  public void inputCancelled_cancelsFutureButNotOtherInputs() {
+    SettableFuture<String> pending = SettableFuture.create();
+    SettableFuture<String> cancelled = SettableFuture.create();
+    ListenableFuture<List<Object>> future = aggregate(pending, cancelled);
+
+    cancelled.cancel(true);
+
+    assertThat(future.isCancelled()).isTrue();
+    assertThat(pending.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void cancelled_cancelsInputs() {
+    SettableFuture<String> first = SettableFuture.create();
+    SettableFuture<String> second = SettableFuture.create();
+    ListenableFuture<List<Object>> future = aggregate(first, second);
+
+    future.cancel(true);
+
+    assertThat(first.isCancelled()).isTrue();
+    assertThat(second.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void setInput_null() {
+    AggregateFuture<Object, List<Object>> future = newAggregate(1);
+    assertThrows(NullPointerException.class, () -> future.setInput(0, null));
+  }
+
+  private static ListenableFuture<List<Object>> aggregate(ListenableFuture<?>... inputs) {
+    AggregateFuture<Object, List<Object>> future = newAggregate(inputs.length);
+    for (int i = 0; i < inputs.length; i++) {
+      future.setInput(i, inputs[i]);
+    }
+    return future.start();
+  }
+
+  private static AggregateFuture<Object, List<Object>> newAggregate(int size) {
+    return new AggregateFuture<Object, List<Object>>(size) {
+      @Override
+      List<Object> combine(Object[] values) {
+        return ImmutableList.copyOf(values);
+      }
+    };
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests {@link DependencyMethodProducer}. */
+@RunWith(JUnit4.class)
+public final class DependencyMethodProducerTest {
+  @Test
+  public void cancel_cancelsPendingFutures() {
+    PendingFuture pending = new PendingFuture();
+    SettableFuture<String> completed = SettableFuture.create();
+    QueueProducer producer = new QueueProducer(pending, completed);
+    assertThat(producer.get()).isSameInstanceAs(pending);
+    assertThat(producer.get()).isSameInstanceAs(completed);
+    completed.set("done");
+
+    producer.cancel(true);
+
+    assertThat(pending.isCancelled()).isTrue();
+    assertThat(pending.interrupted()).isTrue();
+    assertThat(completed.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void getAfterCancel_returnsCancelledFutureWithoutCallingDependency() {
+    QueueProducer producer = new QueueProducer();
+    producer.cancel(false);
+
+    assertThat(producer.get().isCancelled()).isTrue();
+    assertThat(producer.calls).isEqualTo(0);
+  }
+
+  @Test
+  public void cancelTwice_keepsFirstInterruptFlag() {
+    PendingFuture pending = new PendingFuture();
+    QueueProducer producer = new QueueProducer(pending);
+    ListenableFuture<String> unused = producer.get();
+
+    producer.cancel(false);
+    producer.cancel(true);
+
+    assertThat(pending.isCancelled()).isTrue();
+    assertThat(pending.interrupted()).isFalse();
+  }
+
+  @Test
+  public void entryPointView_notifiesListenerOfCancellation() {
+    SettableFuture<String> pending = SettableFuture.create();
+    QueueProducer producer = new QueueProducer(pending);
+    List<Boolean> cancellations = new ArrayList<>();
+
+    ListenableFuture<String> future = producer.newEntryPointView(cancellations::add).get();
+    future.cancel(false);
+
+    assertThat(cancellations).containsExactly(true);
+  }
+
+  /**
+   * Races many threads getting futures against a cancellation, and checks that every future that
+   * was returned is cancelled once {@link DependencyMethodProducer#cancel} and all the calls to
+   * {@link DependencyMethodProducer#get} have returned.
+   */
+  @Test
+  public void concurrentGetsAndCancel_cancelEveryReturnedFuture() throws Exception {
+    int threads = 8;
+    int getsPerThread = 2_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+    try {
+      for (int round = 0; round < 20; round++) {
+        final DependencyMethodProducer<String> producer =
+            new DependencyMethodProducer<String>() {
+              @Override
+              protected ListenableFuture<String> callDependencyMethod() {
+                return SettableFuture.create();
+              }
+            };
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<ListenableFuture<String>>>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+          results.add(
+              executor.submit(
+                  () -> {
+                    start.await();
+                    List<ListenableFuture<String>> futures = new ArrayList<>();
+                    for (int i = 0; i < getsPerThread; i++) {
+                      futures.add(producer.get());
+                    }
+                    return futures;
+                  }));
+        }
+        Future<?> cancellation =
+            executor.submit(
+                () -> {
+                  start.await();
+                  producer.cancel(true);
+                  return null;
+                });
+
+        start.countDown();
+        cancellation.get(10, TimeUnit.SECONDS);
+        for (Future<List<ListenableFuture<String>>> result : results) {
+          for (ListenableFuture<String> future : result.get(10, TimeUnit.SECONDS)) {
+            assertThat(future.isCancelled()).isTrue();
+          }
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** A pending future that exposes whether it was interrupted when cancelled. */
+  private static final class PendingFuture extends AbstractFuture<String> {
+    boolean interrupted() {
+      return wasInterrupted();
+    }
+  }
+
+  /** A producer that returns the given futures in order, then immediate futures. */
+  private static final class QueueProducer extends DependencyMethodProducer<String> {
+    private final List<ListenableFuture<String>> futures = new ArrayList<>();
+    int calls;
+
+    @SafeVarargs
+    QueueProducer(ListenableFuture<String>... futures) {
+      for (ListenableFuture<String> future : futures) {
+        this.futures.add(future);
+      }
+    }
+
+    @Override
+    protected ListenableFuture<String> callDependencyMethod() {
+      calls++;
+      return futures.isEmpty() ? Futures.immediateFuture("immediate") : futures.remove(0);
+    }
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.internal.Provider;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests {@link ProducerBatcher} and {@link AbstractBatchedProducesMethodProducer}. */
+@RunWith(JUnit4.class)
+public class ProducerBatcherTest {
+  private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+  private volatile SettableFuture<List<String>> batchResult;
+
+  @Test
+  public void fullBatch_callsMethodOnceForAllProducers() throws Exception {
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(3, 60_000);
+    ListenableFuture<String> one = new BatchedProducer(batcher, 1).get();
+    ListenableFuture<String> two = new BatchedProducer(batcher, 2).get();
+    assertThat(batches).isEmpty();
+
+    ListenableFuture<String> three = new BatchedProducer(batcher, 3).get();
+    assertThat(batches).containsExactly(ImmutableList.of(1, 2, 3));
+    assertThat(one.get()).isEqualTo("1");
+    assertThat(two.get()).isEqualTo("2");
+    assertThat(three.get()).isEqualTo("3");
+
+    new BatchedProducer(batcher, 4).get();
+    assertThat(batches).hasSize(1);
+  }
+
+  @Test
+  public void partialBatch_callsMethodAfterDelay() throws Exception {
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(100, 10);
+    ListenableFuture<String> one = new BatchedProducer(batcher, 1).get();
+    ListenableFuture<String> two = new BatchedProducer(batcher, 2).get();
+
+    assertThat(one.get(10, SECONDS)).isEqualTo("1");
+    assertThat(two.get(10, SECONDS)).isEqualTo("2");
+    assertThat(batches).containsExactly(ImmutableList.of(1, 2));
+  }
+
+  @Test
+  public void zeroDelay_callsMethodOnExecutor() throws Exception {
+    List<Runnable> tasks = new ArrayList<>();
+    Executor executor = tasks::add;
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(100, 0);
+    ListenableFuture<String> one = new BatchedProducer(batcher, 1, executor).get();
+    ListenableFuture<String> two = new BatchedProducer(batcher, 2, executor).get();
+    assertThat(batches).isEmpty();
+
+    // The first task computes each producer, the last one calls the batch method.
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+    assertThat(batches).containsExactly(ImmutableList.of(1, 2));
+    assertThat(one.get()).isEqualTo("1");
+    assertThat(two.get()).isEqualTo("2");
+  }
+
+  @Test
+  public void runsInline_fullBatch_callsMethodOnExecutor() throws Exception {
+    List<Runnable> tasks = new ArrayList<>();
+    Executor executor = tasks::add;
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(2, 60_000);
+    ListenableFuture<String> one = new BatchedProducer(batcher, 1, executor, true).get();
+    ListenableFuture<String> two = new BatchedProducer(batcher, 2, executor, true).get();
+    // The keys were added on this thread, but the method isn't called on it.
+    assertThat(batches).isEmpty();
+    assertThat(tasks).hasSize(1);
+
+    tasks.remove(0).run();
+    assertThat(batches).containsExactly(ImmutableList.of(1, 2));
+    assertThat(one.get()).isEqualTo("1");
+    assertThat(two.get()).isEqualTo("2");
+  }
+
+  @Test
+  public void runsInline_fullBatchRejected_failsEveryProducer() throws Exception {
+    RejectedExecutionException cause = new RejectedExecutionException();
+    Executor executor =
+        task -> {
+          throw cause;
+        };
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(2, 60_000);
+    ListenableFuture<String> one = new BatchedProducer(batcher, 1, executor, true).get();
+    ListenableFuture<String> two = new BatchedProducer(batcher, 2, executor, true).get();
+
+    assertThat(assertThrows(ExecutionException.class, one::get))
+        .hasCauseThat()
+        .isSameInstanceAs(cause);
+    assertThat(assertThrows(ExecutionException.class, two::get))
+        .hasCauseThat()
+        .isSameInstanceAs(cause);
+    assertThat(batches).isEmpty();
+  }
+
+  @Test
+  public void firstExecutorShutDown_callsMethodOnAnotherProducersExecutor() throws Exception {
+    ExecutorService first = Executors.newSingleThreadExecutor();
+    ExecutorService second = Executors.newSingleThreadExecutor();
+    try {
+      ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(100, 200);
+      // Each producer adds its key to the batch on its own executor, so wait for the first one to
+      // start the batch before requesting the second.
+      ListenableFuture<String> one = new BatchedProducer(batcher, 1, first).get();
+      first.submit(() -> {}).get();
+      ListenableFuture<String> two = new BatchedProducer(batcher, 2, second).get();
+      second.submit(() -> {}).get();
+      first.shutdown();
+
+      assertThat(one.get(10, SECONDS)).isEqualTo("1");
+      assertThat(two.get(10, SECONDS)).isEqualTo("2");
+      assertThat(batches).containsExactly(ImmutableList.of(1, 2));
+    } finally {
+      second.shutdown();
+    }
+  }
+
+  @Test
+  public void everyExecutorShutDown_failsEveryProducer() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(100, 200);
+    ListenableFuture<String> one = new BatchedProducer(batcher, 1, executor).get();
+    executor.submit(() -> {}).get();
+    executor.shutdown();
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> one.get(10, SECONDS));
+    assertThat(e).hasCauseThat().isInstanceOf(RejectedExecutionException.class);
+    assertThat(batches).isEmpty();
+  }
+
+  @Test
+  public void duplicateKeys_shareOneEntry() throws Exception {
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(2, 60_000);
+    ListenableFuture<String> first = new BatchedProducer(batcher, 1).get();
+    ListenableFuture<String> second = new BatchedProducer(batcher, 1).get();
+    assertThat(batches).isEmpty();
+
+    new BatchedProducer(batcher, 2).get();
+    assertThat(batches).containsExactly(ImmutableList.of(1, 2));
+    assertThat(first.get()).isEqualTo("1");
+    assertThat(second.get()).isEqualTo("1");
+  }
+
+  @Test
+  public void failedBatch_failsEveryProducer() throws Exception {
+    batchResult = SettableFuture.create();
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(2, 60_000);
+    ListenableFuture<String> one = new BatchedProducer(batcher, 1).get();
+    ListenableFuture<String> two = new BatchedProducer(batcher, 2).get();
+    RuntimeException cause = new RuntimeException("monkey");
+    batchResult.setException(cause);
+
+    assertThat(assertThrows(ExecutionException.class, one::get))
+        .hasCauseThat()
+        .isSameInstanceAs(cause);
+    assertThat(assertThrows(ExecutionException.class, two::get))
+        .hasCauseThat()
+        .isSameInstanceAs(cause);
+  }
+
+  @Test
+  public void wrongNumberOfValues_failsEveryProducer() throws Exception {
+    batchResult = SettableFuture.create();
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(2, 60_000);
+    ListenableFuture<String> one = new BatchedProducer(batcher, 1).get();
+    ListenableFuture<String> two = new BatchedProducer(batcher, 2).get();
+    batchResult.set(ImmutableList.of("1"));
+
+    ExecutionException e = assertThrows(ExecutionException.class, one::get);
+    assertThat(e).hasCauseThat().isInstanceOf(IllegalStateException.class);
+    assertThat(e).hasCauseThat().hasMessageThat().contains("returned 1 values for 2 keys");
+    assertThrows(ExecutionException.class, two::get);
+  }
+
+  @Test
+  public void cancellingOneProducer_doesNotCancelTheOthers() throws Exception {
+    batchResult = SettableFuture.create();
+    ProducerBatcher<Integer, String> batcher = new ProducerBatcher<>(2, 60_000);
+    BatchedProducer firstProducer = new BatchedProducer(batcher, 1);
+    ListenableFuture<String> first = firstProducer.get();
+    ListenableFuture<String> second = new BatchedProducer(batcher, 1).get();
+    firstProducer.cancel(true);
+    new BatchedProducer(batcher, 2).get();
+
+    assertThat(batches).containsExactly(ImmutableList.of(1, 2));
+    batchResult.set(ImmutableList.of("one", "two"));
+    assertThat(first.isCancelled()).isTrue();
+    assertThat(second.get()).isEqualTo("one");
+  }
+
+  @Test
+  public void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new ProducerBatcher<>(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new ProducerBatcher<>(1, -1));
+  }
+
+  /** A producer that requests the value for a single key from a shared batch method. */
+  private final class BatchedProducer
+      extends AbstractBatchedProducesMethodProducer<Integer, String> {
+    private final int key;
+
+    BatchedProducer(ProducerBatcher<Integer, String> batcher, int key) {
+      this(batcher, key, directExecutor());
+    }
+
+    BatchedProducer(ProducerBatcher<Integer, String> batcher, int key, Executor executor) {
+      this(batcher, key, executor, false);
+    }
+
+    BatchedProducer(
+        ProducerBatcher<Integer, String> batcher, int key, Executor executor, boolean runsInline) {
+      super(
+          new Provider<ProductionComponentMonitor>() {
+            @Override
+            public ProductionComponentMonitor get() {
+              return ProductionComponentMonitor.noOp();
+            }
+          },
+          null,
+          new Provider<Executor>() {
+            @Override
+            public Executor get() {
+              return executor;
+            }
+          },
+          runsInline,
+          batcher);
+      this.key = key;
+    }
+
+    @Override
+    protected ListenableFuture<Integer> collectDependencies() {
+      return immediateFuture(key);
+    }
+
+    @Override
+    protected ListenableFuture<List<String>> callBatchMethod(List<Integer> keys) {
+      batches.add(ImmutableList.copyOf(keys));
+      if (batchResult != null) {
+        return batchResult;
+      }
+      List<String> values = new ArrayList<>();
+      for (Integer key : keys) {
+        values.add(String.valueOf(key));
+      }
+      return Futures.immediateFuture(values);
+    }
+  }
+}
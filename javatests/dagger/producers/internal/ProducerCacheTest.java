@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.testing.FakeTicker;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.internal.Provider;
+import dagger.producers.monitoring.ProducerMonitor;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+/** Tests {@link ProducerCache} and {@link AbstractCachedProducesMethodProducer}. */
+@RunWith(JUnit4.class)
+public class ProducerCacheTest {
+  @Mock private ProductionComponentMonitor componentMonitor;
+  private ProducerMonitor monitor;
+  private final FakeTicker ticker = new FakeTicker();
+  private final List<Integer> calls = new ArrayList<>();
+  private SettableFuture<String> nextResult;
+
+  @Before
+  public void initMocks() {
+    MockitoAnnotations.initMocks(this);
+    monitor = Mockito.mock(ProducerMonitor.class, Mockito.CALLS_REAL_METHODS);
+    when(componentMonitor.producerMonitorFor(nullable(ProducerToken.class))).thenReturn(monitor);
+  }
+
+  @Test
+  public void sameInputs_callMethodOnce() throws Exception {
+    ProducerCache<Integer, String> cache = new ProducerCache<>(10, 1000, ticker);
+    assertThat(new CachedProducer(cache, 1).get().get()).isEqualTo("value 1");
+    assertThat(new CachedProducer(cache, 1).get().get()).isEqualTo("value 1");
+    assertThat(new CachedProducer(cache, 2).get().get()).isEqualTo("value 2");
+
+    assertThat(calls).containsExactly(1, 2).inOrder();
+    InOrder order = inOrder(monitor);
+    order.verify(monitor).cacheMissed();
+    order.verify(monitor).cacheHit();
+    order.verify(monitor).cacheMissed();
+  }
+
+  @Test
+  public void cacheHit_isNotMonitoredAsMethodCall() throws Exception {
+    ProducerCache<Integer, String> cache = new ProducerCache<>(10, 1000, ticker);
+    new CachedProducer(cache, 1).get().get();
+    new CachedProducer(cache, 1).get().get();
+
+    InOrder order = inOrder(monitor);
+    order.verify(monitor).cacheMissed();
+    order.verify(monitor).methodStarting();
+    order.verify(monitor).methodFinished();
+    order.verify(monitor).cacheHit();
+    verify(monitor).methodStarting();
+    verify(monitor).methodFinished();
+  }
+
+  @Test
+  public void inFlightResult_isShared() throws Exception {
+    ProducerCache<Integer, String> cache = new ProducerCache<>(10, 1000, ticker);
+    nextResult = SettableFuture.create();
+    ListenableFuture<String> first = new CachedProducer(cache, 1).get();
+    ListenableFuture<String> second = new CachedProducer(cache, 1).get();
+    assertThat(first.isDone()).isFalse();
+    assertThat(second.isDone()).isFalse();
+
+    // A result is shared while it's in flight, even if the TTL has passed.
+    ticker.advance(1, TimeUnit.HOURS);
+    ListenableFuture<String> third = new CachedProducer(cache, 1).get();
+    nextResult.set("shared");
+    assertThat(first.get()).isEqualTo("shared");
+    assertThat(second.get()).isEqualTo("shared");
+    assertThat(third.get()).isEqualTo("shared");
+    assertThat(calls).containsExactly(1);
+  }
+
+  @Test
+  public void expiredResult_callsMethodAgain() throws Exception {
+    ProducerCache<Integer, String> cache = new ProducerCache<>(10, 1000, ticker);
+    new CachedProducer(cache, 1).get().get();
+    ticker.advance(999, TimeUnit.MILLISECONDS);
+    new CachedProducer(cache, 1).get().get();
+    assertThat(calls).containsExactly(1);
+
+    ticker.advance(1, TimeUnit.MILLISECONDS);
+    new CachedProducer(cache, 1).get().get();
+    assertThat(calls).containsExactly(1, 1);
+  }
+
+  @Test
+  public void failedResult_isNotCached() throws Exception {
+    ProducerCache<Integer, String> cache = new ProducerCache<>(10, 1000, ticker);
+    nextResult = SettableFuture.create();
+    ListenableFuture<String> failed = new CachedProducer(cache, 1).get();
+    nextResult.setException(new RuntimeException("monkey"));
+    assertThrows(ExecutionException.class, failed::get);
+    assertThat(cache.size()).isEqualTo(0);
+
+    nextResult = null;
+    assertThat(new CachedProducer(cache, 1).get().get()).isEqualTo("value 1");
+    assertThat(calls).containsExactly(1, 1);
+  }
+
+  @Test
+  public void leastRecentlyUsedResult_isEvicted() throws Exception {
+    ProducerCache<Integer, String> cache = new ProducerCache<>(2, 1000, ticker);
+    new CachedProducer(cache, 1).get().get();
+    new CachedProducer(cache, 2).get().get();
+    new CachedProducer(cache, 1).get().get();
+    new CachedProducer(cache, 3).get().get();
+    assertThat(cache.size()).isEqualTo(2);
+
+    new CachedProducer(cache, 1).get().get();
+    new CachedProducer(cache, 2).get().get();
+    assertThat(calls).containsExactly(1, 2, 3, 2).inOrder();
+  }
+
+  @Test
+  public void cancellingOneProducer_doesNotCancelTheOthers() throws Exception {
+    ProducerCache<Integer, String> cache = new ProducerCache<>(10, 1000, ticker);
+    nextResult = SettableFuture.create();
+    CachedProducer firstProducer = new CachedProducer(cache, 1);
+    ListenableFuture<String> first = firstProducer.get();
+    ListenableFuture<String> second = new CachedProducer(cache, 1).get();
+    firstProducer.cancel(true);
+
+    nextResult.set("shared");
+    assertThat(first.isCancelled()).isTrue();
+    assertThat(second.get()).isEqualTo("shared");
+  }
+
+  @Test
+  public void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new ProducerCache<>(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new ProducerCache<>(1, -1));
+  }
+
+  /** A producer whose method returns a value for its single input. */
+  private final class CachedProducer extends AbstractCachedProducesMethodProducer<Integer, String> {
+    private final int input;
+
+    CachedProducer(ProducerCache<Integer, String> cache, int input) {
+      super(
+          new Provider<ProductionComponentMonitor>() {
+            @Override
+            public ProductionComponentMonitor get() {
+              return componentMonitor;
+            }
+          },
+          null,
+          new Provider<Executor>() {
+            @Override
+            public Executor get() {
+              return directExecutor();
+            }
+          },
+          false,
+          cache);
+      this.input = input;
+    }
+
+    @Override
+    protected ListenableFuture<Integer> collectDependencies() {
+      return immediateFuture(input);
+    }
+
+    @Override
+    protected ListenableFuture<String> callProducesMethodUncached(Integer input) {
+      calls.add(input);
+      return nextResult != null ? nextResult : immediateFuture("value " + input);
+    }
+  }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.testing.FakeTicker;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.internal.Provider;
+import dagger.producers.monitoring.ProducerMonitor;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+/** Tests {@link ProducerDeadline}. */
+@RunWith(JUnit4.class)
+public class ProducerDeadlineTest {
+  @Mock private ProductionComponentMonitor componentMonitor;
+  @Mock private ScheduledExecutorService timer;
+  private ProducerMonitor monitor;
+  private final FakeTicker ticker = new FakeTicker();
+  private final Deque<ListenableFuture<String>> results = new ArrayDeque<>();
+  private int calls;
+
+  @Before
+  public void initMocks() {
+    MockitoAnnotations.initMocks(this);
+    monitor = Mockito.mock(ProducerMonitor.class, Mockito.CALLS_REAL_METHODS);
+    when(componentMonitor.producerMonitorFor(nullable(ProducerToken.class))).thenReturn(monitor);
+  }
+
+  @Test
+  public void timeout_failsProducerAndCancelsCall() throws Exception {
+    ProducerDeadline deadline = new ProducerDeadline(100, 0, 0, ticker, timer);
+    SettableFuture<String> call = SettableFuture.create();
+    results.add(call);
+    DeadlineProducer producer = new DeadlineProducer(deadline);
+    ListenableFuture<String> result = producer.get();
+
+    Runnable timeout = scheduled(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(result.isDone()).isFalse();
+    timeout.run();
+
+    ExecutionException e = assertThrows(ExecutionException.class, result::get);
+    assertThat(e).hasCauseThat().isInstanceOf(TimeoutException.class);
+    assertThat(call.isCancelled()).isTrue();
+    verify(monitor).failed(any(TimeoutException.class));
+  }
+
+  @Test
+  public void successBeforeTimeout() throws Exception {
+    ProducerDeadline deadline = new ProducerDeadline(100, 0, 0, ticker, timer);
+    SettableFuture<String> call = SettableFuture.create();
+    results.add(call);
+    ListenableFuture<String> result = new DeadlineProducer(deadline).get();
+
+    Runnable timeout = scheduled(TimeUnit.MILLISECONDS.toNanos(100));
+    call.set("value");
+    timeout.run();
+
+    assertThat(result.get()).isEqualTo("value");
+    verify(monitor).succeeded("value");
+  }
+
+  @Test
+  public void noHedgingUntilEnoughSamples() throws Exception {
+    ProducerDeadline deadline = new ProducerDeadline(0, 50, 0, ticker, timer);
+    for (int i = 0; i < ProducerDeadline.MIN_HEDGE_SAMPLES - 1; i++) {
+      callAfterStart(deadline);
+    }
+    assertThat(deadline.hedgeDelayNanos()).isLessThan(0);
+
+    callAfterStart(deadline);
+    assertThat(deadline.hedgeDelayNanos()).isAtLeast(0);
+  }
+
+  @Test
+  public void callDoneBeforeStart_isNotSampled() throws Exception {
+    ProducerDeadline deadline = new ProducerDeadline(0, 50, 0, ticker, timer);
+    for (int i = 0; i < ProducerDeadline.MIN_HEDGE_SAMPLES; i++) {
+      // The method's future is already done when the producer's deadline is bound.
+      new DeadlineProducer(deadline).get().get();
+    }
+    assertThat(deadline.hedgeDelayNanos()).isLessThan(0);
+  }
+
+  @Test
+  public void hedgedCall_firstSuccessWins() throws Exception {
+    ProducerDeadline deadline = warmedUpDeadline(10);
+    SettableFuture<String> firstCall = SettableFuture.create();
+    SettableFuture<String> secondCall = SettableFuture.create();
+    results.add(firstCall);
+    results.add(secondCall);
+    ListenableFuture<String> result = new DeadlineProducer(deadline).get();
+
+    Runnable hedge = scheduled(deadline.hedgeDelayNanos());
+    assertThat(calls).isEqualTo(1);
+    hedge.run();
+    assertThat(calls).isEqualTo(2);
+
+    secondCall.set("second");
+    assertThat(result.get()).isEqualTo("second");
+    assertThat(firstCall.isCancelled()).isTrue();
+    verify(monitor).succeeded("second");
+  }
+
+  @Test
+  public void hedgedCall_failureWaitsForOtherCall() throws Exception {
+    ProducerDeadline deadline = warmedUpDeadline(10);
+    SettableFuture<String> firstCall = SettableFuture.create();
+    SettableFuture<String> secondCall = SettableFuture.create();
+    results.add(firstCall);
+    results.add(secondCall);
+    ListenableFuture<String> result = new DeadlineProducer(deadline).get();
+    scheduled(deadline.hedgeDelayNanos()).run();
+
+    firstCall.setException(new RuntimeException("first"));
+    assertThat(result.isDone()).isFalse();
+    secondCall.set("second");
+    assertThat(result.get()).isEqualTo("second");
+  }
+
+  @Test
+  public void hedgedCall_bothFail() throws Exception {
+    ProducerDeadline deadline = warmedUpDeadline(10);
+    SettableFuture<String> firstCall = SettableFuture.create();
+    SettableFuture<String> secondCall = SettableFuture.create();
+    results.add(firstCall);
+    results.add(secondCall);
+    ListenableFuture<String> result = new DeadlineProducer(deadline).get();
+    scheduled(deadline.hedgeDelayNanos()).run();
+
+    secondCall.setException(new RuntimeException("second"));
+    firstCall.setException(new RuntimeException("first"));
+    ExecutionException e = assertThrows(ExecutionException.class, result::get);
+    assertThat(e).hasCauseThat().hasMessageThat().isEqualTo("first");
+  }
+
+  @Test
+  public void firstCallFailsBeforeHedging() throws Exception {
+    ProducerDeadline deadline = warmedUpDeadline(10);
+    SettableFuture<String> firstCall = SettableFuture.create();
+    results.add(firstCall);
+    ListenableFuture<String> result = new DeadlineProducer(deadline).get();
+    Runnable hedge = scheduled(deadline.hedgeDelayNanos());
+
+    firstCall.setException(new RuntimeException("first"));
+    hedge.run();
+    assertThrows(ExecutionException.class, result::get);
+    assertThat(calls).isEqualTo(1);
+  }
+
+  @Test
+  public void cancellingProducer_cancelsBothCalls() throws Exception {
+    ProducerDeadline deadline = warmedUpDeadline(10);
+    SettableFuture<String> firstCall = SettableFuture.create();
+    SettableFuture<String> secondCall = SettableFuture.create();
+    results.add(firstCall);
+    results.add(secondCall);
+    DeadlineProducer producer = new DeadlineProducer(deadline);
+    ListenableFuture<String> result = producer.get();
+    scheduled(deadline.hedgeDelayNanos()).run();
+
+    producer.cancel(true);
+    assertThat(result.isCancelled()).isTrue();
+    assertThat(firstCall.isCancelled()).isTrue();
+    assertThat(secondCall.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void hedgeDelayAfterTimeout_doesNotHedge() throws Exception {
+    ProducerDeadline deadline = new ProducerDeadline(1, 50, 5, ticker, timer);
+    for (int i = 0; i < ProducerDeadline.MIN_HEDGE_SAMPLES; i++) {
+      new DeadlineProducer(deadline).get().get();
+    }
+    Mockito.reset(timer);
+    results.add(SettableFuture.<String>create());
+    new DeadlineProducer(deadline).get();
+    verify(timer).schedule(any(Runnable.class), eq(TimeUnit.MILLISECONDS.toNanos(1)), any());
+    verify(timer, never()).schedule(any(Runnable.class), eq(deadline.hedgeDelayNanos()), any());
+  }
+
+  @Test
+  public void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new ProducerDeadline(-1, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> new ProducerDeadline(0, 100, 0));
+    assertThrows(IllegalArgumentException.class, () -> new ProducerDeadline(0, -1, 0));
+    assertThrows(IllegalArgumentException.class, () -> new ProducerDeadline(0, 50, -1));
+  }
+
+  /** Completes a call to a new producer after the deadline has started timing it. */
+  private void callAfterStart(ProducerDeadline deadline) throws Exception {
+    SettableFuture<String> call = SettableFuture.create();
+    results.add(call);
+    ListenableFuture<String> result = new DeadlineProducer(deadline).get();
+    call.set("value");
+    result.get();
+  }
+
+  /** Returns a deadline that hedges after its median latency, which is {@code latencyMillis}. */
+  private ProducerDeadline warmedUpDeadline(long latencyMillis) throws Exception {
+    ProducerDeadline deadline = new ProducerDeadline(0, 50, 0, ticker, timer);
+    for (int i = 0; i < ProducerDeadline.MIN_HEDGE_SAMPLES; i++) {
+      SettableFuture<String> call = SettableFuture.create();
+      results.add(call);
+      ListenableFuture<String> result = new DeadlineProducer(deadline).get();
+      ticker.advance(latencyMillis, TimeUnit.MILLISECONDS);
+      call.set("warm-up");
+      result.get();
+    }
+    assertThat(deadline.hedgeDelayNanos()).isAtLeast(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+    Mockito.reset(timer);
+    calls = 0;
+    return deadline;
+  }
+
+  /** Returns the task that was scheduled on the timer with the given delay. */
+  private Runnable scheduled(long delayNanos) {
+    ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    verify(timer).schedule(task.capture(), eq(delayNanos), eq(TimeUnit.NANOSECONDS));
+    return task.getValue();
+  }
+
+  /** A producer whose method returns the next future in {@link #results}. */
+  private final class DeadlineProducer extends AbstractProducesMethodProducer<Integer, String> {
+    DeadlineProducer(ProducerDeadline deadline) {
+      super(
+          new Provider<ProductionComponentMonitor>() {
+            @Override
+            public ProductionComponentMonitor get() {
+              return componentMonitor;
+            }
+          },
+          null,
+          new Provider<Executor>() {
+            @Override
+            public Executor get() {
+              return directExecutor();
+            }
+          },
+          false,
+          false,
+          deadline);
+    }
+
+    @Override
+    protected ListenableFuture<Integer> collectDependencies() {
+      return immediateFuture(1);
+    }
+
+    @Override
+    protected ListenableFuture<String> callProducesMethod(Integer input) {
+      calls++;
+      ListenableFuture<String> result = results.poll();
+      return result != null ? result : immediateFuture("value");
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.testing.FakeTicker;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class HistogramTimingRecorderTest {
+  private static final ProducerToken TOKEN_A = ProducerToken.create("a");
+  private static final ProducerToken TOKEN_B = ProducerToken.create("b");
+
+  private final HistogramTimingRecorder recorder = new HistogramTimingRecorder();
+
+  @Test
+  public void aggregatesAcrossComponents() {
+    FakeTicker ticker = new FakeTicker();
+    ProductionComponentMonitor.Factory monitorFactory =
+        new TimingProductionComponentMonitor.Factory(recorder, ticker);
+    for (int i = 1; i <= 3; i++) {
+      ProductionComponentMonitor monitor = monitorFactory.create(new Object());
+      ProducerMonitor a = monitor.producerMonitorFor(TOKEN_A);
+      ProducerMonitor b = monitor.producerMonitorFor(TOKEN_B);
+      a.methodStarting();
+      ticker.advance(i * 1000);
+      a.methodFinished();
+      ticker.advance(i * 1000);
+      a.succeeded(new Object());
+      b.failed(new RuntimeException());
+    }
+
+    ImmutableMap<ProducerToken, HistogramTimingRecorder.ProducerTimings> snapshot =
+        recorder.snapshot();
+    assertThat(snapshot.keySet()).containsExactly(TOKEN_A, TOKEN_B);
+    HistogramTimingRecorder.ProducerTimings a = snapshot.get(TOKEN_A);
+    assertThat(a.methodDurations().count()).isEqualTo(3);
+    assertThat(a.methodDurations().totalNanos()).isEqualTo(6000);
+    assertThat(a.successLatencies().count()).isEqualTo(3);
+    assertThat(a.successLatencies().totalNanos()).isEqualTo(12000);
+    assertThat(a.failureLatencies().count()).isEqualTo(0);
+    assertThat(a.skips()).isEqualTo(0);
+    HistogramTimingRecorder.ProducerTimings b = snapshot.get(TOKEN_B);
+    assertThat(b.methodDurations().count()).isEqualTo(0);
+    assertThat(b.skips()).isEqualTo(3);
+  }
+
+  @Test
+  public void sharesRecordersAcrossComponents() {
+    assertThat(recorder.create(new Object())).isSameInstanceAs(recorder.create(new Object()));
+    assertThat(recorder.create(new Object()).producerTimingRecorderFor(TOKEN_A))
+        .isSameInstanceAs(recorder.create(new Object()).producerTimingRecorderFor(TOKEN_A));
+  }
+
+  @Test
+  public void snapshotAndReset() {
+    ProducerTimingRecorder a = recorder.create(new Object()).producerTimingRecorderFor(TOKEN_A);
+    a.recordMethod(0, 10);
+    a.recordFailure(new RuntimeException(), 20);
+    a.recordSkip(new RuntimeException());
+
+    HistogramTimingRecorder.ProducerTimings timings = recorder.snapshotAndReset().get(TOKEN_A);
+    assertThat(timings.methodDurations().count()).isEqualTo(1);
+    assertThat(timings.failureLatencies().totalNanos()).isEqualTo(20);
+    assertThat(timings.skips()).isEqualTo(1);
+
+    timings = recorder.snapshot().get(TOKEN_A);
+    assertThat(timings.methodDurations().count()).isEqualTo(0);
+    assertThat(timings.failureLatencies().count()).isEqualTo(0);
+    assertThat(timings.skips()).isEqualTo(0);
+  }
+}
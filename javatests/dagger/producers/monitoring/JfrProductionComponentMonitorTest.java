@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import dagger.internal.DoubleCheck;
+import dagger.internal.Provider;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class JfrProductionComponentMonitorTest {
+  private static final class Component {}
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void succeeded_emitsQueuedAndExecutionEvents() throws Exception {
+    List<RecordedEvent> events;
+    try (Recording recording = startRecording()) {
+      ProducerMonitor monitor =
+          new JfrProductionComponentMonitor.Factory()
+              .create(new Component())
+              .producerMonitorFor(ProducerToken.create("producer"));
+      monitor.requested();
+      monitor.dependenciesRequested();
+      monitor.ready();
+      monitor.methodStarting();
+      monitor.methodFinished();
+      monitor.succeeded(new Object());
+      events = stop(recording);
+    }
+
+    assertThat(eventNames(events))
+        .containsExactly("dagger.ProducerQueued", "dagger.ProducerExecution")
+        .inOrder();
+    for (RecordedEvent event : events) {
+      assertThat(event.getString("producer")).isEqualTo("producer");
+      assertThat(event.getClass("component").getName()).isEqualTo(Component.class.getName());
+    }
+  }
+
+  @Test
+  public void methodFailed_emitsFailureEvent() throws Exception {
+    List<RecordedEvent> events;
+    try (Recording recording = startRecording()) {
+      ProducerMonitor monitor =
+          new JfrProductionComponentMonitor.Factory()
+              .create(new Component())
+              .producerMonitorFor(ProducerToken.create("producer"));
+      monitor.requested();
+      monitor.ready();
+      monitor.methodStarting();
+      monitor.methodFinished();
+      monitor.failed(new IllegalStateException("boom"));
+      events = stop(recording);
+    }
+
+    assertThat(eventNames(events))
+        .containsExactly(
+            "dagger.ProducerQueued", "dagger.ProducerExecution", "dagger.ProducerFailure")
+        .inOrder();
+    RecordedEvent failure = events.get(2);
+    assertThat(failure.getString("producer")).isEqualTo("producer");
+    assertThat(failure.getClass("exception").getName())
+        .isEqualTo(IllegalStateException.class.getName());
+    assertThat(failure.getString("message")).isEqualTo("boom");
+    assertThat(failure.getBoolean("inputFailed")).isFalse();
+  }
+
+  @Test
+  public void inputFailed_emitsFailureEventOnly() throws Exception {
+    List<RecordedEvent> events;
+    try (Recording recording = startRecording()) {
+      ProducerMonitor monitor =
+          new JfrProductionComponentMonitor.Factory()
+              .create(new Component())
+              .producerMonitorFor(ProducerToken.create("producer"));
+      monitor.requested();
+      monitor.failed(new IllegalStateException("input"));
+      events = stop(recording);
+    }
+
+    assertThat(eventNames(events)).containsExactly("dagger.ProducerFailure");
+    assertThat(events.get(0).getBoolean("inputFailed")).isTrue();
+  }
+
+  @Test
+  public void scopedProvision() throws Exception {
+    List<RecordedEvent> events;
+    JfrScopedProvisionRecorder.install();
+    try (Recording recording = startRecording()) {
+      Provider<StringBuilder> provider = DoubleCheck.provider(StringBuilder::new);
+      provider.get();
+      provider.get();
+      events = stop(recording);
+    } finally {
+      JfrScopedProvisionRecorder.uninstall();
+    }
+
+    assertThat(eventNames(events)).containsExactly("dagger.ScopedProvision");
+    assertThat(events.get(0).getClass("instance").getName())
+        .isEqualTo(StringBuilder.class.getName());
+  }
+
+  @Test
+  public void notRecording_noEvents() throws Exception {
+    ProducerMonitor monitor =
+        new JfrProductionComponentMonitor.Factory()
+            .create(new Component())
+            .producerMonitorFor(ProducerToken.create("producer"));
+    monitor.ready();
+    monitor.methodStarting();
+    List<RecordedEvent> events;
+    try (Recording recording = startRecording()) {
+      // The events for this producer would have begun before the recording started.
+      monitor.methodFinished();
+      monitor.succeeded(new Object());
+      events = stop(recording);
+    }
+
+    assertThat(eventNames(events)).isEmpty();
+  }
+
+  private static Recording startRecording() {
+    Recording recording = new Recording();
+    recording.enable("dagger.ProducerQueued");
+    recording.enable("dagger.ProducerExecution");
+    recording.enable("dagger.ProducerFailure");
+    recording.enable("dagger.ScopedProvision");
+    recording.start();
+    return recording;
+  }
+
+  private List<RecordedEvent> stop(Recording recording) throws Exception {
+    recording.stop();
+    Path file = temporaryFolder.newFile().toPath();
+    recording.dump(file);
+    ImmutableList.Builder<RecordedEvent> events = ImmutableList.builder();
+    for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+      if (event.getEventType().getName().startsWith("dagger.")) {
+        events.add(event);
+      }
+    }
+    return events.build();
+  }
+
+  private static ImmutableList<String> eventNames(List<RecordedEvent> events) {
+    ImmutableList.Builder<String> names = ImmutableList.builder();
+    for (RecordedEvent event : events) {
+      names.add(event.getEventType().getName());
+    }
+    return names.build();
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class LatencyHistogramTest {
+  @Test
+  public void bucketBoundsContainTheirValues() {
+    long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 100, 1_000, 123_456_789L, 1L << 40, (1L << 41) - 1};
+    for (long value : values) {
+      int bucket = LatencyHistogram.bucketIndex(value);
+      assertThat(LatencyHistogram.bucketUpperBound(bucket)).isAtLeast(value);
+      if (bucket > 0) {
+        assertThat(LatencyHistogram.bucketUpperBound(bucket - 1)).isLessThan(value);
+      }
+    }
+  }
+
+  @Test
+  public void bucketsAreContiguous() {
+    for (int bucket = 1; bucket < LatencyHistogram.BUCKET_COUNT; bucket++) {
+      long lowerBound = LatencyHistogram.bucketUpperBound(bucket - 1) + 1;
+      assertThat(LatencyHistogram.bucketIndex(lowerBound)).isEqualTo(bucket);
+      assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(bucket)))
+          .isEqualTo(bucket);
+    }
+  }
+
+  @Test
+  public void relativeErrorIsBounded() {
+    for (long value = 8; value < (1L << 40); value = value * 3 / 2 + 1) {
+      long upperBound = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(value));
+      assertThat((double) (upperBound - value) / value).isAtMost(0.125);
+    }
+  }
+
+  @Test
+  public void hugeAndNegativeValues() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(Long.MAX_VALUE);
+    histogram.record(-5);
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.count()).isEqualTo(2);
+    assertThat(snapshot.percentileNanos(50)).isEqualTo(0);
+    assertThat(snapshot.maxNanos())
+        .isEqualTo(LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1));
+  }
+
+  @Test
+  public void percentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.count()).isEqualTo(1000);
+    assertThat(snapshot.totalNanos()).isEqualTo(500_500_000L);
+    assertThat(snapshot.meanNanos()).isEqualTo(500_500.0);
+    assertWithin(snapshot.percentileNanos(50), 500_000);
+    assertWithin(snapshot.percentileNanos(99), 990_000);
+    assertWithin(snapshot.percentileNanos(99.9), 999_000);
+    assertWithin(snapshot.maxNanos(), 1_000_000);
+    assertThat(snapshot.percentileNanos(0)).isEqualTo(snapshot.percentileNanos(0.1));
+  }
+
+  @Test
+  public void emptySnapshot() {
+    LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+    assertThat(snapshot.count()).isEqualTo(0);
+    assertThat(snapshot.meanNanos()).isEqualTo(0.0);
+    assertThat(snapshot.percentileNanos(99)).isEqualTo(0);
+  }
+
+  @Test
+  public void invalidPercentile() {
+    LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+    assertThrows(IllegalArgumentException.class, () -> snapshot.percentileNanos(100.1));
+    assertThrows(IllegalArgumentException.class, () -> snapshot.percentileNanos(-1));
+  }
+
+  @Test
+  public void snapshotAndReset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(10);
+    histogram.record(20);
+    assertThat(histogram.snapshotAndReset().count()).isEqualTo(2);
+    assertThat(histogram.snapshot().count()).isEqualTo(0);
+    histogram.record(30);
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.count()).isEqualTo(1);
+    assertThat(snapshot.totalNanos()).isEqualTo(30);
+  }
+
+  @Test
+  public void concurrentRecording_countsEveryValue() throws Exception {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    final int threadCount = 8;
+    final int valuesPerThread = 100_000;
+    final CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                } catch (InterruptedException e) {
+                  throw new AssertionError(e);
+                }
+                for (int j = 0; j < valuesPerThread; j++) {
+                  histogram.record(j % 100);
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    long snapshotted = 0;
+    for (Thread thread : threads) {
+      snapshotted += histogram.snapshotAndReset().count();
+      thread.join();
+    }
+    snapshotted += histogram.snapshotAndReset().count();
+    assertThat(snapshotted).isEqualTo((long) threadCount * valuesPerThread);
+  }
+
+  private static void assertWithin(long actual, long expected) {
+    assertThat(actual).isAtLeast(expected);
+    assertThat((double) actual).isAtMost(expected * 1.125);
+  }
+}
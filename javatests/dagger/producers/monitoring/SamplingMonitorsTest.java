@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Range;
+import com.google.common.testing.FakeTicker;
+import dagger.producers.monitoring.SamplingMonitors.RateSamplingFactory;
+import dagger.producers.monitoring.SamplingMonitors.TailLatencySamplingFactory;
+import dagger.producers.monitoring.internal.Monitors;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class SamplingMonitorsTest {
+  private static final ProducerToken TOKEN_A = ProducerToken.create("a");
+  private static final ProducerToken TOKEN_B = ProducerToken.create("b");
+
+  private final ProductionComponentMonitor sampledMonitor =
+      new ProductionComponentMonitor() {
+        @Override
+        public ProducerMonitor producerMonitorFor(ProducerToken token) {
+          return new ProducerMonitor() {};
+        }
+      };
+
+  private final ProductionComponentMonitor.Factory delegate =
+      new ProductionComponentMonitor.Factory() {
+        @Override
+        public ProductionComponentMonitor create(Object component) {
+          return sampledMonitor;
+        }
+      };
+
+  @Test
+  public void rateSampling_samplesFractionOfComponents() {
+    ProductionComponentMonitor.Factory factory =
+        new RateSamplingFactory(delegate, 0.25, new Random(0));
+    int sampled = 0;
+    for (int i = 0; i < 10_000; i++) {
+      ProductionComponentMonitor monitor = factory.create(new Object());
+      if (monitor == sampledMonitor) {
+        sampled++;
+      } else {
+        assertThat(monitor).isSameInstanceAs(ProductionComponentMonitor.noOp());
+      }
+    }
+    assertThat(sampled).isIn(Range.closed(2_300, 2_700));
+  }
+
+  @Test
+  public void rateSampling_zeroAndOne() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(SamplingMonitors.rateSampling(delegate, 0).create(new Object()))
+          .isSameInstanceAs(ProductionComponentMonitor.noOp());
+      assertThat(SamplingMonitors.rateSampling(delegate, 1).create(new Object()))
+          .isSameInstanceAs(sampledMonitor);
+    }
+  }
+
+  @Test
+  public void rateSampling_invalidRate() {
+    assertThrows(
+        IllegalArgumentException.class, () -> SamplingMonitors.rateSampling(delegate, 1.5));
+    assertThrows(
+        IllegalArgumentException.class, () -> SamplingMonitors.rateSampling(delegate, -0.1));
+  }
+
+  @Test
+  public void tailLatencySampling_samplesAfterSlowComponent() {
+    FakeTicker ticker = new FakeTicker();
+    ProductionComponentMonitor.Factory factory =
+        new TailLatencySamplingFactory(delegate, MILLISECONDS.toNanos(100), 2, ticker);
+
+    // A fast component doesn't trigger sampling.
+    ProductionComponentMonitor fast = factory.create(new Object());
+    assertThat(fast).isNotSameInstanceAs(sampledMonitor);
+    ProducerMonitor fastA = fast.producerMonitorFor(TOKEN_A);
+    // All producers of an unsampled component share a producer monitor.
+    assertThat(fast.producerMonitorFor(TOKEN_B)).isSameInstanceAs(fastA);
+    fastA.requested();
+    ticker.advance(100, MILLISECONDS);
+    fastA.succeeded(new Object());
+    assertThat(factory.create(new Object())).isNotSameInstanceAs(sampledMonitor);
+
+    // A slow component triggers sampling for the next two components.
+    ProductionComponentMonitor slow = factory.create(new Object());
+    ProducerMonitor slowA = slow.producerMonitorFor(TOKEN_A);
+    ProducerMonitor slowB = slow.producerMonitorFor(TOKEN_B);
+    slowA.requested();
+    slowB.requested();
+    ticker.advance(50, MILLISECONDS);
+    slowB.succeeded(new Object());
+    ticker.advance(51, MILLISECONDS);
+    slowA.failed(new RuntimeException());
+
+    assertThat(factory.create(new Object())).isSameInstanceAs(sampledMonitor);
+    assertThat(factory.create(new Object())).isSameInstanceAs(sampledMonitor);
+    assertThat(factory.create(new Object())).isNotSameInstanceAs(sampledMonitor);
+  }
+
+  @Test
+  public void tailLatencySampling_unsampledComponentIsNotWrappedPerProducer() {
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(
+                new TailLatencySamplingFactory(
+                    delegate, MILLISECONDS.toNanos(100), 1, new FakeTicker())));
+
+    ProductionComponentMonitor monitor = factory.create(new Object());
+    ProducerMonitor producerMonitorA = monitor.producerMonitorFor(TOKEN_A);
+    assertThat(producerMonitorA).isNotSameInstanceAs(ProducerMonitor.noOp());
+    assertThat(monitor.producerMonitorFor(TOKEN_B)).isSameInstanceAs(producerMonitorA);
+  }
+
+  @Test
+  public void tailLatencySampling_notRequested() {
+    FakeTicker ticker = new FakeTicker();
+    ProductionComponentMonitor.Factory factory =
+        new TailLatencySamplingFactory(delegate, 0, 1, ticker);
+
+    ProductionComponentMonitor monitor = factory.create(new Object());
+    ticker.advance(1, MILLISECONDS);
+    monitor.producerMonitorFor(TOKEN_A).succeeded(new Object());
+
+    assertThat(factory.create(new Object())).isNotSameInstanceAs(sampledMonitor);
+  }
+}
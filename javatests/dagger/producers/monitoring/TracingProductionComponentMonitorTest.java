@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.FakeTicker;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class TracingProductionComponentMonitorTest {
+  private static final ProducerToken TOKEN_A = ProducerToken.create("a");
+  private static final ProducerToken TOKEN_B = ProducerToken.create("b");
+  private static final ProducerToken TOKEN_C = ProducerToken.create("c");
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final List<ProductionTrace> traces = new ArrayList<>();
+  private FakeTicker ticker;
+  private ProductionComponentMonitor monitor;
+
+  @Before
+  public void setUp() {
+    ticker = new FakeTicker();
+    monitor =
+        new TracingProductionComponentMonitor.Factory(
+                new ProductionTrace.Listener() {
+                  @Override
+                  public void traceCompleted(ProductionTrace trace) {
+                    traces.add(trace);
+                  }
+                },
+                ticker)
+            .create(new Object());
+  }
+
+  @Test
+  public void recordsSpansAndDependencies() {
+    ProducerMonitor a = monitor.producerMonitorFor(TOKEN_A);
+    ProducerMonitor b = monitor.producerMonitorFor(TOKEN_B);
+    ProducerMonitor c = monitor.producerMonitorFor(TOKEN_C);
+
+    // A depends on B and C, which are both ready immediately.
+    ticker.advance(1000);
+    a.requested();
+    b.requested();
+    b.dependenciesRequested();
+    c.requested();
+    c.dependenciesRequested();
+    a.dependenciesRequested();
+    b.ready();
+    b.methodStarting();
+    c.ready();
+    c.methodStarting();
+    ticker.advance(2000);
+    b.methodFinished();
+    b.succeeded(new Object());
+    ticker.advance(3000);
+    c.methodFinished();
+    c.succeeded(new Object());
+    assertThat(traces).isEmpty();
+    a.ready();
+    a.methodStarting();
+    ticker.advance(500);
+    a.methodFinished();
+    a.succeeded(new Object());
+
+    assertThat(traces).hasSize(1);
+    ProductionTrace trace = traces.get(0);
+    assertThat(tokens(trace.spans())).containsExactly(TOKEN_A, TOKEN_B, TOKEN_C).inOrder();
+    assertThat(trace.entryPoint().dependencies()).containsExactly(TOKEN_B, TOKEN_C).inOrder();
+    assertThat(trace.entryPoint().requestedNanos()).isEqualTo(1000);
+    assertThat(trace.entryPoint().readyNanos()).isEqualTo(6000);
+    assertThat(trace.entryPoint().methodStartingNanos()).isEqualTo(6000);
+    assertThat(trace.entryPoint().methodFinishedNanos()).isEqualTo(6500);
+    assertThat(trace.entryPoint().completedNanos()).isEqualTo(6500);
+    assertThat(trace.entryPoint().failed()).isFalse();
+    assertThat(trace.latencyNanos()).isEqualTo(5500);
+  }
+
+  @Test
+  public void criticalPath_followsLastCompletedDependency() {
+    ProducerMonitor a = monitor.producerMonitorFor(TOKEN_A);
+    ProducerMonitor b = monitor.producerMonitorFor(TOKEN_B);
+    ProducerMonitor c = monitor.producerMonitorFor(TOKEN_C);
+
+    // A depends on B and C, and B depends on C; C is slow, so it determines when A completes.
+    a.requested();
+    b.requested();
+    c.requested();
+    c.dependenciesRequested();
+    b.dependenciesRequested();
+    a.dependenciesRequested();
+    ticker.advance(100);
+    c.succeeded(new Object());
+    ticker.advance(10);
+    b.succeeded(new Object());
+    ticker.advance(1);
+    a.succeeded(new Object());
+
+    assertThat(traces).hasSize(1);
+    ProductionTrace trace = traces.get(0);
+    // C is only recorded as a dependency of B, since it had already been requested.
+    assertThat(trace.entryPoint().dependencies()).containsExactly(TOKEN_B);
+    assertThat(tokens(trace.criticalPath())).containsExactly(TOKEN_C, TOKEN_B, TOKEN_A).inOrder();
+  }
+
+  @Test
+  public void failedEntryPoint_reportsTrace() {
+    ProducerMonitor a = monitor.producerMonitorFor(TOKEN_A);
+    ProducerMonitor b = monitor.producerMonitorFor(TOKEN_B);
+
+    a.requested();
+    b.requested();
+    b.dependenciesRequested();
+    a.dependenciesRequested();
+    ticker.advance(50);
+    b.failed(new RuntimeException("boom"));
+    a.failed(new RuntimeException("boom"));
+
+    assertThat(traces).hasSize(1);
+    ProductionTrace trace = traces.get(0);
+    assertThat(trace.entryPoint().failed()).isTrue();
+    assertThat(trace.entryPoint().methodStartingNanos()).isEqualTo(-1);
+    assertThat(tokens(trace.criticalPath())).containsExactly(TOKEN_B, TOKEN_A).inOrder();
+  }
+
+  @Test
+  public void separateEntryPoints_reportSeparateTraces() {
+    ProducerMonitor a = monitor.producerMonitorFor(TOKEN_A);
+    ProducerMonitor b = monitor.producerMonitorFor(TOKEN_B);
+
+    a.requested();
+    a.dependenciesRequested();
+    b.requested();
+    b.dependenciesRequested();
+    b.succeeded(new Object());
+    a.succeeded(new Object());
+
+    assertThat(traces).hasSize(2);
+    assertThat(tokens(traces.get(0).spans())).containsExactly(TOKEN_B);
+    assertThat(tokens(traces.get(1).spans())).containsExactly(TOKEN_A);
+  }
+
+  @Test
+  public void toChromeTraceJson() {
+    ProducerMonitor a = monitor.producerMonitorFor(TOKEN_A);
+    ProducerMonitor b = monitor.producerMonitorFor(ProducerToken.create("b\"quoted\""));
+
+    a.requested();
+    b.requested();
+    b.dependenciesRequested();
+    a.dependenciesRequested();
+    b.ready();
+    b.methodStarting();
+    ticker.advance(1500);
+    b.methodFinished();
+    b.succeeded(new Object());
+    a.ready();
+    a.methodStarting();
+    ticker.advance(2);
+    a.methodFinished();
+    a.succeeded(new Object());
+
+    assertThat(traces.get(0).toChromeTraceJson())
+        .isEqualTo(
+            "{\"displayTimeUnit\":\"ms\",\"traceEvents\":["
+                + "{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":1,\"tid\":0,"
+                + "\"args\":{\"name\":\"a\"}},"
+                + "{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":1,"
+                + "\"args\":{\"name\":\"a\"}},"
+                + "{\"name\":\"a\",\"cat\":\"producer,critical_path\",\"ph\":\"X\",\"pid\":1,"
+                + "\"tid\":1,\"ts\":0.000,\"dur\":1.502,\"args\":{\"status\":\"succeeded\"}},"
+                + "{\"name\":\"inputs\",\"cat\":\"producer,critical_path\",\"ph\":\"X\",\"pid\":1,"
+                + "\"tid\":1,\"ts\":0.000,\"dur\":1.500},"
+                + "{\"name\":\"method\",\"cat\":\"producer,critical_path\",\"ph\":\"X\",\"pid\":1,"
+                + "\"tid\":1,\"ts\":1.500,\"dur\":0.002},"
+                + "{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":2,"
+                + "\"args\":{\"name\":\"b\\\"quoted\\\"\"}},"
+                + "{\"name\":\"b\\\"quoted\\\"\",\"cat\":\"producer,critical_path\",\"ph\":\"X\","
+                + "\"pid\":1,\"tid\":2,\"ts\":0.000,\"dur\":1.500,"
+                + "\"args\":{\"status\":\"succeeded\"}},"
+                + "{\"name\":\"inputs\",\"cat\":\"producer,critical_path\",\"ph\":\"X\",\"pid\":1,"
+                + "\"tid\":2,\"ts\":0.000,\"dur\":0.000},"
+                + "{\"name\":\"method\",\"cat\":\"producer,critical_path\",\"ph\":\"X\",\"pid\":1,"
+                + "\"tid\":2,\"ts\":0.000,\"dur\":1.500}"
+                + "]}");
+  }
+
+  @Test
+  public void chromeTraceWriter_onlyWritesSlowTraces() throws Exception {
+    Path directory = temporaryFolder.getRoot().toPath();
+    ProductionTrace.Listener writer =
+        ProductionTrace.chromeTraceWriter(directory, 1, TimeUnit.MILLISECONDS);
+
+    ProducerMonitor a = monitor.producerMonitorFor(TOKEN_A);
+    a.requested();
+    a.dependenciesRequested();
+    ticker.advance(999_999);
+    a.succeeded(new Object());
+    writer.traceCompleted(traces.get(0));
+    assertThat(directory.toFile().list()).isEmpty();
+
+    ProducerMonitor b = monitor.producerMonitorFor(TOKEN_B);
+    b.requested();
+    b.dependenciesRequested();
+    ticker.advance(1_000_000);
+    b.succeeded(new Object());
+    writer.traceCompleted(traces.get(1));
+    Path[] files;
+    try (Stream<Path> list = Files.list(directory)) {
+      files = list.toArray(Path[]::new);
+    }
+    assertThat(files).hasLength(1);
+    assertThat(new String(Files.readAllBytes(files[0]), UTF_8))
+        .isEqualTo(traces.get(1).toChromeTraceJson());
+  }
+
+  private static ImmutableList<ProducerToken> tokens(List<ProductionTrace.Span> spans) {
+    ImmutableList.Builder<ProducerToken> tokens = ImmutableList.builder();
+    for (ProductionTrace.Span span : spans) {
+      tokens.add(span.token());
+    }
+    return tokens.build();
+  }
+}
@@ -98,6 +98,30 @@ public final class MonitorsTest {
         .isSameInstanceAs(ProducerMonitor.noOp());
   }
 
+  @Test
+  public void singleMonitor_noOpProductionComponentMonitor() {
+    when(mockProductionComponentMonitorFactory.create(any(Object.class)))
+        .thenReturn(ProductionComponentMonitor.noOp());
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(mockProductionComponentMonitorFactory));
+    assertThat(factory.create(new Object())).isSameInstanceAs(ProductionComponentMonitor.noOp());
+  }
+
+  @Test
+  public void singleMonitor_noOpProducerMonitor() {
+    when(mockProductionComponentMonitorFactory.create(any(Object.class)))
+        .thenReturn(mockProductionComponentMonitor);
+    when(mockProductionComponentMonitor.producerMonitorFor(nullable(ProducerToken.class)))
+        .thenReturn(ProducerMonitor.noOp());
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(mockProductionComponentMonitorFactory));
+    ProductionComponentMonitor monitor = factory.create(new Object());
+    assertThat(monitor.producerMonitorFor(ProducerToken.create(Object.class)))
+        .isSameInstanceAs(ProducerMonitor.noOp());
+  }
+
   @Test
   public void singleMonitor_throwingProductionComponentMonitor() {
     when(mockProductionComponentMonitorFactory.create(any(Object.class)))
@@ -239,6 +263,22 @@ public final class MonitorsTest {
     assertThat(factory.create(new Object())).isSameInstanceAs(ProductionComponentMonitor.noOp());
   }
 
+  @Test
+  public void multipleMonitors_noOpProductionComponentMonitors() {
+    when(mockProductionComponentMonitorFactoryA.create(any(Object.class)))
+        .thenReturn(ProductionComponentMonitor.noOp());
+    when(mockProductionComponentMonitorFactoryB.create(any(Object.class)))
+        .thenReturn(ProductionComponentMonitor.noOp());
+    when(mockProductionComponentMonitorFactoryC.create(any(Object.class))).thenReturn(null);
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(
+                mockProductionComponentMonitorFactoryA,
+                mockProductionComponentMonitorFactoryB,
+                mockProductionComponentMonitorFactoryC));
+    assertThat(factory.create(new Object())).isSameInstanceAs(ProductionComponentMonitor.noOp());
+  }
+
   @Test
   public void multipleMonitors_throwingProductionComponentMonitorFactories() {
     doThrow(new RuntimeException("monkey"))
@@ -370,6 +410,56 @@ public final class MonitorsTest {
     verifyNoMoreInteractions(mockProducerMonitorA, mockProducerMonitorB, mockProducerMonitorC);
   }
 
+  @Test
+  public void multipleMonitors_cacheCallbacks() {
+    setUpNormalMultipleMonitors();
+    doThrow(new RuntimeException("monkey")).when(mockProducerMonitorB).cacheMissed();
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(
+                mockProductionComponentMonitorFactoryA,
+                mockProductionComponentMonitorFactoryB,
+                mockProductionComponentMonitorFactoryC));
+    ProductionComponentMonitor monitor = factory.create(new Object());
+    ProducerMonitor producerMonitor =
+        monitor.producerMonitorFor(ProducerToken.create(Object.class));
+
+    producerMonitor.cacheMissed();
+    producerMonitor.cacheHit();
+
+    InOrder order = inOrder(mockProducerMonitorA, mockProducerMonitorB, mockProducerMonitorC);
+    order.verify(mockProducerMonitorA).cacheMissed();
+    order.verify(mockProducerMonitorB).cacheMissed();
+    order.verify(mockProducerMonitorC).cacheMissed();
+    order.verify(mockProducerMonitorA).cacheHit();
+    order.verify(mockProducerMonitorB).cacheHit();
+    order.verify(mockProducerMonitorC).cacheHit();
+    verifyNoMoreInteractions(mockProducerMonitorA, mockProducerMonitorB, mockProducerMonitorC);
+  }
+
+  @Test
+  public void multipleMonitors_requestedAgain() {
+    setUpNormalMultipleMonitors();
+    doThrow(new RuntimeException("monkey")).when(mockProducerMonitorA).requestedAgain();
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(
+                mockProductionComponentMonitorFactoryA,
+                mockProductionComponentMonitorFactoryB,
+                mockProductionComponentMonitorFactoryC));
+    ProductionComponentMonitor monitor = factory.create(new Object());
+    ProducerMonitor producerMonitor =
+        monitor.producerMonitorFor(ProducerToken.create(Object.class));
+
+    producerMonitor.requestedAgain();
+
+    InOrder order = inOrder(mockProducerMonitorA, mockProducerMonitorB, mockProducerMonitorC);
+    order.verify(mockProducerMonitorA).requestedAgain();
+    order.verify(mockProducerMonitorB).requestedAgain();
+    order.verify(mockProducerMonitorC).requestedAgain();
+    verifyNoMoreInteractions(mockProducerMonitorA, mockProducerMonitorB, mockProducerMonitorC);
+  }
+
   @Test
   public void multipleMonitors_normalProductionComponentMonitorFailure() {
     setUpNormalMultipleMonitors();